@@ -0,0 +1,48 @@
+package com.solace.spring.boot.autoconfigure;
+
+import com.solacesystems.jcsmp.SolaceAckCoalescer;
+import com.solacesystems.jcsmp.SolaceAckCoalescerMetrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for coalescing the client acknowledgements of listener methods. This
+ * configuration is only active when the 'solace.java.ackCoalescing.enabled' property is set to
+ * 'true'.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "solace.java.ack-coalescing", name = "enabled",
+    havingValue = "true")
+public final class SolaceAckCoalescerConfiguration {
+
+  /**
+   * Creates the coalescer queuing acknowledgements of listener methods. Pending acknowledgements
+   * are applied when the application context is closed.
+   *
+   * @param solaceJavaProperties The Solace Java properties holding the coalescing settings.
+   * @return Configured SolaceAckCoalescer.
+   */
+  @Bean(destroyMethod = "close")
+  @ConditionalOnMissingBean
+  SolaceAckCoalescer solaceAckCoalescer(SolaceJavaProperties solaceJavaProperties) {
+    final SolaceJavaProperties.AckCoalescing settings = solaceJavaProperties.getAckCoalescing();
+    return new SolaceAckCoalescer(settings.getMaxPending(), settings.getMaxDelayInMillis());
+  }
+
+  /**
+   * Publishes the pending acknowledgements when Micrometer is on the classpath.
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(MeterBinder.class)
+  static class SolaceAckCoalescerMetricsConfiguration {
+
+    @Bean
+    SolaceAckCoalescerMetrics solaceAckCoalescerMetrics(SolaceAckCoalescer solaceAckCoalescer) {
+      return new SolaceAckCoalescerMetrics(solaceAckCoalescer);
+    }
+  }
+}
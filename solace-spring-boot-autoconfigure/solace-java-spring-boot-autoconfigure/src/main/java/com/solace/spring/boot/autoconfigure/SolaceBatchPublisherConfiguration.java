@@ -0,0 +1,37 @@
+package com.solace.spring.boot.autoconfigure;
+
+import com.solacesystems.jcsmp.JCSMPStreamingPublishCorrelatingEventHandler;
+import com.solacesystems.jcsmp.SolaceBatchPublisher;
+import com.solacesystems.jcsmp.SpringJCSMPFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.Nullable;
+
+/**
+ * Configuration class for the Solace batch publisher. This configuration is only active when the
+ * 'solace.java.batchPublisher.enabled' property is set to 'true'.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "solace.java.batch-publisher", name = "enabled",
+    havingValue = "true")
+public final class SolaceBatchPublisherConfiguration {
+
+  /**
+   * Creates the publisher sending messages in batches.
+   *
+   * @param springJCSMPFactory   The factory used to create the session of the publisher.
+   * @param solaceJavaProperties The Solace Java properties holding the batching settings.
+   * @param publishEventHandler  The publish event handler of the publisher's producer, if any.
+   * @return Configured SolaceBatchPublisher.
+   */
+  @Bean(destroyMethod = "close")
+  @ConditionalOnMissingBean
+  SolaceBatchPublisher solaceBatchPublisher(SpringJCSMPFactory springJCSMPFactory,
+      SolaceJavaProperties solaceJavaProperties,
+      @Nullable JCSMPStreamingPublishCorrelatingEventHandler publishEventHandler) {
+    return new SolaceBatchPublisher(springJCSMPFactory, solaceJavaProperties.getBatchPublisher(),
+        publishEventHandler);
+  }
+}
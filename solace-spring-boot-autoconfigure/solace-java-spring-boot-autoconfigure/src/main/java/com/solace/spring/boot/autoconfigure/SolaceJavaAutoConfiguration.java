@@ -20,8 +20,12 @@ package com.solace.spring.boot.autoconfigure;
 
 import com.solacesystems.jcsmp.JCSMPChannelProperties;
 import com.solacesystems.jcsmp.JCSMPProperties;
+import com.solacesystems.jcsmp.ShardedSolaceContextSelector;
+import com.solacesystems.jcsmp.SolaceContextSelector;
+import com.solacesystems.jcsmp.SolaceReconnectPolicy;
 import com.solacesystems.jcsmp.SolaceSessionOAuth2TokenProvider;
 import com.solacesystems.jcsmp.SpringJCSMPFactory;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
@@ -31,6 +35,7 @@ import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
@@ -41,7 +46,13 @@ import org.springframework.lang.Nullable;
 @ConditionalOnClass({JCSMPProperties.class})
 @ConditionalOnMissingBean(SpringJCSMPFactory.class)
 @EnableConfigurationProperties(SolaceJavaProperties.class)
-@Import(SolaceOAuthClientConfiguration.class)
+@Import({SolaceOAuthClientConfiguration.class, SolaceSessionPoolConfiguration.class,
+    SolacePublishCorrelatorConfiguration.class, SolaceSessionWarmupConfiguration.class,
+    SolaceTemplateConfiguration.class, SolaceBatchPublisherConfiguration.class,
+    SolaceReactiveConfiguration.class, SolaceListenerConfiguration.class,
+    SolaceAckCoalescerConfiguration.class, SolaceRequestorConfiguration.class,
+    SolaceSubscriptionConfiguration.class, SolaceReconnectConfiguration.class,
+    SolaceSessionStatsConfiguration.class})
 public final class SolaceJavaAutoConfiguration {
 
   private SolaceJavaProperties properties;
@@ -58,8 +69,30 @@ public final class SolaceJavaAutoConfiguration {
    */
   @Bean
   SpringJCSMPFactory getSpringJCSMPFactory(JCSMPProperties jcsmpProperties,
-      @Nullable SolaceSessionOAuth2TokenProvider solaceSessionOAuth2TokenProvider) {
-    return new SpringJCSMPFactory(jcsmpProperties, solaceSessionOAuth2TokenProvider);
+      @Nullable SolaceSessionOAuth2TokenProvider solaceSessionOAuth2TokenProvider,
+      @Nullable SolaceContextSelector solaceContextSelector,
+      @Nullable SolaceReconnectPolicy solaceReconnectPolicy) {
+    final SpringJCSMPFactory springJCSMPFactory =
+        new SpringJCSMPFactory(jcsmpProperties, solaceSessionOAuth2TokenProvider);
+    springJCSMPFactory.setContextSelector(solaceContextSelector);
+    springJCSMPFactory.setSessionProfiles(getSessionProfiles());
+    springJCSMPFactory.setReconnectPolicy(solaceReconnectPolicy);
+    return springJCSMPFactory;
+  }
+
+  /**
+   * Returns a {@link ShardedSolaceContextSelector} spreading sessions over
+   * <code>solace.java.contexts.count</code> contexts. Only created when
+   * <code>solace.java.contexts.enabled=true</code>.
+   *
+   * @return {@link ShardedSolaceContextSelector} based on {@link SolaceJavaProperties}.
+   */
+  @Bean(destroyMethod = "close")
+  @ConditionalOnMissingBean(SolaceContextSelector.class)
+  @ConditionalOnProperty(prefix = "solace.java.contexts", name = "enabled", havingValue = "true")
+  ShardedSolaceContextSelector getShardedSolaceContextSelector() {
+    return new ShardedSolaceContextSelector(properties.getContexts().getCount(),
+        properties.getContexts().getStrategy());
   }
 
   /**
@@ -69,19 +102,50 @@ public final class SolaceJavaAutoConfiguration {
    */
   @Bean
   JCSMPProperties getJCSMPProperties() {
+    return createJCSMPProperties(properties.getApiProperties(), properties.getClientName());
+  }
+
+  /**
+   * Returns the {@link JCSMPProperties} of each <code>solace.java.sessions.&lt;name&gt;</code>
+   * session profile. A profile's API properties take precedence over
+   * <code>solace.java.apiProperties</code>.
+   *
+   * @return {@link JCSMPProperties} by session profile name.
+   */
+  Map<String, JCSMPProperties> getSessionProfiles() {
+    final Map<String, JCSMPProperties> sessionProfiles = new HashMap<>();
+    for (Map.Entry<String, SolaceJavaProperties.SessionProfile> profile :
+        properties.getSessions().entrySet()) {
+      final Map<String, String> apiProperties = new HashMap<>(properties.getApiProperties());
+      for (Map.Entry<String, String> entry : profile.getValue().getApiProperties().entrySet()) {
+        apiProperties.keySet().removeIf(key -> key.equalsIgnoreCase(entry.getKey()));
+        apiProperties.put(entry.getKey(), entry.getValue());
+      }
+      final String clientName = profile.getValue().getClientName() != null
+          ? profile.getValue().getClientName() : properties.getClientName();
+      sessionProfiles.put(profile.getKey(), createJCSMPProperties(apiProperties, clientName));
+    }
+    return sessionProfiles;
+  }
+
+  private JCSMPProperties createJCSMPProperties(Map<String, String> apiProperties,
+      String clientName) {
     Properties p = new Properties();
-    Set<Entry<String, String>> set = properties.getApiProperties().entrySet();
+    Set<Entry<String, String>> set = apiProperties.entrySet();
     for (Map.Entry<String, String> entry : set) {
       p.put("jcsmp." + entry.getKey(), entry.getValue());
     }
 
     JCSMPProperties jcsmpProps = createFromApiProperties(p);
+    if (properties.getPerformanceProfile() != null) {
+      properties.getPerformanceProfile().applyTo(jcsmpProps, apiProperties);
+    }
     jcsmpProps.setProperty(JCSMPProperties.HOST, properties.getHost());
     jcsmpProps.setProperty(JCSMPProperties.VPN_NAME, properties.getMsgVpn());
     jcsmpProps.setProperty(JCSMPProperties.USERNAME, properties.getClientUsername());
     jcsmpProps.setProperty(JCSMPProperties.PASSWORD, properties.getClientPassword());
-    if ((properties.getClientName() != null) && (!properties.getClientName().isEmpty())) {
-      jcsmpProps.setProperty(JCSMPProperties.CLIENT_NAME, properties.getClientName());
+    if ((clientName != null) && (!clientName.isEmpty())) {
+      jcsmpProps.setProperty(JCSMPProperties.CLIENT_NAME, clientName);
     }
 
     // Channel Properties
@@ -91,6 +155,16 @@ public final class SolaceJavaAutoConfiguration {
     cp.setReconnectRetries(properties.getReconnectRetries());
     cp.setConnectRetriesPerHost(properties.getConnectRetriesPerHost());
     cp.setReconnectRetryWaitInMillis(properties.getReconnectRetryWaitInMillis());
+    applyChannelSettings(cp, properties.getChannel());
+
+    final SolaceJavaProperties.AckCoalescing ackCoalescing = properties.getAckCoalescing();
+    if (ackCoalescing.getSubAckTimeInMillis() != null) {
+      jcsmpProps.setProperty(JCSMPProperties.SUB_ACK_TIME, ackCoalescing.getSubAckTimeInMillis());
+    }
+    if (ackCoalescing.getSubAckWindowThreshold() != null) {
+      jcsmpProps.setProperty(JCSMPProperties.SUB_ACK_WINDOW_THRESHOLD,
+          ackCoalescing.getSubAckWindowThreshold());
+    }
 
     if (properties.getOauth2ClientRegistrationId() != null) {
       jcsmpProps.setProperty(SolaceJavaProperties.SPRING_OAUTH2_CLIENT_REGISTRATION_ID,
@@ -100,6 +174,31 @@ public final class SolaceJavaAutoConfiguration {
     return jcsmpProps;
   }
 
+  private void applyChannelSettings(JCSMPChannelProperties cp,
+      SolaceJavaProperties.Channel channel) {
+    if (channel.getSendBuffer() != null) {
+      cp.setSendBuffer(channel.getSendBuffer());
+    }
+    if (channel.getReceiveBuffer() != null) {
+      cp.setReceiveBuffer(channel.getReceiveBuffer());
+    }
+    if (channel.getTcpNoDelay() != null) {
+      cp.setTcpNoDelay(channel.getTcpNoDelay());
+    }
+    if (channel.getKeepAliveIntervalInMillis() != null) {
+      cp.setKeepAliveIntervalInMillis(channel.getKeepAliveIntervalInMillis());
+    }
+    if (channel.getCompressionLevel() != null) {
+      cp.setCompressionLevel(channel.getCompressionLevel());
+    }
+    if (channel.getConnectTimeoutInMillis() != null) {
+      cp.setConnectTimeoutInMillis(channel.getConnectTimeoutInMillis());
+    }
+    if (channel.getReadTimeoutInMillis() != null) {
+      cp.setReadTimeoutInMillis(channel.getReadTimeoutInMillis());
+    }
+  }
+
   private JCSMPProperties createFromApiProperties(Properties apiProps) {
     return apiProps != null ? JCSMPProperties.fromProperties(apiProps) : new JCSMPProperties();
   }
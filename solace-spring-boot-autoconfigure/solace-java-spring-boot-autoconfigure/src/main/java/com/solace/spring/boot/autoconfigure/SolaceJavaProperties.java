@@ -19,9 +19,12 @@
 
 package com.solace.spring.boot.autoconfigure;
 
+import com.solacesystems.jcsmp.ShardedSolaceContextSelector;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -124,6 +127,82 @@ public class SolaceJavaProperties {
      */
     private String oauth2ClientRegistrationId;
 
+    /**
+     * A predefined set of channel and session settings tuned for low-latency, high-throughput or
+     * balanced messaging. Settings explicitly configured through apiProperties take precedence.
+     *
+     * Example: solace.java.performanceProfile=low-latency
+     */
+    private SolacePerformanceProfile performanceProfile;
+
+    /**
+     * Typed settings of the JCSMP client channel. Settings which are not set keep the value from
+     * the performance profile, apiProperties, or the API default.
+     */
+    private final Channel channel = new Channel();
+
+    /**
+     * Settings of the auto-configured {@code SolaceSessionPool}.
+     */
+    private final SessionPool pool = new SessionPool();
+
+    /**
+     * Settings of the auto-configured {@code SolaceBatchPublisher}.
+     */
+    private final BatchPublisher batchPublisher = new BatchPublisher();
+
+    /**
+     * Settings of the auto-configured {@code SolacePublishCorrelator}.
+     */
+    private final PublishCorrelator publishCorrelator = new PublishCorrelator();
+
+    /**
+     * Settings of {@code @SolaceListener} methods.
+     */
+    private final Listener listener = new Listener();
+
+    /**
+     * Settings for coalescing client acknowledgements of {@code @SolaceListener} methods.
+     */
+    private final AckCoalescing ackCoalescing = new AckCoalescing();
+
+    /**
+     * Settings for asynchronous request/reply with the {@code SolaceRequestor}.
+     */
+    private final Requestor requestor = new Requestor();
+
+    /**
+     * Topic subscriptions registered in bulk at startup.
+     */
+    private final Subscriptions subscriptions = new Subscriptions();
+
+    /**
+     * Settings for backing off connect and reconnect attempts with jitter.
+     */
+    private final ReconnectPolicy reconnectPolicy = new ReconnectPolicy();
+
+    /**
+     * Settings for publishing the statistics of sessions through Micrometer.
+     */
+    private final SessionStats sessionStats = new SessionStats();
+
+    /**
+     * Settings for spreading sessions over multiple JCSMP contexts.
+     */
+    private final Contexts contexts = new Contexts();
+
+    /**
+     * Settings for connecting sessions while the application starts.
+     */
+    private final Warmup warmup = new Warmup();
+
+    /**
+     * Named session profiles, created with {@code SpringJCSMPFactory.createProfileSession(name)}.
+     *
+     * Example: solace.java.sessions.bulk-publisher.apiProperties.pub_ack_window_size=255
+     */
+    private final Map<String, SessionProfile> sessions = new ConcurrentHashMap<>();
+
     /**
      * Gets the Spring Security OAuth2 Client Registration Id.
      * @return the OAuth2 client registration ID, or {@code null} if not configured
@@ -292,4 +371,1375 @@ public class SolaceJavaProperties {
         return apiProperties;
     }
 
+    /**
+     * Gets the predefined set of channel and session settings to apply.
+     * @return the performance profile, or {@code null} to use the API defaults
+     */
+    public SolacePerformanceProfile getPerformanceProfile() {
+        return performanceProfile;
+    }
+
+    /**
+     * Sets the predefined set of channel and session settings to apply.
+     * @param performanceProfile the performance profile to use
+     */
+    public void setPerformanceProfile(SolacePerformanceProfile performanceProfile) {
+        this.performanceProfile = performanceProfile;
+    }
+
+    /**
+     * Gets the typed settings of the JCSMP client channel.
+     * @return the channel settings
+     */
+    public Channel getChannel() {
+        return channel;
+    }
+
+    /**
+     * Gets the settings of the auto-configured session pool.
+     * @return the session pool settings
+     */
+    public SessionPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Gets the settings of the auto-configured batch publisher.
+     * @return the batch publisher settings
+     */
+    public BatchPublisher getBatchPublisher() {
+        return batchPublisher;
+    }
+
+    /**
+     * Gets the settings of the auto-configured publish correlator.
+     * @return the publish correlator settings
+     */
+    public PublishCorrelator getPublishCorrelator() {
+        return publishCorrelator;
+    }
+
+    /**
+     * Gets the settings of {@code @SolaceListener} methods.
+     * @return the listener settings
+     */
+    public Listener getListener() {
+        return listener;
+    }
+
+    /**
+     * Gets the settings for coalescing client acknowledgements.
+     * @return the acknowledgement coalescing settings
+     */
+    public AckCoalescing getAckCoalescing() {
+        return ackCoalescing;
+    }
+
+    /**
+     * Gets the settings for asynchronous request/reply.
+     * @return the requestor settings
+     */
+    public Requestor getRequestor() {
+        return requestor;
+    }
+
+    /**
+     * Gets the topic subscriptions registered in bulk at startup.
+     * @return the subscription settings
+     */
+    public Subscriptions getSubscriptions() {
+        return subscriptions;
+    }
+
+    /**
+     * Gets the settings for backing off connect and reconnect attempts.
+     * @return the reconnect policy settings
+     */
+    public ReconnectPolicy getReconnectPolicy() {
+        return reconnectPolicy;
+    }
+
+    /**
+     * Gets the settings for publishing the statistics of sessions.
+     * @return the session statistics settings
+     */
+    public SessionStats getSessionStats() {
+        return sessionStats;
+    }
+
+    /**
+     * Gets the settings for spreading sessions over multiple JCSMP contexts.
+     * @return the context settings
+     */
+    public Contexts getContexts() {
+        return contexts;
+    }
+
+    /**
+     * Gets the settings for connecting sessions while the application starts.
+     * @return the warm-up settings
+     */
+    public Warmup getWarmup() {
+        return warmup;
+    }
+
+    /**
+     * Gets the named session profiles.
+     * @return the session profiles by name
+     */
+    public Map<String, SessionProfile> getSessions() {
+        return sessions;
+    }
+
+    /**
+     * Typed settings of the JCSMP client channel. Values are validated when they are bound.
+     */
+    public static class Channel {
+
+        /**
+         * The socket send buffer size in bytes. Zero leaves the size to the operating system.
+         */
+        private Integer sendBuffer;
+
+        /**
+         * The socket receive buffer size in bytes. Zero leaves the size to the operating system.
+         */
+        private Integer receiveBuffer;
+
+        /**
+         * Whether Nagle's algorithm is disabled on the socket.
+         */
+        private Boolean tcpNoDelay;
+
+        /**
+         * How often in (MS) a keep-alive is sent to the message router. Zero disables keep-alives.
+         */
+        private Integer keepAliveIntervalInMillis;
+
+        /**
+         * The ZLIB compression level from 0 (no compression) to 9 (best compression).
+         */
+        private Integer compressionLevel;
+
+        /**
+         * How long in (MS) to wait for a connection to the message router to be established.
+         */
+        private Integer connectTimeoutInMillis;
+
+        /**
+         * How long in (MS) to wait for a reply from the message router during session setup.
+         */
+        private Integer readTimeoutInMillis;
+
+        /**
+         * Gets the socket send buffer size in bytes.
+         * @return the send buffer size, or {@code null} if not set
+         */
+        public Integer getSendBuffer() {
+            return sendBuffer;
+        }
+
+        /**
+         * Sets the socket send buffer size in bytes.
+         * @param sendBuffer the send buffer size, must not be negative
+         */
+        public void setSendBuffer(Integer sendBuffer) {
+            this.sendBuffer = requireAtLeast("sendBuffer", sendBuffer, 0);
+        }
+
+        /**
+         * Gets the socket receive buffer size in bytes.
+         * @return the receive buffer size, or {@code null} if not set
+         */
+        public Integer getReceiveBuffer() {
+            return receiveBuffer;
+        }
+
+        /**
+         * Sets the socket receive buffer size in bytes.
+         * @param receiveBuffer the receive buffer size, must not be negative
+         */
+        public void setReceiveBuffer(Integer receiveBuffer) {
+            this.receiveBuffer = requireAtLeast("receiveBuffer", receiveBuffer, 0);
+        }
+
+        /**
+         * Gets whether Nagle's algorithm is disabled on the socket.
+         * @return {@code true} if TCP no-delay is enabled, or {@code null} if not set
+         */
+        public Boolean getTcpNoDelay() {
+            return tcpNoDelay;
+        }
+
+        /**
+         * Sets whether Nagle's algorithm is disabled on the socket.
+         * @param tcpNoDelay {@code true} to enable TCP no-delay
+         */
+        public void setTcpNoDelay(Boolean tcpNoDelay) {
+            this.tcpNoDelay = tcpNoDelay;
+        }
+
+        /**
+         * Gets the keep-alive interval in milliseconds.
+         * @return the keep-alive interval, or {@code null} if not set
+         */
+        public Integer getKeepAliveIntervalInMillis() {
+            return keepAliveIntervalInMillis;
+        }
+
+        /**
+         * Sets the keep-alive interval in milliseconds.
+         * @param keepAliveIntervalInMillis the keep-alive interval, must not be negative
+         */
+        public void setKeepAliveIntervalInMillis(Integer keepAliveIntervalInMillis) {
+            this.keepAliveIntervalInMillis =
+                requireAtLeast("keepAliveIntervalInMillis", keepAliveIntervalInMillis, 0);
+        }
+
+        /**
+         * Gets the ZLIB compression level.
+         * @return the compression level, or {@code null} if not set
+         */
+        public Integer getCompressionLevel() {
+            return compressionLevel;
+        }
+
+        /**
+         * Sets the ZLIB compression level.
+         * @param compressionLevel the compression level, from 0 to 9
+         */
+        public void setCompressionLevel(Integer compressionLevel) {
+            if (compressionLevel != null && compressionLevel > 9) {
+                throw new IllegalArgumentException(String.format(
+                    "solace.java.channel.compressionLevel must be between 0 and 9, but was %d",
+                    compressionLevel));
+            }
+            this.compressionLevel = requireAtLeast("compressionLevel", compressionLevel, 0);
+        }
+
+        /**
+         * Gets the connect timeout in milliseconds.
+         * @return the connect timeout, or {@code null} if not set
+         */
+        public Integer getConnectTimeoutInMillis() {
+            return connectTimeoutInMillis;
+        }
+
+        /**
+         * Sets the connect timeout in milliseconds.
+         * @param connectTimeoutInMillis the connect timeout, must be positive
+         */
+        public void setConnectTimeoutInMillis(Integer connectTimeoutInMillis) {
+            this.connectTimeoutInMillis =
+                requireAtLeast("connectTimeoutInMillis", connectTimeoutInMillis, 1);
+        }
+
+        /**
+         * Gets the read timeout in milliseconds.
+         * @return the read timeout, or {@code null} if not set
+         */
+        public Integer getReadTimeoutInMillis() {
+            return readTimeoutInMillis;
+        }
+
+        /**
+         * Sets the read timeout in milliseconds.
+         * @param readTimeoutInMillis the read timeout, must be positive
+         */
+        public void setReadTimeoutInMillis(Integer readTimeoutInMillis) {
+            this.readTimeoutInMillis = requireAtLeast("readTimeoutInMillis", readTimeoutInMillis, 1);
+        }
+
+        private static Integer requireAtLeast(String name, Integer value, int min) {
+            if (value != null && value < min) {
+                throw new IllegalArgumentException(String.format(
+                    "solace.java.channel.%s must be at least %d, but was %d", name, min, value));
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Settings of the pool of connected sessions created from the {@code SpringJCSMPFactory}.
+     */
+    public static class SessionPool {
+
+        /**
+         * Whether to auto-configure a {@code SolaceSessionPool}.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The number of sessions the pool is filled up to when it starts, and that idle eviction
+         * never shrinks it below.
+         */
+        private int minSize = 0;
+
+        /**
+         * The maximum number of sessions, borrowed and idle, that the pool manages.
+         */
+        private int maxSize = 8;
+
+        /**
+         * How long in (MS) a session may stay idle in the pool before it is eligible for eviction.
+         * A value of zero or less disables idle eviction.
+         */
+        private long idleTimeoutInMillis = 60000;
+
+        /**
+         * How often in (MS) the pool checks for idle sessions to evict.
+         */
+        private long evictionIntervalInMillis = 30000;
+
+        /**
+         * Whether an idle session is checked to still be open before it is handed out.
+         */
+        private boolean validateOnBorrow = true;
+
+        /**
+         * How long in (MS) a borrower waits for a session when the pool is exhausted.
+         */
+        private long borrowTimeoutInMillis = 5000;
+
+        /**
+         * Gets whether the session pool is auto-configured.
+         * @return {@code true} if the session pool is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether the session pool is auto-configured.
+         * @param enabled {@code true} to enable the session pool
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets the number of sessions the pool is filled up to and never shrinks below.
+         * @return the minimum pool size
+         */
+        public int getMinSize() {
+            return minSize;
+        }
+
+        /**
+         * Sets the number of sessions the pool is filled up to and never shrinks below.
+         * @param minSize the minimum pool size
+         */
+        public void setMinSize(int minSize) {
+            this.minSize = minSize;
+        }
+
+        /**
+         * Gets the maximum number of sessions that the pool manages.
+         * @return the maximum pool size
+         */
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        /**
+         * Sets the maximum number of sessions that the pool manages.
+         * @param maxSize the maximum pool size
+         */
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * Gets the time in milliseconds after which an idle session is eligible for eviction.
+         * @return the idle timeout in milliseconds
+         */
+        public long getIdleTimeoutInMillis() {
+            return idleTimeoutInMillis;
+        }
+
+        /**
+         * Sets the time in milliseconds after which an idle session is eligible for eviction.
+         * @param idleTimeoutInMillis the idle timeout in milliseconds
+         */
+        public void setIdleTimeoutInMillis(long idleTimeoutInMillis) {
+            this.idleTimeoutInMillis = idleTimeoutInMillis;
+        }
+
+        /**
+         * Gets the interval in milliseconds between idle eviction runs.
+         * @return the eviction interval in milliseconds
+         */
+        public long getEvictionIntervalInMillis() {
+            return evictionIntervalInMillis;
+        }
+
+        /**
+         * Sets the interval in milliseconds between idle eviction runs.
+         * @param evictionIntervalInMillis the eviction interval in milliseconds
+         */
+        public void setEvictionIntervalInMillis(long evictionIntervalInMillis) {
+            this.evictionIntervalInMillis = evictionIntervalInMillis;
+        }
+
+        /**
+         * Gets whether idle sessions are validated before they are handed out.
+         * @return {@code true} if sessions are validated on borrow
+         */
+        public boolean isValidateOnBorrow() {
+            return validateOnBorrow;
+        }
+
+        /**
+         * Sets whether idle sessions are validated before they are handed out.
+         * @param validateOnBorrow {@code true} to validate sessions on borrow
+         */
+        public void setValidateOnBorrow(boolean validateOnBorrow) {
+            this.validateOnBorrow = validateOnBorrow;
+        }
+
+        /**
+         * Gets the time in milliseconds a borrower waits for a session when the pool is exhausted.
+         * @return the borrow timeout in milliseconds
+         */
+        public long getBorrowTimeoutInMillis() {
+            return borrowTimeoutInMillis;
+        }
+
+        /**
+         * Sets the time in milliseconds a borrower waits for a session when the pool is exhausted.
+         * @param borrowTimeoutInMillis the borrow timeout in milliseconds
+         */
+        public void setBorrowTimeoutInMillis(long borrowTimeoutInMillis) {
+            this.borrowTimeoutInMillis = borrowTimeoutInMillis;
+        }
+    }
+
+
+    /**
+     * Settings of the publisher sending messages in batches through {@code sendMultiple}.
+     */
+    public static class BatchPublisher {
+
+        /**
+         * Whether to auto-configure a {@code SolaceBatchPublisher}.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The number of messages which triggers sending a batch, at most 50.
+         */
+        private int batchSize = 50;
+
+        /**
+         * How long in (µs) a batch waits for more messages after its first message was queued.
+         */
+        private long lingerInMicros = 200;
+
+        /**
+         * The maximum number of messages waiting to be sent.
+         */
+        private int queueCapacity = 10000;
+
+        /**
+         * How long in (MS) a send blocks while the queue is full before it fails.
+         */
+        private long sendTimeoutInMillis = 1000;
+
+        /**
+         * Gets whether the batch publisher is auto-configured.
+         * @return {@code true} if the batch publisher is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether the batch publisher is auto-configured.
+         * @param enabled {@code true} to enable the batch publisher
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets the number of messages which triggers sending a batch.
+         * @return the batch size
+         */
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        /**
+         * Sets the number of messages which triggers sending a batch.
+         * @param batchSize the batch size, at most 50
+         */
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        /**
+         * Gets the time in microseconds a batch waits for more messages.
+         * @return the linger time in microseconds
+         */
+        public long getLingerInMicros() {
+            return lingerInMicros;
+        }
+
+        /**
+         * Sets the time in microseconds a batch waits for more messages.
+         * @param lingerInMicros the linger time in microseconds
+         */
+        public void setLingerInMicros(long lingerInMicros) {
+            this.lingerInMicros = lingerInMicros;
+        }
+
+        /**
+         * Gets the maximum number of messages waiting to be sent.
+         * @return the queue capacity
+         */
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        /**
+         * Sets the maximum number of messages waiting to be sent.
+         * @param queueCapacity the queue capacity
+         */
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        /**
+         * Gets the time in milliseconds a send blocks while the queue is full.
+         * @return the send timeout in milliseconds
+         */
+        public long getSendTimeoutInMillis() {
+            return sendTimeoutInMillis;
+        }
+
+        /**
+         * Sets the time in milliseconds a send blocks while the queue is full.
+         * @param sendTimeoutInMillis the send timeout in milliseconds
+         */
+        public void setSendTimeoutInMillis(long sendTimeoutInMillis) {
+            this.sendTimeoutInMillis = sendTimeoutInMillis;
+        }
+    }
+
+    /**
+     * Settings of the publish event handler correlating acknowledgements with futures.
+     */
+    public static class PublishCorrelator {
+
+        /**
+         * Whether to auto-configure a {@code SolacePublishCorrelator} when no other publish event
+         * handler bean is defined.
+         */
+        private boolean enabled = true;
+
+        /**
+         * The maximum number of unacknowledged guaranteed messages. Defaults to four times the
+         * publish window size of the session properties.
+         */
+        private Integer maxInFlight;
+
+        /**
+         * How long in (MS) a send waits for an in-flight message to be acknowledged when the
+         * maximum is reached.
+         */
+        private long acquireTimeoutInMillis = 5000;
+
+        /**
+         * Gets whether the publish correlator is auto-configured.
+         * @return {@code true} if the publish correlator is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether the publish correlator is auto-configured.
+         * @param enabled {@code true} to enable the publish correlator
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets the maximum number of unacknowledged guaranteed messages.
+         * @return the max in-flight messages, or {@code null} to derive it from the publish window
+         */
+        public Integer getMaxInFlight() {
+            return maxInFlight;
+        }
+
+        /**
+         * Sets the maximum number of unacknowledged guaranteed messages.
+         * @param maxInFlight the max in-flight messages
+         */
+        public void setMaxInFlight(Integer maxInFlight) {
+            this.maxInFlight = maxInFlight;
+        }
+
+        /**
+         * Gets the time in milliseconds a send waits for an in-flight message to be acknowledged.
+         * @return the acquire timeout in milliseconds
+         */
+        public long getAcquireTimeoutInMillis() {
+            return acquireTimeoutInMillis;
+        }
+
+        /**
+         * Sets the time in milliseconds a send waits for an in-flight message to be acknowledged.
+         * @param acquireTimeoutInMillis the acquire timeout in milliseconds
+         */
+        public void setAcquireTimeoutInMillis(long acquireTimeoutInMillis) {
+            this.acquireTimeoutInMillis = acquireTimeoutInMillis;
+        }
+    }
+
+    /**
+     * Settings of the executor invoking {@code @SolaceListener} methods.
+     */
+    public static class Listener {
+
+        /**
+         * Whether methods annotated with @SolaceListener are detected and their listener
+         * containers started.
+         */
+        private boolean enabled = true;
+
+        /**
+         * The number of threads invoking listener methods. Defaults to the number of available
+         * processors.
+         */
+        private int threads = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * The number of received messages waiting for a listener thread. When exceeded, the
+         * context thread delivering a message invokes the listener itself.
+         */
+        private int queueCapacity = 1000;
+
+        /**
+         * The number of single-threaded lanes processing messages of listeners with an ordering
+         * key. Messages with the same key are always processed on the same lane. Defaults to the
+         * number of available processors.
+         */
+        private int lanes = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * The number of received messages waiting on each lane. When exceeded, the context thread
+         * delivering a message waits for the lane to catch up.
+         */
+        private int laneCapacity = 1000;
+
+        /**
+         * The maximum number of messages delivered to a batch listener at once, unless the
+         * listener declares its own.
+         */
+        private int batchMaxSize = 100;
+
+        /**
+         * How long a batch listener waits for a batch to fill up after receiving its first
+         * message, unless the listener declares its own.
+         */
+        private long batchMaxWaitInMillis = 50;
+
+        /**
+         * Gets whether @SolaceListener methods are detected.
+         * @return {@code true} if listener methods are detected
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether @SolaceListener methods are detected.
+         * @param enabled {@code true} to detect listener methods
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets the number of threads invoking listener methods.
+         * @return the number of listener threads
+         */
+        public int getThreads() {
+            return threads;
+        }
+
+        /**
+         * Sets the number of threads invoking listener methods.
+         * @param threads the number of listener threads
+         */
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        /**
+         * Gets the number of received messages waiting for a listener thread.
+         * @return the queue capacity
+         */
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        /**
+         * Sets the number of received messages waiting for a listener thread.
+         * @param queueCapacity the queue capacity
+         */
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        /**
+         * Gets the number of lanes processing messages of listeners with an ordering key.
+         * @return the number of lanes
+         */
+        public int getLanes() {
+            return lanes;
+        }
+
+        /**
+         * Sets the number of lanes processing messages of listeners with an ordering key.
+         * @param lanes the number of lanes
+         */
+        public void setLanes(int lanes) {
+            this.lanes = lanes;
+        }
+
+        /**
+         * Gets the number of received messages waiting on each lane.
+         * @return the lane capacity
+         */
+        public int getLaneCapacity() {
+            return laneCapacity;
+        }
+
+        /**
+         * Sets the number of received messages waiting on each lane.
+         * @param laneCapacity the lane capacity
+         */
+        public void setLaneCapacity(int laneCapacity) {
+            this.laneCapacity = laneCapacity;
+        }
+
+        /**
+         * Gets the maximum number of messages delivered to a batch listener at once.
+         * @return the max batch size
+         */
+        public int getBatchMaxSize() {
+            return batchMaxSize;
+        }
+
+        /**
+         * Sets the maximum number of messages delivered to a batch listener at once.
+         * @param batchMaxSize the max batch size
+         */
+        public void setBatchMaxSize(int batchMaxSize) {
+            this.batchMaxSize = batchMaxSize;
+        }
+
+        /**
+         * Gets how long a batch listener waits for a batch to fill up.
+         * @return the max batch wait in milliseconds
+         */
+        public long getBatchMaxWaitInMillis() {
+            return batchMaxWaitInMillis;
+        }
+
+        /**
+         * Sets how long a batch listener waits for a batch to fill up.
+         * @param batchMaxWaitInMillis the max batch wait in milliseconds
+         */
+        public void setBatchMaxWaitInMillis(long batchMaxWaitInMillis) {
+            this.batchMaxWaitInMillis = batchMaxWaitInMillis;
+        }
+    }
+
+    /**
+     * Settings for coalescing the client acknowledgements of guaranteed messages consumed by
+     * {@code @SolaceListener} methods, and for how the API acknowledges messages to the message
+     * router.
+     */
+    public static class AckCoalescing {
+
+        /**
+         * Whether acknowledgements are queued and applied in bulk instead of one at a time.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The number of pending acknowledgements which triggers applying them. Must stay below
+         * the window size of the flows.
+         */
+        private int maxPending = 64;
+
+        /**
+         * How long in (MS) an acknowledgement may be pending before it is applied.
+         */
+        private long maxDelayInMillis = 100;
+
+        /**
+         * How long in (MS) the API waits before sending the acknowledgements of a flow to the
+         * message router, from 20 to 1500. Maps to {@code SUB_ACK_TIME}.
+         */
+        private Integer subAckTimeInMillis;
+
+        /**
+         * The percentage of the flow window which, once acknowledged, makes the API send the
+         * acknowledgements to the message router right away, from 1 to 75. Maps to
+         * {@code SUB_ACK_WINDOW_THRESHOLD}.
+         */
+        private Integer subAckWindowThreshold;
+
+        /**
+         * Gets whether acknowledgements are queued and applied in bulk.
+         * @return {@code true} if acknowledgement coalescing is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether acknowledgements are queued and applied in bulk.
+         * @param enabled {@code true} to enable acknowledgement coalescing
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets the number of pending acknowledgements which triggers applying them.
+         * @return the max pending acknowledgements
+         */
+        public int getMaxPending() {
+            return maxPending;
+        }
+
+        /**
+         * Sets the number of pending acknowledgements which triggers applying them.
+         * @param maxPending the max pending acknowledgements
+         */
+        public void setMaxPending(int maxPending) {
+            this.maxPending = maxPending;
+        }
+
+        /**
+         * Gets how long an acknowledgement may be pending.
+         * @return the max delay in milliseconds
+         */
+        public long getMaxDelayInMillis() {
+            return maxDelayInMillis;
+        }
+
+        /**
+         * Sets how long an acknowledgement may be pending.
+         * @param maxDelayInMillis the max delay in milliseconds
+         */
+        public void setMaxDelayInMillis(long maxDelayInMillis) {
+            this.maxDelayInMillis = maxDelayInMillis;
+        }
+
+        /**
+         * Gets how long the API waits before sending acknowledgements to the message router.
+         * @return the acknowledgement time, or {@code null} if not set
+         */
+        public Integer getSubAckTimeInMillis() {
+            return subAckTimeInMillis;
+        }
+
+        /**
+         * Sets how long the API waits before sending acknowledgements to the message router.
+         * @param subAckTimeInMillis the acknowledgement time, from 20 to 1500
+         */
+        public void setSubAckTimeInMillis(Integer subAckTimeInMillis) {
+            this.subAckTimeInMillis =
+                requireBetween("subAckTimeInMillis", subAckTimeInMillis, 20, 1500);
+        }
+
+        /**
+         * Gets the percentage of the flow window which triggers sending acknowledgements.
+         * @return the window threshold, or {@code null} if not set
+         */
+        public Integer getSubAckWindowThreshold() {
+            return subAckWindowThreshold;
+        }
+
+        /**
+         * Sets the percentage of the flow window which triggers sending acknowledgements.
+         * @param subAckWindowThreshold the window threshold, from 1 to 75
+         */
+        public void setSubAckWindowThreshold(Integer subAckWindowThreshold) {
+            this.subAckWindowThreshold =
+                requireBetween("subAckWindowThreshold", subAckWindowThreshold, 1, 75);
+        }
+
+        private static Integer requireBetween(String name, Integer value, int min, int max) {
+            if (value != null && (value < min || value > max)) {
+                throw new IllegalArgumentException(String.format(
+                    "solace.java.ackCoalescing.%s must be between %d and %d, but was %d",
+                    name, min, max, value));
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Settings for asynchronous request/reply with the {@code SolaceRequestor}.
+     */
+    public static class Requestor {
+
+        /**
+         * How long in (MS) to wait for the reply of a request sent without an explicit timeout.
+         */
+        private long timeoutInMillis = 10000;
+
+        /**
+         * The precision in (MS) of the timing wheel tracking request timeouts.
+         */
+        private long tickInMillis = 10;
+
+        /**
+         * The number of buckets of the timing wheel tracking request timeouts. Timeouts longer
+         * than the tick times the bucket count are checked once per rotation of the wheel.
+         */
+        private int wheelSize = 512;
+
+        /**
+         * Gets how long to wait for the reply of a request.
+         * @return the default request timeout in milliseconds
+         */
+        public long getTimeoutInMillis() {
+            return timeoutInMillis;
+        }
+
+        /**
+         * Sets how long to wait for the reply of a request.
+         * @param timeoutInMillis the default request timeout in milliseconds
+         */
+        public void setTimeoutInMillis(long timeoutInMillis) {
+            this.timeoutInMillis = timeoutInMillis;
+        }
+
+        /**
+         * Gets the precision of the timing wheel tracking request timeouts.
+         * @return the tick duration in milliseconds
+         */
+        public long getTickInMillis() {
+            return tickInMillis;
+        }
+
+        /**
+         * Sets the precision of the timing wheel tracking request timeouts.
+         * @param tickInMillis the tick duration in milliseconds
+         */
+        public void setTickInMillis(long tickInMillis) {
+            this.tickInMillis = tickInMillis;
+        }
+
+        /**
+         * Gets the number of buckets of the timing wheel tracking request timeouts.
+         * @return the wheel size
+         */
+        public int getWheelSize() {
+            return wheelSize;
+        }
+
+        /**
+         * Sets the number of buckets of the timing wheel tracking request timeouts.
+         * @param wheelSize the wheel size
+         */
+        public void setWheelSize(int wheelSize) {
+            this.wheelSize = wheelSize;
+        }
+    }
+
+    /**
+     * Topic subscriptions registered in bulk by the {@code SolaceSubscriptionManager}.
+     */
+    public static class Subscriptions {
+
+        /**
+         * Topic subscriptions kept by the shared session of the {@code SolaceSubscriptionRegistry},
+         * which is connected at startup when any are configured.
+         */
+        private final List<String> topics = new ArrayList<>();
+
+        /**
+         * Topic subscriptions added to queues at startup, keyed by queue name. Subscriptions which
+         * already exist on a queue are ignored.
+         */
+        private final Map<String, List<String>> queues = new ConcurrentHashMap<>();
+
+        /**
+         * Gets the topic subscriptions of sessions.
+         * @return the topic subscriptions
+         */
+        public List<String> getTopics() {
+            return topics;
+        }
+
+        /**
+         * Gets the topic subscriptions of queues.
+         * @return the topic subscriptions keyed by queue name
+         */
+        public Map<String, List<String>> getQueues() {
+            return queues;
+        }
+    }
+
+    /**
+     * Settings for backing off connect and reconnect attempts with jitter, so that the sessions of
+     * many instances do not connect to the message router in lockstep.
+     */
+    public static class ReconnectPolicy {
+
+        /**
+         * Whether the reconnect wait of every session is jittered and the initial connect is
+         * retried with exponential backoff.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The upper bound in (MS) of the delay before the first retry of an initial connect.
+         */
+        private long initialDelayInMillis = 500;
+
+        /**
+         * The cap in (MS) of the upper bound of the delay between initial connect attempts.
+         */
+        private long maxDelayInMillis = 30000;
+
+        /**
+         * The factor the upper bound of the delay grows by with every initial connect attempt.
+         */
+        private double multiplier = 2.0;
+
+        /**
+         * The number of times the initial connect of a session is attempted, each attempt
+         * including the connect retries of the API.
+         */
+        private int maxConnectAttempts = 5;
+
+        /**
+         * Gets whether the reconnect policy is enabled.
+         * @return {@code true} if the reconnect policy is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether the reconnect policy is enabled.
+         * @param enabled {@code true} to enable the reconnect policy
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets the upper bound of the delay before the first retry.
+         * @return the initial delay in milliseconds
+         */
+        public long getInitialDelayInMillis() {
+            return initialDelayInMillis;
+        }
+
+        /**
+         * Sets the upper bound of the delay before the first retry.
+         * @param initialDelayInMillis the initial delay in milliseconds
+         */
+        public void setInitialDelayInMillis(long initialDelayInMillis) {
+            this.initialDelayInMillis = initialDelayInMillis;
+        }
+
+        /**
+         * Gets the cap of the upper bound of the delay.
+         * @return the max delay in milliseconds
+         */
+        public long getMaxDelayInMillis() {
+            return maxDelayInMillis;
+        }
+
+        /**
+         * Sets the cap of the upper bound of the delay.
+         * @param maxDelayInMillis the max delay in milliseconds
+         */
+        public void setMaxDelayInMillis(long maxDelayInMillis) {
+            this.maxDelayInMillis = maxDelayInMillis;
+        }
+
+        /**
+         * Gets the factor the upper bound of the delay grows by.
+         * @return the multiplier
+         */
+        public double getMultiplier() {
+            return multiplier;
+        }
+
+        /**
+         * Sets the factor the upper bound of the delay grows by.
+         * @param multiplier the multiplier
+         */
+        public void setMultiplier(double multiplier) {
+            this.multiplier = multiplier;
+        }
+
+        /**
+         * Gets the number of times the initial connect of a session is attempted.
+         * @return the max connect attempts
+         */
+        public int getMaxConnectAttempts() {
+            return maxConnectAttempts;
+        }
+
+        /**
+         * Sets the number of times the initial connect of a session is attempted.
+         * @param maxConnectAttempts the max connect attempts
+         */
+        public void setMaxConnectAttempts(int maxConnectAttempts) {
+            this.maxConnectAttempts = maxConnectAttempts;
+        }
+    }
+
+    /**
+     * Settings for publishing the statistics of the sessions created by the SpringJCSMPFactory
+     * through Micrometer.
+     */
+    public static class SessionStats {
+
+        /**
+         * Whether the statistics of sessions are published when Micrometer is on the classpath.
+         */
+        private boolean enabled = true;
+
+        /**
+         * How long in (MS) a sample of the statistics of a session is reused, so that publishing
+         * all of its meters reads the statistics of the session once.
+         */
+        private long sampleIntervalInMillis = 1000;
+
+        /**
+         * Gets whether the statistics of sessions are published.
+         * @return {@code true} if the statistics are published
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether the statistics of sessions are published.
+         * @param enabled {@code true} to publish the statistics
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets how long a sample of the statistics of a session is reused.
+         * @return the sample interval in milliseconds
+         */
+        public long getSampleIntervalInMillis() {
+            return sampleIntervalInMillis;
+        }
+
+        /**
+         * Sets how long a sample of the statistics of a session is reused.
+         * @param sampleIntervalInMillis the sample interval in milliseconds
+         */
+        public void setSampleIntervalInMillis(long sampleIntervalInMillis) {
+            this.sampleIntervalInMillis = sampleIntervalInMillis;
+        }
+    }
+
+    /**
+     * Settings for spreading sessions created by the {@code SpringJCSMPFactory} over multiple JCSMP
+     * contexts, each with its own I/O and dispatch thread.
+     */
+    public static class Contexts {
+
+        /**
+         * Whether sessions created without an explicit context are spread over multiple contexts
+         * instead of all sharing the default context.
+         */
+        private boolean enabled = false;
+
+        /**
+         * The number of contexts to spread sessions over. Defaults to the number of available
+         * processors.
+         */
+        private int count = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * How new sessions are assigned to contexts.
+         */
+        private ShardedSolaceContextSelector.Strategy strategy =
+            ShardedSolaceContextSelector.Strategy.ROUND_ROBIN;
+
+        /**
+         * Gets whether sessions are spread over multiple contexts.
+         * @return {@code true} if context sharding is enabled
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Sets whether sessions are spread over multiple contexts.
+         * @param enabled {@code true} to enable context sharding
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets the number of contexts to spread sessions over.
+         * @return the number of contexts
+         */
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * Sets the number of contexts to spread sessions over.
+         * @param count the number of contexts
+         */
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        /**
+         * Gets how new sessions are assigned to contexts.
+         * @return the context assignment strategy
+         */
+        public ShardedSolaceContextSelector.Strategy getStrategy() {
+            return strategy;
+        }
+
+        /**
+         * Sets how new sessions are assigned to contexts.
+         * @param strategy the context assignment strategy
+         */
+        public void setStrategy(ShardedSolaceContextSelector.Strategy strategy) {
+            this.strategy = strategy;
+        }
+    }
+
+    /**
+     * Settings for creating and connecting sessions in parallel while the application starts, so
+     * that the first requests after a deployment do not pay the connection setup.
+     */
+    public static class Warmup {
+
+        /**
+         * The number of sessions to create and connect at startup and hand to the session pool,
+         * which must be enabled. Zero disables the warm-up.
+         */
+        private int sessions = 0;
+
+        /**
+         * Whether a message producer is also opened on every warmed-up session.
+         */
+        private boolean producers = false;
+
+        /**
+         * How long in (MS) startup waits for the sessions to be connected.
+         */
+        private long timeoutInMillis = 30000;
+
+        /**
+         * Gets the number of sessions to create and connect at startup.
+         * @return the number of warm-up sessions
+         */
+        public int getSessions() {
+            return sessions;
+        }
+
+        /**
+         * Sets the number of sessions to create and connect at startup.
+         * @param sessions the number of warm-up sessions
+         */
+        public void setSessions(int sessions) {
+            this.sessions = sessions;
+        }
+
+        /**
+         * Gets whether a message producer is opened on every warmed-up session.
+         * @return {@code true} if producers are warmed up
+         */
+        public boolean isProducers() {
+            return producers;
+        }
+
+        /**
+         * Sets whether a message producer is opened on every warmed-up session.
+         * @param producers {@code true} to warm up producers
+         */
+        public void setProducers(boolean producers) {
+            this.producers = producers;
+        }
+
+        /**
+         * Gets the time in milliseconds startup waits for the sessions to be connected.
+         * @return the warm-up timeout in milliseconds
+         */
+        public long getTimeoutInMillis() {
+            return timeoutInMillis;
+        }
+
+        /**
+         * Sets the time in milliseconds startup waits for the sessions to be connected.
+         * @param timeoutInMillis the warm-up timeout in milliseconds
+         */
+        public void setTimeoutInMillis(long timeoutInMillis) {
+            this.timeoutInMillis = timeoutInMillis;
+        }
+    }
+
+    /**
+     * Settings of a named session profile. Sessions created for a profile use the
+     * {@code solace.java.*} settings, with the profile's settings taking precedence.
+     */
+    public static class SessionProfile {
+
+        /**
+         * The client name of sessions created for this profile. Defaults to
+         * {@code solace.java.clientName}.
+         */
+        private String clientName;
+
+        /**
+         * API properties of sessions created for this profile, overriding
+         * {@code solace.java.apiProperties}.
+         */
+        private final Map<String,String> apiProperties = new ConcurrentHashMap<>();
+
+        /**
+         * Gets the client name of sessions created for this profile.
+         * @return the client name, or {@code null} to use {@code solace.java.clientName}
+         */
+        public String getClientName() {
+            return clientName;
+        }
+
+        /**
+         * Sets the client name of sessions created for this profile.
+         * @param clientName the client name to use
+         */
+        public void setClientName(String clientName) {
+            this.clientName = clientName;
+        }
+
+        /**
+         * Gets the API properties overriding {@code solace.java.apiProperties} for this profile.
+         * @return the API properties map
+         */
+        public Map<String,String> getApiProperties() {
+            return apiProperties;
+        }
+    }
+
 }
\ No newline at end of file
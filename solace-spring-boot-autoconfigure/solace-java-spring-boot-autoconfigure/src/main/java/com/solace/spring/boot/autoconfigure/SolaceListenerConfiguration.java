@@ -0,0 +1,150 @@
+package com.solace.spring.boot.autoconfigure;
+
+import com.solacesystems.jcsmp.SolaceAckCoalescer;
+import com.solacesystems.jcsmp.SolaceListenerAnnotationBeanPostProcessor;
+import com.solacesystems.jcsmp.SolaceListenerContainerRegistry;
+import com.solacesystems.jcsmp.SolaceMessageConverter;
+import com.solacesystems.jcsmp.SolaceOrderedDispatcher;
+import com.solacesystems.jcsmp.SolaceOrderedDispatcherMetrics;
+import com.solacesystems.jcsmp.SpringJCSMPFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.lang.Nullable;
+
+/**
+ * Configuration class for {@link com.solacesystems.jcsmp.SolaceListener} methods. This
+ * configuration backs off when the 'solace.java.listener.enabled' property is set to 'false'. The
+ * executor and the ordered dispatcher invoking listener methods are only created once a listener
+ * container uses them.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "solace.java.listener", name = "enabled", havingValue = "true",
+    matchIfMissing = true)
+public final class SolaceListenerConfiguration {
+
+  /**
+   * The name of the executor invoking listener methods.
+   */
+  public static final String SOLACE_LISTENER_EXECUTOR_BEAN_NAME = "solaceListenerExecutor";
+
+  /**
+   * Creates the post processor detecting listener methods.
+   *
+   * @return Configured SolaceListenerAnnotationBeanPostProcessor.
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  static SolaceListenerAnnotationBeanPostProcessor solaceListenerAnnotationBeanPostProcessor() {
+    return new SolaceListenerAnnotationBeanPostProcessor();
+  }
+
+  /**
+   * Creates the executor invoking listener methods. When its queue is full, the context thread
+   * delivering a message runs the listener itself, which holds back further deliveries.
+   *
+   * @param solaceJavaProperties The Solace Java properties holding the listener settings.
+   * @return Configured executor.
+   */
+  @Bean(name = SOLACE_LISTENER_EXECUTOR_BEAN_NAME, destroyMethod = "shutdown")
+  @Lazy
+  @ConditionalOnMissingBean(name = SOLACE_LISTENER_EXECUTOR_BEAN_NAME)
+  ExecutorService solaceListenerExecutor(SolaceJavaProperties solaceJavaProperties) {
+    final SolaceJavaProperties.Listener settings = solaceJavaProperties.getListener();
+    final AtomicInteger threadCount = new AtomicInteger();
+    return new ThreadPoolExecutor(settings.getThreads(), settings.getThreads(), 0L,
+        TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(settings.getQueueCapacity()), r -> {
+          final Thread thread = new Thread(r,
+              "solace-listener-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+  }
+
+  /**
+   * Creates the dispatcher invoking the methods of listeners with an ordering key. The threads and
+   * queues of its lanes are only created once messages are dispatched to them.
+   *
+   * @param solaceJavaProperties The Solace Java properties holding the listener settings.
+   * @return Configured SolaceOrderedDispatcher.
+   */
+  @Bean(destroyMethod = "close")
+  @Lazy
+  @ConditionalOnMissingBean
+  SolaceOrderedDispatcher solaceListenerOrderedDispatcher(
+      SolaceJavaProperties solaceJavaProperties) {
+    final SolaceJavaProperties.Listener settings = solaceJavaProperties.getListener();
+    return new SolaceOrderedDispatcher("solace-listener-lane", settings.getLanes(),
+        settings.getLaneCapacity());
+  }
+
+  /**
+   * Creates the registry starting and stopping the listener containers.
+   *
+   * @param springJCSMPFactory   The factory used to create the sessions of the containers.
+   * @param executor             The executor invoking listener methods.
+   * @param orderedDispatcher    The dispatcher invoking methods of listeners with an ordering key.
+   * @param messageConverter     The converter used when a listener method expects a payload.
+   * @param solaceJavaProperties The Solace Java properties holding the batch listener defaults.
+   * @param ackCoalescer         The coalescer acknowledgements are queued on, if enabled.
+   * @return Configured SolaceListenerContainerRegistry.
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  SolaceListenerContainerRegistry solaceListenerContainerRegistry(
+      SpringJCSMPFactory springJCSMPFactory,
+      @Lazy @Qualifier(SOLACE_LISTENER_EXECUTOR_BEAN_NAME) Executor executor,
+      @Lazy SolaceOrderedDispatcher orderedDispatcher,
+      SolaceMessageConverter messageConverter,
+      SolaceJavaProperties solaceJavaProperties,
+      @Nullable SolaceAckCoalescer ackCoalescer) {
+    final SolaceListenerContainerRegistry registry = new SolaceListenerContainerRegistry(
+        springJCSMPFactory, executor, orderedDispatcher, messageConverter);
+    registry.setAckCoalescer(ackCoalescer);
+    registry.setDefaultMaxBatchSize(solaceJavaProperties.getListener().getBatchMaxSize());
+    registry.setDefaultMaxBatchWaitInMillis(
+        solaceJavaProperties.getListener().getBatchMaxWaitInMillis());
+    return registry;
+  }
+
+  /**
+   * Publishes the lane depths of the ordered dispatcher when Micrometer is on the classpath. The
+   * meters are bound once the lazy dispatcher is created, so that publishing them does not create
+   * it at startup.
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(MeterBinder.class)
+  static class SolaceOrderedDispatcherMetricsConfiguration {
+
+    @Bean
+    static BeanPostProcessor solaceOrderedDispatcherMetricsBinder(
+        ObjectProvider<MeterRegistry> meterRegistry) {
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          if (bean instanceof SolaceOrderedDispatcher) {
+            final MeterRegistry registry = meterRegistry.getIfUnique();
+            if (registry != null) {
+              new SolaceOrderedDispatcherMetrics((SolaceOrderedDispatcher) bean).bindTo(registry);
+            }
+          }
+          return bean;
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package com.solace.spring.boot.autoconfigure;
+
+import com.solacesystems.jcsmp.JCSMPChannelProperties;
+import com.solacesystems.jcsmp.JCSMPProperties;
+import java.util.Map;
+
+/**
+ * Predefined sets of JCSMP channel and session settings, selected through
+ * <code>solace.java.performanceProfile</code>. A setting of the profile is only applied when the
+ * corresponding API property is not set explicitly through <code>solace.java.apiProperties</code>,
+ * and the typed <code>solace.java.channel.*</code> settings are applied on top of the profile.
+ */
+public enum SolacePerformanceProfile {
+
+  /**
+   * Favours the latency of individual messages: Nagle's algorithm is disabled, socket buffers
+   * are kept at the API defaults so that messages do not queue up in them, and messages are
+   * dispatched directly on the context thread.
+   */
+  LOW_LATENCY(true, 65536, 65536, 0, true, 50, 255),
+
+  /**
+   * Favours the message rate: writes are coalesced by TCP, socket buffers are large, and the ack
+   * windows are opened to their maximum so that publishers and consumers are not stalled waiting
+   * for acknowledgements.
+   */
+  HIGH_THROUGHPUT(false, 1048576, 1048576, 0, false, 255, 255),
+
+  /**
+   * A middle ground suitable for most applications.
+   */
+  BALANCED(true, 262144, 262144, 0, false, 50, 255);
+
+  static final String TCP_NO_DELAY = JCSMPProperties.CLIENT_CHANNEL_PROPERTIES + ".TcpNoDelay";
+  static final String SEND_BUFFER = JCSMPProperties.CLIENT_CHANNEL_PROPERTIES + ".SendBuffer";
+  static final String RECEIVE_BUFFER =
+      JCSMPProperties.CLIENT_CHANNEL_PROPERTIES + ".ReceiveBuffer";
+  static final String COMPRESSION_LEVEL =
+      JCSMPProperties.CLIENT_CHANNEL_PROPERTIES + ".CompressionLevel";
+
+  private final boolean tcpNoDelay;
+  private final int sendBuffer;
+  private final int receiveBuffer;
+  private final int compressionLevel;
+  private final boolean messageCallbackOnReactor;
+  private final int pubAckWindowSize;
+  private final int subAckWindowSize;
+
+  SolacePerformanceProfile(boolean tcpNoDelay, int sendBuffer, int receiveBuffer,
+      int compressionLevel, boolean messageCallbackOnReactor, int pubAckWindowSize,
+      int subAckWindowSize) {
+    this.tcpNoDelay = tcpNoDelay;
+    this.sendBuffer = sendBuffer;
+    this.receiveBuffer = receiveBuffer;
+    this.compressionLevel = compressionLevel;
+    this.messageCallbackOnReactor = messageCallbackOnReactor;
+    this.pubAckWindowSize = pubAckWindowSize;
+    this.subAckWindowSize = subAckWindowSize;
+  }
+
+  /**
+   * Applies the settings of this profile which are not set explicitly in the given API properties.
+   *
+   * @param jcsmpProps    The properties to apply the profile to.
+   * @param apiProperties The explicitly configured API properties, keys are compared ignoring case.
+   */
+  void applyTo(JCSMPProperties jcsmpProps, Map<String, String> apiProperties) {
+    final JCSMPChannelProperties cp = (JCSMPChannelProperties) jcsmpProps
+        .getProperty(JCSMPProperties.CLIENT_CHANNEL_PROPERTIES);
+    if (!isExplicit(apiProperties, TCP_NO_DELAY)) {
+      cp.setTcpNoDelay(tcpNoDelay);
+    }
+    if (!isExplicit(apiProperties, SEND_BUFFER)) {
+      cp.setSendBuffer(sendBuffer);
+    }
+    if (!isExplicit(apiProperties, RECEIVE_BUFFER)) {
+      cp.setReceiveBuffer(receiveBuffer);
+    }
+    if (!isExplicit(apiProperties, COMPRESSION_LEVEL)) {
+      cp.setCompressionLevel(compressionLevel);
+    }
+    if (!isExplicit(apiProperties, JCSMPProperties.MESSAGE_CALLBACK_ON_REACTOR)) {
+      jcsmpProps.setProperty(JCSMPProperties.MESSAGE_CALLBACK_ON_REACTOR, messageCallbackOnReactor);
+    }
+    if (!isExplicit(apiProperties, JCSMPProperties.PUB_ACK_WINDOW_SIZE)) {
+      jcsmpProps.setProperty(JCSMPProperties.PUB_ACK_WINDOW_SIZE, pubAckWindowSize);
+    }
+    if (!isExplicit(apiProperties, JCSMPProperties.SUB_ACK_WINDOW_SIZE)) {
+      jcsmpProps.setProperty(JCSMPProperties.SUB_ACK_WINDOW_SIZE, subAckWindowSize);
+    }
+  }
+
+  private static boolean isExplicit(Map<String, String> apiProperties, String key) {
+    for (String apiProperty : apiProperties.keySet()) {
+      if (apiProperty.equalsIgnoreCase(key)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
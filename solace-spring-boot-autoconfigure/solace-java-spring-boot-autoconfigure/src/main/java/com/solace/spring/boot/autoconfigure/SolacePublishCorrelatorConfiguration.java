@@ -0,0 +1,61 @@
+package com.solace.spring.boot.autoconfigure;
+
+import com.solacesystems.jcsmp.JCSMPProperties;
+import com.solacesystems.jcsmp.JCSMPStreamingPublishCorrelatingEventHandler;
+import com.solacesystems.jcsmp.SolacePublishCorrelator;
+import com.solacesystems.jcsmp.SolacePublishCorrelatorMetrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the Solace publish correlator. This configuration backs off when the
+ * application defines its own {@link JCSMPStreamingPublishCorrelatingEventHandler}, or when the
+ * 'solace.java.publishCorrelator.enabled' property is set to 'false'.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "solace.java.publish-correlator", name = "enabled",
+    havingValue = "true", matchIfMissing = true)
+@ConditionalOnMissingBean(JCSMPStreamingPublishCorrelatingEventHandler.class)
+public final class SolacePublishCorrelatorConfiguration {
+
+  /**
+   * Creates the publish event handler correlating acknowledgements with futures.
+   *
+   * @param jcsmpProperties      The session properties holding the publish window size.
+   * @param solaceJavaProperties The Solace Java properties holding the correlator settings.
+   * @return Configured SolacePublishCorrelator.
+   */
+  @Bean
+  SolacePublishCorrelator solacePublishCorrelator(JCSMPProperties jcsmpProperties,
+      SolaceJavaProperties solaceJavaProperties) {
+    final SolaceJavaProperties.PublishCorrelator settings =
+        solaceJavaProperties.getPublishCorrelator();
+    final int maxInFlight;
+    if (settings.getMaxInFlight() != null) {
+      maxInFlight = settings.getMaxInFlight();
+    } else {
+      final Integer windowSize = jcsmpProperties.getIntegerProperty(
+          JCSMPProperties.PUB_ACK_WINDOW_SIZE);
+      maxInFlight = 4 * Math.max(1, windowSize != null ? windowSize : 1);
+    }
+    return new SolacePublishCorrelator(maxInFlight, settings.getAcquireTimeoutInMillis());
+  }
+
+  /**
+   * Publishes the publish correlator metrics when Micrometer is on the classpath.
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(MeterBinder.class)
+  static class SolacePublishCorrelatorMetricsConfiguration {
+
+    @Bean
+    SolacePublishCorrelatorMetrics solacePublishCorrelatorMetrics(
+        SolacePublishCorrelator solacePublishCorrelator) {
+      return new SolacePublishCorrelatorMetrics(solacePublishCorrelator);
+    }
+  }
+}
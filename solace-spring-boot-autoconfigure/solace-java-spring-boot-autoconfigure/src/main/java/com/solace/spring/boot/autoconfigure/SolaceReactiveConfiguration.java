@@ -0,0 +1,33 @@
+package com.solace.spring.boot.autoconfigure;
+
+import com.solacesystems.jcsmp.SolaceReactiveClient;
+import com.solacesystems.jcsmp.SolaceTemplate;
+import com.solacesystems.jcsmp.SpringJCSMPFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.publisher.Flux;
+
+/**
+ * Configuration class for the Project Reactor bindings. This configuration is only active when
+ * Project Reactor is on the classpath.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(Flux.class)
+public final class SolaceReactiveConfiguration {
+
+  /**
+   * Creates the reactive client for consuming and publishing messages.
+   *
+   * @param springJCSMPFactory The factory used to create the sessions of consumers.
+   * @param solaceTemplate     The template used to publish messages.
+   * @return Configured SolaceReactiveClient.
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  SolaceReactiveClient solaceReactiveClient(SpringJCSMPFactory springJCSMPFactory,
+      SolaceTemplate solaceTemplate) {
+    return new SolaceReactiveClient(springJCSMPFactory, solaceTemplate);
+  }
+}
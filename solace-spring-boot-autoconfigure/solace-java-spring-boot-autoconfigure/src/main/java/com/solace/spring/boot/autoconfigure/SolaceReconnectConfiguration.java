@@ -0,0 +1,52 @@
+package com.solace.spring.boot.autoconfigure;
+
+import com.solacesystems.jcsmp.SolaceReconnectMetrics;
+import com.solacesystems.jcsmp.SolaceReconnectPolicy;
+import com.solacesystems.jcsmp.SpringJCSMPFactory;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the reconnect behaviour of sessions. The {@link SolaceReconnectPolicy}
+ * is only created when the 'solace.java.reconnectPolicy.enabled' property is set to 'true', while
+ * reconnect durations are published whenever Micrometer is on the classpath.
+ */
+@Configuration(proxyBeanMethods = false)
+public final class SolaceReconnectConfiguration {
+
+  /**
+   * Creates the policy jittering the reconnect wait of sessions and retrying their initial
+   * connect with exponential backoff.
+   *
+   * @param solaceJavaProperties The Solace Java properties holding the reconnect policy settings.
+   * @return Configured SolaceReconnectPolicy.
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  @ConditionalOnProperty(prefix = "solace.java.reconnect-policy", name = "enabled",
+      havingValue = "true")
+  SolaceReconnectPolicy solaceReconnectPolicy(SolaceJavaProperties solaceJavaProperties) {
+    final SolaceJavaProperties.ReconnectPolicy settings = solaceJavaProperties.getReconnectPolicy();
+    return new SolaceReconnectPolicy(settings.getInitialDelayInMillis(),
+        settings.getMaxDelayInMillis(), settings.getMultiplier(), settings.getMaxConnectAttempts());
+  }
+
+  /**
+   * Publishes the reconnect durations of sessions when Micrometer is on the classpath.
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(MeterBinder.class)
+  static class SolaceReconnectMetricsConfiguration {
+
+    @Bean
+    SolaceReconnectMetrics solaceReconnectMetrics(SpringJCSMPFactory springJCSMPFactory) {
+      final SolaceReconnectMetrics metrics = new SolaceReconnectMetrics();
+      springJCSMPFactory.addSessionListener(metrics);
+      return metrics;
+    }
+  }
+}
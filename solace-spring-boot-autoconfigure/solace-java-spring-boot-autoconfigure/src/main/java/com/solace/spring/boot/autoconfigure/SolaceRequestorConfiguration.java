@@ -0,0 +1,50 @@
+package com.solace.spring.boot.autoconfigure;
+
+import com.solacesystems.jcsmp.SolaceMessageConverter;
+import com.solacesystems.jcsmp.SolaceRequestor;
+import com.solacesystems.jcsmp.SolaceTimingWheel;
+import com.solacesystems.jcsmp.SpringJCSMPFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the {@link SolaceRequestor}. The requestor connects its session on the
+ * first request, and the timing wheel starts its thread on the first timeout, so that
+ * applications which do not send requests pay for neither.
+ */
+@Configuration(proxyBeanMethods = false)
+public final class SolaceRequestorConfiguration {
+
+  /**
+   * Creates the timing wheel tracking the timeouts of outstanding requests.
+   *
+   * @param solaceJavaProperties The Solace Java properties holding the requestor settings.
+   * @return Configured SolaceTimingWheel.
+   */
+  @Bean(destroyMethod = "close")
+  @ConditionalOnMissingBean
+  SolaceTimingWheel solaceRequestTimingWheel(SolaceJavaProperties solaceJavaProperties) {
+    final SolaceJavaProperties.Requestor settings = solaceJavaProperties.getRequestor();
+    return new SolaceTimingWheel("solace-request-timeouts", settings.getTickInMillis(),
+        settings.getWheelSize());
+  }
+
+  /**
+   * Creates the asynchronous request/reply facade over a long-lived session.
+   *
+   * @param springJCSMPFactory   The factory used to create the session of the requestor.
+   * @param messageConverter     The converter used to create requests and read replies.
+   * @param timingWheel          The wheel tracking the request timeouts.
+   * @param solaceJavaProperties The Solace Java properties holding the requestor settings.
+   * @return Configured SolaceRequestor.
+   */
+  @Bean(destroyMethod = "close")
+  @ConditionalOnMissingBean
+  SolaceRequestor solaceRequestor(SpringJCSMPFactory springJCSMPFactory,
+      SolaceMessageConverter messageConverter, SolaceTimingWheel timingWheel,
+      SolaceJavaProperties solaceJavaProperties) {
+    return new SolaceRequestor(springJCSMPFactory, messageConverter, timingWheel,
+        solaceJavaProperties.getRequestor().getTimeoutInMillis());
+  }
+}
@@ -0,0 +1,47 @@
+package com.solace.spring.boot.autoconfigure;
+
+import com.solacesystems.jcsmp.SolaceSessionPool;
+import com.solacesystems.jcsmp.SolaceSessionPoolMetrics;
+import com.solacesystems.jcsmp.SpringJCSMPFactory;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the Solace session pool. This configuration is only active when the
+ * 'solace.java.pool.enabled' property is set to 'true'.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "solace.java.pool", name = "enabled", havingValue = "true")
+public final class SolaceSessionPoolConfiguration {
+
+  /**
+   * Creates a pool of connected sessions backed by the {@link SpringJCSMPFactory}.
+   *
+   * @param springJCSMPFactory   The factory used to create pooled sessions.
+   * @param solaceJavaProperties The Solace Java properties holding the pool settings.
+   * @return Configured SolaceSessionPool.
+   */
+  @Bean(destroyMethod = "close")
+  @ConditionalOnMissingBean
+  SolaceSessionPool solaceSessionPool(SpringJCSMPFactory springJCSMPFactory,
+      SolaceJavaProperties solaceJavaProperties) {
+    return new SolaceSessionPool(springJCSMPFactory, solaceJavaProperties.getPool());
+  }
+
+  /**
+   * Publishes the session pool metrics when Micrometer is on the classpath.
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(MeterBinder.class)
+  static class SolaceSessionPoolMetricsConfiguration {
+
+    @Bean
+    SolaceSessionPoolMetrics solaceSessionPoolMetrics(SolaceSessionPool solaceSessionPool) {
+      return new SolaceSessionPoolMetrics(solaceSessionPool);
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package com.solace.spring.boot.autoconfigure;
+
+import com.solacesystems.jcsmp.SolaceSessionStatsMetrics;
+import com.solacesystems.jcsmp.SpringJCSMPFactory;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class publishing the statistics of sessions. This configuration is only active
+ * when Micrometer is on the classpath, unless the 'solace.java.sessionStats.enabled' property is
+ * set to 'false'.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(MeterBinder.class)
+@ConditionalOnProperty(prefix = "solace.java.session-stats", name = "enabled",
+    havingValue = "true", matchIfMissing = true)
+public final class SolaceSessionStatsConfiguration {
+
+  /**
+   * Publishes the statistics of the sessions created by the {@link SpringJCSMPFactory}.
+   *
+   * @param springJCSMPFactory   The factory whose sessions are published.
+   * @param solaceJavaProperties The Solace Java properties holding the sample interval.
+   * @return Configured SolaceSessionStatsMetrics.
+   */
+  @Bean
+  SolaceSessionStatsMetrics solaceSessionStatsMetrics(SpringJCSMPFactory springJCSMPFactory,
+      SolaceJavaProperties solaceJavaProperties) {
+    final SolaceSessionStatsMetrics metrics = new SolaceSessionStatsMetrics(
+        solaceJavaProperties.getSessionStats().getSampleIntervalInMillis());
+    springJCSMPFactory.addSessionListener(metrics);
+    return metrics;
+  }
+}
@@ -0,0 +1,48 @@
+package com.solace.spring.boot.autoconfigure;
+
+import com.solacesystems.jcsmp.JCSMPStreamingPublishCorrelatingEventHandler;
+import com.solacesystems.jcsmp.SolaceSessionPool;
+import com.solacesystems.jcsmp.SolaceSessionWarmup;
+import com.solacesystems.jcsmp.SpringJCSMPFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.Nullable;
+
+/**
+ * Configuration class for the Solace session warm-up. This configuration is only active when the
+ * 'solace.java.warmup.sessions' property is set. Warmed-up sessions are handed to the session pool,
+ * so warming up sessions requires 'solace.java.pool.enabled' to be set to 'true'.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "solace.java.warmup", name = "sessions")
+public final class SolaceSessionWarmupConfiguration {
+
+  /**
+   * Creates the lifecycle bean connecting sessions while the application starts.
+   *
+   * @param springJCSMPFactory   The factory used to create the sessions.
+   * @param solaceJavaProperties The Solace Java properties holding the warm-up settings.
+   * @param solaceSessionPool    The session pool receiving the warmed-up sessions, if enabled.
+   * @param publishEventHandler  The publish event handler of warmed-up producers, if any.
+   * @return Configured SolaceSessionWarmup.
+   * @throws IllegalStateException if sessions are to be warmed up but the session pool is not
+   *                               enabled
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  SolaceSessionWarmup solaceSessionWarmup(SpringJCSMPFactory springJCSMPFactory,
+      SolaceJavaProperties solaceJavaProperties,
+      @Nullable SolaceSessionPool solaceSessionPool,
+      @Nullable JCSMPStreamingPublishCorrelatingEventHandler publishEventHandler) {
+    if (solaceSessionPool == null && solaceJavaProperties.getWarmup().getSessions() > 0) {
+      //nothing but the pool hands warmed-up sessions to the code sending and receiving messages
+      throw new IllegalStateException(
+          "solace.java.warmup.sessions requires solace.java.pool.enabled=true, the warmed-up "
+              + "sessions are handed to the session pool");
+    }
+    return new SolaceSessionWarmup(springJCSMPFactory, solaceJavaProperties.getWarmup(),
+        solaceSessionPool, publishEventHandler);
+  }
+}
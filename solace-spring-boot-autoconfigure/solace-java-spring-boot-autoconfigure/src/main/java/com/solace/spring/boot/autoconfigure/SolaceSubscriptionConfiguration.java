@@ -0,0 +1,54 @@
+package com.solace.spring.boot.autoconfigure;
+
+import com.solacesystems.jcsmp.SolaceSubscriptionManager;
+import com.solacesystems.jcsmp.SolaceSubscriptionRegistry;
+import com.solacesystems.jcsmp.SpringJCSMPFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.Nullable;
+
+/**
+ * Configuration class for the {@link SolaceSubscriptionManager}, which registers the subscriptions
+ * configured under 'solace.java.subscriptions' in bulk, and for the
+ * {@link SolaceSubscriptionRegistry} sharing a session between subscribing components. No session
+ * is opened at startup unless queue or session subscriptions are configured.
+ */
+@Configuration(proxyBeanMethods = false)
+public final class SolaceSubscriptionConfiguration {
+
+  /**
+   * Creates the manager registering subscriptions in bulk.
+   *
+   * @param springJCSMPFactory         The factory used to create the session adding queue
+   *                                   subscriptions.
+   * @param solaceJavaProperties       The Solace Java properties holding the subscriptions.
+   * @param solaceSubscriptionRegistry The registry holding the session subscriptions, if any.
+   * @return Configured SolaceSubscriptionManager.
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  SolaceSubscriptionManager solaceSubscriptionManager(SpringJCSMPFactory springJCSMPFactory,
+      SolaceJavaProperties solaceJavaProperties,
+      @Nullable SolaceSubscriptionRegistry solaceSubscriptionRegistry) {
+    return new SolaceSubscriptionManager(springJCSMPFactory,
+        solaceJavaProperties.getSubscriptions(), solaceSubscriptionRegistry);
+  }
+
+  /**
+   * Creates the registry sharing a session between the components subscribing to topics, which
+   * holds the configured session subscriptions. The session is connected at startup if session
+   * subscriptions are configured, otherwise on the first registration.
+   *
+   * @param springJCSMPFactory   The factory used to create the shared session.
+   * @param solaceJavaProperties The Solace Java properties holding the session subscriptions.
+   * @return Configured SolaceSubscriptionRegistry.
+   */
+  @Bean(destroyMethod = "close")
+  @ConditionalOnMissingBean
+  SolaceSubscriptionRegistry solaceSubscriptionRegistry(SpringJCSMPFactory springJCSMPFactory,
+      SolaceJavaProperties solaceJavaProperties) {
+    return new SolaceSubscriptionRegistry(springJCSMPFactory,
+        solaceJavaProperties.getSubscriptions().getTopics());
+  }
+}
@@ -0,0 +1,67 @@
+package com.solace.spring.boot.autoconfigure;
+
+import com.solacesystems.jcsmp.JCSMPStreamingPublishCorrelatingEventHandler;
+import com.solacesystems.jcsmp.JacksonSolaceMessageConverter;
+import com.solacesystems.jcsmp.SimpleSolaceMessageConverter;
+import com.solacesystems.jcsmp.SolaceMessageConverter;
+import com.solacesystems.jcsmp.SolaceTemplate;
+import com.solacesystems.jcsmp.SpringJCSMPFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.Nullable;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Configuration class for the {@link SolaceTemplate}. The template connects its session on the
+ * first send, so that applications which do not publish through it never open a session for it.
+ */
+@Configuration(proxyBeanMethods = false)
+public final class SolaceTemplateConfiguration {
+
+  /**
+   * Creates the default message converter when Jackson is not on the classpath.
+   *
+   * @return Configured SolaceMessageConverter.
+   */
+  @Bean
+  @ConditionalOnMissingBean
+  SolaceMessageConverter solaceMessageConverter() {
+    return new SimpleSolaceMessageConverter();
+  }
+
+  /**
+   * Creates the publishing facade over a long-lived session.
+   *
+   * @param springJCSMPFactory  The factory used to create the session of the template.
+   * @param publishEventHandler The publish event handler of the template's producer, if any.
+   * @param messageConverter    The converter used to create messages from payloads.
+   * @return Configured SolaceTemplate.
+   */
+  @Bean(destroyMethod = "close")
+  @ConditionalOnMissingBean
+  SolaceTemplate solaceTemplate(SpringJCSMPFactory springJCSMPFactory,
+      @Nullable JCSMPStreamingPublishCorrelatingEventHandler publishEventHandler,
+      SolaceMessageConverter messageConverter) {
+    return new SolaceTemplate(springJCSMPFactory, publishEventHandler, messageConverter);
+  }
+
+  /**
+   * Converts application objects to JSON when Jackson is on the classpath, using the application's
+   * {@link ObjectMapper} if there is one.
+   */
+  @Configuration(proxyBeanMethods = false)
+  @ConditionalOnClass(ObjectMapper.class)
+  static class JacksonSolaceMessageConverterConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(SolaceMessageConverter.class)
+    JacksonSolaceMessageConverter jacksonSolaceMessageConverter(
+        ObjectProvider<ObjectMapper> objectMapper) {
+      return new JacksonSolaceMessageConverter(objectMapper.getIfAvailable(JsonMapper::new));
+    }
+  }
+}
@@ -0,0 +1,113 @@
+package com.solacesystems.jcsmp;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+
+/**
+ * {@link SolaceMessageConverter} which maps application objects to JSON {@link BytesMessage}s
+ * with Jackson. {@code String}, {@code byte[]}, {@link ByteBuffer} and {@link XMLMessage} payloads
+ * are handled as by the {@link SimpleSolaceMessageConverter}.
+ * <p>
+ * An {@link ObjectReader} and an {@link ObjectWriter} are created once per payload type and cached.
+ * JSON is parsed from the binary attachment of the received message in place when the attachment
+ * is backed by an array, and otherwise from a per-thread buffer which is reused across messages,
+ * so that reading a payload does not copy it into a new array.
+ * </p>
+ */
+public class JacksonSolaceMessageConverter extends SimpleSolaceMessageConverter {
+
+  /**
+   * The HTTP content type set on messages created by this converter.
+   */
+  public static final String CONTENT_TYPE = "application/json";
+
+  //per-thread buffers larger than this are not retained, to bound the memory held by idle threads
+  private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+  private final ObjectMapper objectMapper;
+  private final ConcurrentMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+  private final ThreadLocal<byte[]> buffers = new ThreadLocal<>();
+
+  /**
+   * Constructs a new JacksonSolaceMessageConverter.
+   *
+   * @param objectMapper the mapper used to read and write JSON payloads
+   */
+  public JacksonSolaceMessageConverter(ObjectMapper objectMapper) {
+    this.objectMapper = Objects.requireNonNull(objectMapper);
+  }
+
+  @Override
+  public XMLMessage toMessage(Object payload) {
+    if (payload == null || payload instanceof XMLMessage || payload instanceof String
+        || payload instanceof byte[] || payload instanceof ByteBuffer) {
+      return super.toMessage(payload);
+    }
+    final byte[] json;
+    try {
+      json = writers.computeIfAbsent(payload.getClass(), objectMapper::writerFor)
+          .writeValueAsBytes(payload);
+    } catch (JacksonException e) {
+      throw new IllegalArgumentException(String.format("Unable to write payload of type %s as JSON",
+          payload.getClass().getName()), e);
+    }
+    final BytesMessage message = JCSMPFactory.onlyInstance().createMessage(BytesMessage.class);
+    message.setData(json);
+    message.setHTTPContentType(CONTENT_TYPE);
+    return message;
+  }
+
+  @Override
+  public <T> T fromMessage(BytesXMLMessage message, Class<T> targetType) {
+    if (targetType == Object.class || targetType.isInstance(message)
+        || targetType == String.class || targetType == byte[].class
+        || targetType == ByteBuffer.class) {
+      return super.fromMessage(message, targetType);
+    }
+    final ObjectReader reader = readers.computeIfAbsent(targetType, objectMapper::readerFor);
+    try {
+      if (message instanceof TextMessage) {
+        return reader.readValue(((TextMessage) message).getText());
+      }
+      final ByteBuffer attachment = attachmentBuffer(message);
+      if (attachment.hasArray()) {
+        return reader.readValue(attachment.array(),
+            attachment.arrayOffset() + attachment.position(), attachment.remaining());
+      }
+      final int length = attachment.remaining();
+      final byte[] buffer = borrowBuffer(length);
+      attachment.get(buffer, 0, length);
+      return reader.readValue(buffer, 0, length);
+    } catch (JacksonException e) {
+      throw new IllegalArgumentException(String.format("Unable to read JSON payload as %s",
+          targetType.getName()), e);
+    }
+  }
+
+  private byte[] borrowBuffer(int length) {
+    byte[] buffer = buffers.get();
+    if (buffer == null || buffer.length < length) {
+      buffer = new byte[Math.max(length, 4096)];
+      if (buffer.length <= MAX_RETAINED_BUFFER_SIZE) {
+        buffers.set(buffer);
+      }
+    }
+    return buffer;
+  }
+
+  /**
+   * Returns the mapper used to read and write JSON payloads.
+   *
+   * @return the object mapper
+   */
+  public ObjectMapper getObjectMapper() {
+    return objectMapper;
+  }
+}
@@ -0,0 +1,46 @@
+package com.solacesystems.jcsmp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Publish event handler which logs acknowledgements and errors on behalf of the component owning
+ * a producer, used when no publish event handler is configured.
+ */
+class LoggingPublishEventHandler implements JCSMPStreamingPublishCorrelatingEventHandler {
+
+  private final Logger logger;
+  private final String ownerName;
+
+  /**
+   * Constructs a new LoggingPublishEventHandler.
+   *
+   * @param owner the class of the component owning the producer, whose logger is used
+   */
+  LoggingPublishEventHandler(Class<?> owner) {
+    this.logger = LoggerFactory.getLogger(owner);
+    this.ownerName = owner.getSimpleName();
+  }
+
+  @Override
+  public void responseReceivedEx(Object key) {
+    if (logger.isDebugEnabled()) {
+      logger.debug("{} received response for msg: {}", ownerName, key);
+    }
+  }
+
+  @Override
+  public void handleErrorEx(Object key, JCSMPException cause, long timestamp) {
+    logger.warn("{} received error for msg: {}@{}", ownerName, key, timestamp, cause);
+  }
+
+  @Override
+  public void responseReceived(String messageID) {
+    responseReceivedEx(messageID);
+  }
+
+  @Override
+  public void handleError(String messageID, JCSMPException cause, long timestamp) {
+    handleErrorEx(messageID, cause, timestamp);
+  }
+}
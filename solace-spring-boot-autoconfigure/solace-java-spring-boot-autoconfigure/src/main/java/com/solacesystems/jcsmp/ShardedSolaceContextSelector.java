@@ -0,0 +1,140 @@
+package com.solacesystems.jcsmp;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link SolaceContextSelector} which spreads sessions over a fixed number of contexts, so that
+ * the I/O and message dispatch of many sessions is not funneled through the single context thread
+ * of the default context.
+ */
+public class ShardedSolaceContextSelector implements SolaceContextSelector, AutoCloseable {
+
+  /**
+   * The strategy used to assign new sessions to contexts.
+   */
+  public enum Strategy {
+    /** Assigns sessions to contexts in turn. */
+    ROUND_ROBIN,
+    /** Assigns sessions to the context with the fewest open sessions. */
+    LEAST_LOADED
+  }
+
+  private final List<Context> contexts;
+  private final List<Set<JCSMPSession>> sessionsPerContext;
+  private final Strategy strategy;
+  private final AtomicInteger nextIndex = new AtomicInteger();
+
+  /**
+   * Constructs a new ShardedSolaceContextSelector, creating the given number of contexts with
+   * default context properties.
+   *
+   * @param count    the number of contexts to create
+   * @param strategy the strategy used to assign new sessions to contexts
+   */
+  public ShardedSolaceContextSelector(int count, Strategy strategy) {
+    this(createContexts(count), strategy);
+  }
+
+  /**
+   * Constructs a new ShardedSolaceContextSelector spreading sessions over the given contexts.
+   *
+   * @param contexts the contexts to spread sessions over, destroyed when this selector is closed
+   * @param strategy the strategy used to assign new sessions to contexts
+   */
+  public ShardedSolaceContextSelector(List<Context> contexts, Strategy strategy) {
+    Objects.requireNonNull(contexts);
+    Objects.requireNonNull(strategy);
+    if (contexts.isEmpty()) {
+      throw new IllegalArgumentException("At least one context is required");
+    }
+
+    final List<Set<JCSMPSession>> sessionSets = new ArrayList<>(contexts.size());
+    for (int i = 0; i < contexts.size(); i++) {
+      sessionSets.add(ConcurrentHashMap.newKeySet());
+    }
+    this.contexts = Collections.unmodifiableList(new ArrayList<>(contexts));
+    this.sessionsPerContext = Collections.unmodifiableList(sessionSets);
+    this.strategy = strategy;
+  }
+
+  private static List<Context> createContexts(int count) {
+    if (count < 1) {
+      throw new IllegalArgumentException("Context count must be at least 1");
+    }
+    final List<Context> contexts = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      contexts.add(JCSMPFactory.onlyInstance().createContext(new ContextProperties()));
+    }
+    return contexts;
+  }
+
+  @Override
+  public Context selectContext() {
+    if (strategy == Strategy.LEAST_LOADED) {
+      return contexts.get(leastLoadedIndex());
+    }
+    return contexts.get(Math.floorMod(nextIndex.getAndIncrement(), contexts.size()));
+  }
+
+  @Override
+  public void onSessionCreated(Context context, JCSMPSession session) {
+    final int index = contexts.indexOf(context);
+    if (index >= 0) {
+      sessionsPerContext.get(index).add(session);
+    }
+  }
+
+  private int leastLoadedIndex() {
+    //start the scan at a rotating offset so that ties are spread over all contexts
+    final int offset = Math.floorMod(nextIndex.getAndIncrement(), contexts.size());
+    int selected = offset;
+    int selectedLoad = Integer.MAX_VALUE;
+    for (int i = 0; i < contexts.size(); i++) {
+      final int index = (offset + i) % contexts.size();
+      final int load = getOpenSessionCount(index);
+      if (load < selectedLoad) {
+        selected = index;
+        selectedLoad = load;
+      }
+    }
+    return selected;
+  }
+
+  /**
+   * Returns the number of sessions created in the context at the given index which are not yet
+   * closed.
+   *
+   * @param index the index of the context
+   * @return the number of open sessions in the context
+   */
+  public int getOpenSessionCount(int index) {
+    final Set<JCSMPSession> sessions = sessionsPerContext.get(index);
+    sessions.removeIf(JCSMPSession::isClosed);
+    return sessions.size();
+  }
+
+  /**
+   * Returns the contexts that sessions are spread over.
+   *
+   * @return the contexts managed by this selector
+   */
+  public List<Context> getContexts() {
+    return contexts;
+  }
+
+  /**
+   * Destroys all contexts managed by this selector, which closes the sessions created in them.
+   */
+  @Override
+  public void close() {
+    for (Context context : contexts) {
+      context.destroy();
+    }
+  }
+}
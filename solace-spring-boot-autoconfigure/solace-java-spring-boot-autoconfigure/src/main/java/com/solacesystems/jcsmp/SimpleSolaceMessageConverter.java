@@ -0,0 +1,105 @@
+package com.solacesystems.jcsmp;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link SolaceMessageConverter} which maps {@code String} payloads to {@link TextMessage}s and
+ * {@code byte[]} and {@link ByteBuffer} payloads to {@link BytesMessage}s. {@link XMLMessage}
+ * payloads are passed through as is.
+ * <p>
+ * Payloads converted to {@link ByteBuffer} are read-only views of the binary attachment of the
+ * received message, which are not copied and remain valid as long as the message is referenced.
+ * </p>
+ */
+public class SimpleSolaceMessageConverter implements SolaceMessageConverter {
+
+  private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+  @Override
+  public XMLMessage toMessage(Object payload) {
+    if (payload instanceof XMLMessage) {
+      return (XMLMessage) payload;
+    }
+    if (payload instanceof String) {
+      final TextMessage message = JCSMPFactory.onlyInstance().createMessage(TextMessage.class);
+      message.setText((String) payload);
+      return message;
+    }
+    if (payload instanceof byte[]) {
+      final BytesMessage message = JCSMPFactory.onlyInstance().createMessage(BytesMessage.class);
+      message.setData((byte[]) payload);
+      return message;
+    }
+    if (payload instanceof ByteBuffer) {
+      final BytesMessage message = JCSMPFactory.onlyInstance().createMessage(BytesMessage.class);
+      message.setData(toByteArray((ByteBuffer) payload));
+      return message;
+    }
+    throw new IllegalArgumentException(String.format("Unsupported payload type %s",
+        payload == null ? null : payload.getClass().getName()));
+  }
+
+  @Override
+  public Object fromMessage(BytesXMLMessage message) {
+    if (message instanceof TextMessage) {
+      return ((TextMessage) message).getText();
+    }
+    if (message instanceof BytesMessage) {
+      return ((BytesMessage) message).getData();
+    }
+    return message;
+  }
+
+  @Override
+  public <T> T fromMessage(BytesXMLMessage message, Class<T> targetType) {
+    if (targetType == Object.class) {
+      return targetType.cast(fromMessage(message));
+    }
+    if (targetType.isInstance(message)) {
+      return targetType.cast(message);
+    }
+    if (targetType == ByteBuffer.class) {
+      return targetType.cast(attachmentBuffer(message).asReadOnlyBuffer());
+    }
+    if (targetType == String.class && !(message instanceof TextMessage)) {
+      return targetType.cast(decodeUtf8(attachmentBuffer(message)));
+    }
+    if (targetType == byte[].class && !(message instanceof BytesMessage)) {
+      return targetType.cast(toByteArray(attachmentBuffer(message)));
+    }
+    return SolaceMessageConverter.super.fromMessage(message, targetType);
+  }
+
+  /**
+   * Returns the binary attachment of a message without copying it. The buffer shares the content
+   * of the message, and must not be modified.
+   *
+   * @param message the received message
+   * @return the binary attachment, or an empty buffer if the message has none
+   */
+  public static ByteBuffer attachmentBuffer(XMLMessage message) {
+    final ByteBuffer buffer = message.getAttachmentByteBuffer();
+    return buffer != null ? buffer.duplicate() : EMPTY.duplicate();
+  }
+
+  /**
+   * Decodes a UTF-8 payload, reading heap buffers in place.
+   *
+   * @param buffer the payload
+   * @return the decoded string
+   */
+  static String decodeUtf8(ByteBuffer buffer) {
+    if (buffer.hasArray()) {
+      return new String(buffer.array(), buffer.arrayOffset() + buffer.position(),
+          buffer.remaining(), StandardCharsets.UTF_8);
+    }
+    return StandardCharsets.UTF_8.decode(buffer.duplicate()).toString();
+  }
+
+  private static byte[] toByteArray(ByteBuffer buffer) {
+    final byte[] data = new byte[buffer.remaining()];
+    buffer.duplicate().get(data);
+    return data;
+  }
+}
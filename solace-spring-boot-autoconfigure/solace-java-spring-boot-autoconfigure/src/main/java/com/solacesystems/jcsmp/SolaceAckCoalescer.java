@@ -0,0 +1,169 @@
+package com.solacesystems.jcsmp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Accumulates client acknowledgements of guaranteed messages and applies them in bulk, once the
+ * number of pending acknowledgements reaches the max pending count, or once the oldest of them has
+ * waited for the max delay. Listener threads then only append to a list, instead of each
+ * acknowledging every message through the flow.
+ * <p>
+ * Messages whose acknowledgement is pending are still unacknowledged for the message router, and
+ * are redelivered if the flow goes down before the acknowledgements are applied, which preserves
+ * at-least-once delivery. Pending acknowledgements are applied by {@link #flush()} and on
+ * {@link #close()}, so that consumers should flush before closing their flows to avoid
+ * redeliveries. The max pending count must stay below the window size of the flows, as the message
+ * router stops delivering messages to a flow once a window of messages is unacknowledged.
+ * </p>
+ */
+public class SolaceAckCoalescer implements AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(SolaceAckCoalescer.class);
+
+  private final int maxPending;
+  private final long maxDelayNanos;
+  private final Object lock = new Object();
+  private final Object flushLock = new Object();
+  private final ScheduledExecutorService scheduler;
+
+  //guarded by lock, swapped with the flushing list on every flush to avoid allocations
+  private List<BytesXMLMessage> pending;
+  private long oldestPendingNanos;
+  //guarded by flushLock
+  private List<BytesXMLMessage> flushing;
+  private volatile int pendingCount;
+
+  private final LongAdder ackCount = new LongAdder();
+  private final LongAdder flushCount = new LongAdder();
+
+  /**
+   * Constructs a new SolaceAckCoalescer and starts the thread applying acknowledgements which have
+   * waited for the max delay.
+   *
+   * @param maxPending       the number of pending acknowledgements which triggers a flush
+   * @param maxDelayInMillis how long an acknowledgement may be pending before it is applied
+   */
+  public SolaceAckCoalescer(int maxPending, long maxDelayInMillis) {
+    if (maxPending < 1) {
+      throw new IllegalArgumentException("Max pending acknowledgements must be at least 1");
+    }
+    if (maxDelayInMillis < 1) {
+      throw new IllegalArgumentException("Max acknowledgement delay must be at least 1 ms");
+    }
+    this.maxPending = maxPending;
+    this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayInMillis);
+    this.pending = new ArrayList<>(maxPending);
+    this.flushing = new ArrayList<>(maxPending);
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      final Thread thread = new Thread(r, "solace-ack-coalescer");
+      thread.setDaemon(true);
+      return thread;
+    });
+    final long period = Math.max(1, maxDelayInMillis / 2);
+    scheduler.scheduleWithFixedDelay(this::flushExpired, period, period, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Queues the acknowledgement of a message consumed in client acknowledgement mode, applying all
+   * pending acknowledgements if the max pending count is reached.
+   *
+   * @param message the message to acknowledge
+   */
+  public void acknowledge(BytesXMLMessage message) {
+    final boolean full;
+    synchronized (lock) {
+      if (pending.isEmpty()) {
+        oldestPendingNanos = System.nanoTime();
+      }
+      pending.add(message);
+      pendingCount = pending.size();
+      full = pending.size() >= maxPending;
+    }
+    if (full) {
+      flush();
+    }
+  }
+
+  private void flushExpired() {
+    final boolean expired;
+    synchronized (lock) {
+      expired = !pending.isEmpty() && System.nanoTime() - oldestPendingNanos >= maxDelayNanos;
+    }
+    if (expired) {
+      flush();
+    }
+  }
+
+  /**
+   * Applies all pending acknowledgements.
+   */
+  public void flush() {
+    synchronized (flushLock) {
+      synchronized (lock) {
+        if (pending.isEmpty()) {
+          return;
+        }
+        final List<BytesXMLMessage> swapped = flushing;
+        flushing = pending;
+        pending = swapped;
+        pendingCount = 0;
+      }
+      final int size = flushing.size();
+      for (int i = 0; i < size; i++) {
+        try {
+          flushing.get(i).ackMessage();
+        } catch (RuntimeException e) {
+          logger.warn("Unable to acknowledge message {}", flushing.get(i).getMessageId(), e);
+        }
+      }
+      flushing.clear();
+      ackCount.add(size);
+      flushCount.increment();
+    }
+  }
+
+  /**
+   * Stops the flush thread and applies all pending acknowledgements.
+   */
+  @Override
+  public void close() {
+    scheduler.shutdown();
+    try {
+      scheduler.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    flush();
+  }
+
+  /**
+   * Returns the number of acknowledgements not yet applied.
+   * @return the pending acknowledgement count
+   */
+  public int getPendingCount() {
+    return pendingCount;
+  }
+
+  /**
+   * Returns the number of acknowledgements applied.
+   * @return the ack count
+   */
+  public long getAckCount() {
+    return ackCount.sum();
+  }
+
+  /**
+   * Returns the number of times pending acknowledgements were applied.
+   * @return the flush count
+   */
+  public long getFlushCount() {
+    return flushCount.sum();
+  }
+}
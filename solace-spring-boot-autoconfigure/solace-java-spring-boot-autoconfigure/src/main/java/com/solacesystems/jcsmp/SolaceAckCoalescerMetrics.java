@@ -0,0 +1,40 @@
+package com.solacesystems.jcsmp;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Objects;
+
+/**
+ * Micrometer {@link MeterBinder} publishing the pending and applied acknowledgements of a
+ * {@link SolaceAckCoalescer}.
+ */
+public class SolaceAckCoalescerMetrics implements MeterBinder {
+
+  private final SolaceAckCoalescer solaceAckCoalescer;
+
+  /**
+   * Constructs a new SolaceAckCoalescerMetrics for the given coalescer.
+   *
+   * @param solaceAckCoalescer the coalescer to instrument
+   */
+  public SolaceAckCoalescerMetrics(SolaceAckCoalescer solaceAckCoalescer) {
+    this.solaceAckCoalescer = Objects.requireNonNull(solaceAckCoalescer);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("solace.ack.pending", solaceAckCoalescer, SolaceAckCoalescer::getPendingCount)
+        .description("Processed guaranteed messages whose acknowledgement is not yet applied")
+        .register(registry);
+    FunctionCounter.builder("solace.ack.acknowledged", solaceAckCoalescer,
+            SolaceAckCoalescer::getAckCount)
+        .description("Guaranteed messages acknowledged through the coalescer")
+        .register(registry);
+    FunctionCounter.builder("solace.ack.flushes", solaceAckCoalescer,
+            SolaceAckCoalescer::getFlushCount)
+        .description("Times pending acknowledgements were applied")
+        .register(registry);
+  }
+}
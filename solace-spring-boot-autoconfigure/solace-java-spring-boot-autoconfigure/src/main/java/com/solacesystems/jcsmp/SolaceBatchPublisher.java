@@ -0,0 +1,323 @@
+package com.solacesystems.jcsmp;
+
+import com.solace.spring.boot.autoconfigure.SolaceJavaProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+
+/**
+ * Publisher which accumulates messages and sends them in batches through
+ * {@link XMLMessageProducer#sendMultiple(JCSMPSendMultipleEntry[], int, int, int)}. A batch is sent
+ * as soon as it reaches the batch size, or once the linger time has passed since its first message
+ * was queued, trading a bounded amount of latency for a higher message rate.
+ * <p>
+ * Messages are queued in a bounded queue. When the queue is full, {@link #send(XMLMessage,
+ * Destination)} blocks for up to the send timeout before failing, so that producers are slowed
+ * down to the rate at which batches can be sent. Messages of a batch which could not be sent are
+ * reported to the publish event handler.
+ * </p>
+ * <p>
+ * When the publish event handler is a {@link SolacePublishCorrelator}, the guaranteed messages of
+ * a batch are correlated by it just before the batch is sent, so that their acknowledgement
+ * latency is recorded. Their correlation keys are replaced by keys of the correlator.
+ * </p>
+ */
+public class SolaceBatchPublisher implements AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(SolaceBatchPublisher.class);
+
+  /**
+   * The maximum number of messages JCSMP accepts in a single {@code sendMultiple} call.
+   */
+  public static final int MAX_BATCH_SIZE = 50;
+
+  //how long the flusher waits for a message before checking whether it was closed
+  private static final long POLL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final SpringJCSMPFactory springJCSMPFactory;
+  private final JCSMPStreamingPublishCorrelatingEventHandler publishEventHandler;
+  private final int batchSize;
+  private final long lingerNanos;
+  private final long sendTimeoutInMillis;
+  private final BlockingQueue<PendingMessage> queue;
+  //owned by the flusher thread, entries are reused for every batch
+  private final JCSMPSendMultipleEntry[] entries;
+  private final List<PendingMessage> batch;
+  private final Thread flusher;
+
+  private JCSMPSession session;
+  private XMLMessageProducer producer;
+  private volatile boolean closed;
+
+  private final LongAdder batchCount = new LongAdder();
+  private final LongAdder sentCount = new LongAdder();
+  private final LongAdder failedCount = new LongAdder();
+
+  /**
+   * Constructs a new SolaceBatchPublisher and starts its flusher thread. The session of the
+   * publisher is created and connected when the first batch is sent.
+   *
+   * @param springJCSMPFactory  the factory used to create the session of this publisher
+   * @param settings            the batching settings, copied at construction time
+   * @param publishEventHandler the handler of publish acknowledgements and errors, or {@code null}
+   *                            to log them
+   */
+  public SolaceBatchPublisher(SpringJCSMPFactory springJCSMPFactory,
+      SolaceJavaProperties.BatchPublisher settings,
+      @Nullable JCSMPStreamingPublishCorrelatingEventHandler publishEventHandler) {
+    Objects.requireNonNull(springJCSMPFactory);
+    Objects.requireNonNull(settings);
+    if (settings.getBatchSize() < 1 || settings.getBatchSize() > MAX_BATCH_SIZE) {
+      throw new IllegalArgumentException(String.format(
+          "Batch size must be between 1 and %d", MAX_BATCH_SIZE));
+    }
+    if (settings.getQueueCapacity() < settings.getBatchSize()) {
+      throw new IllegalArgumentException("Queue capacity must be at least the batch size");
+    }
+
+    this.springJCSMPFactory = springJCSMPFactory;
+    this.publishEventHandler = publishEventHandler != null ? publishEventHandler
+        : new LoggingPublishEventHandler(SolaceBatchPublisher.class);
+    this.batchSize = settings.getBatchSize();
+    this.lingerNanos = TimeUnit.MICROSECONDS.toNanos(Math.max(0, settings.getLingerInMicros()));
+    this.sendTimeoutInMillis = settings.getSendTimeoutInMillis();
+    this.queue = new ArrayBlockingQueue<>(settings.getQueueCapacity());
+    this.entries = new JCSMPSendMultipleEntry[batchSize];
+    for (int i = 0; i < batchSize; i++) {
+      entries[i] = JCSMPFactory.onlyInstance().createSendMultipleEntry(null, null);
+    }
+    this.batch = new ArrayList<>(batchSize);
+
+    this.flusher = new Thread(this::runFlusher, "solace-batch-publisher");
+    this.flusher.setDaemon(true);
+    this.flusher.start();
+  }
+
+  /**
+   * Queues a message to be sent to the given destination with the next batch.
+   *
+   * @param message     the message to send, using the delivery mode set on the message
+   * @param destination the destination of the message
+   * @throws JCSMPException if the queue stayed full for the send timeout
+   */
+  public void send(XMLMessage message, Destination destination) throws JCSMPException {
+    if (closed) {
+      throw new IllegalStateException("SolaceBatchPublisher is closed");
+    }
+    final PendingMessage pending = new PendingMessage(message, destination);
+    try {
+      if (!queue.offer(pending, sendTimeoutInMillis, TimeUnit.MILLISECONDS)) {
+        throw new JCSMPException(String.format(
+            "Timed out after %d ms waiting for space in the batch queue", sendTimeoutInMillis));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JCSMPException("Interrupted while waiting for space in the batch queue", e);
+    }
+    //the flusher may have sent its last batch while this message was offered
+    if (closed && !flusher.isAlive() && queue.remove(pending)) {
+      throw new IllegalStateException("SolaceBatchPublisher is closed");
+    }
+  }
+
+  private void runFlusher() {
+    while (!closed) {
+      try {
+        if (collectBatch()) {
+          sendBatch();
+        }
+      } catch (InterruptedException e) {
+        //not used for shutdown, send the collected messages and keep flushing until closed
+        if (!batch.isEmpty()) {
+          sendBatch();
+        }
+      } catch (RuntimeException e) {
+        logger.warn("Unexpected exception in batch publisher", e);
+      }
+    }
+    //closed: send what is left before exiting
+    batch.clear();
+    while (queue.drainTo(batch, batchSize) > 0) {
+      sendBatch();
+      batch.clear();
+    }
+    closeSession();
+  }
+
+  private boolean collectBatch() throws InterruptedException {
+    batch.clear();
+    final PendingMessage first = queue.poll(POLL_INTERVAL_NANOS, TimeUnit.NANOSECONDS);
+    if (first == null) {
+      return false;
+    }
+    batch.add(first);
+    final long deadline = System.nanoTime() + lingerNanos;
+    while (batch.size() < batchSize && !closed) {
+      if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+        continue;
+      }
+      final long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        break;
+      }
+      final PendingMessage next = queue.poll(Math.min(remaining, POLL_INTERVAL_NANOS),
+          TimeUnit.NANOSECONDS);
+      if (next != null) {
+        batch.add(next);
+      }
+    }
+    return true;
+  }
+
+  private void sendBatch() {
+    final int size = batch.size();
+    if (size == 0) {
+      return;
+    }
+    for (int i = 0; i < size; i++) {
+      entries[i].setMessage(batch.get(i).message);
+      entries[i].setDestination(batch.get(i).destination);
+    }
+    int sent = 0;
+    try {
+      final XMLMessageProducer currentProducer = getProducer();
+      if (publishEventHandler instanceof SolacePublishCorrelator) {
+        correlate((SolacePublishCorrelator) publishEventHandler);
+      }
+      sent = currentProducer.sendMultiple(entries, 0, size, 0);
+      if (sent > 0) {
+        batchCount.increment();
+        sentCount.add(sent);
+      }
+      if (sent < size) {
+        reportFailed(batch.subList(sent, size), new JCSMPException(String.format(
+            "Only %d of %d messages of the batch were sent", sent, size)));
+      }
+    } catch (JCSMPException e) {
+      reportFailed(batch.subList(sent, size), e);
+    } finally {
+      for (int i = 0; i < size; i++) {
+        entries[i].setMessage(null);
+        entries[i].setDestination(null);
+      }
+    }
+  }
+
+  private void correlate(SolacePublishCorrelator correlator) throws JCSMPException {
+    for (PendingMessage pending : batch) {
+      if (pending.message.getDeliveryMode() != DeliveryMode.DIRECT) {
+        correlator.correlate(pending.message, pending.destination);
+      }
+    }
+  }
+
+  private void reportFailed(List<PendingMessage> messages, JCSMPException cause) {
+    failedCount.add(messages.size());
+    final long timestamp = System.currentTimeMillis();
+    for (PendingMessage pending : messages) {
+      publishEventHandler.handleErrorEx(pending.message.getCorrelationKey(), cause, timestamp);
+    }
+  }
+
+  private XMLMessageProducer getProducer() throws JCSMPException {
+    if (producer != null && !producer.isClosed()) {
+      return producer;
+    }
+    closeSession();
+
+    final JCSMPSession newSession = springJCSMPFactory.createSession();
+    try {
+      SolaceReconnectPolicy.connect(newSession, springJCSMPFactory.getReconnectPolicy());
+      producer = newSession.getMessageProducer(publishEventHandler);
+    } catch (JCSMPException | RuntimeException e) {
+      newSession.closeSession();
+      throw e;
+    }
+    session = newSession;
+    return producer;
+  }
+
+  private void closeSession() {
+    if (session != null) {
+      session.closeSession();
+      session = null;
+      producer = null;
+    }
+  }
+
+  /**
+   * Stops accepting messages, sends the queued messages and closes the session of this publisher.
+   * Messages which could not be sent before the flusher stopped are reported to the publish event
+   * handler as failed.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    try {
+      flusher.join(TimeUnit.SECONDS.toMillis(30));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (flusher.isAlive()) {
+      logger.warn("Batch publisher did not stop within 30 s, {} messages are still queued",
+          queue.size());
+      return;
+    }
+    //messages offered while the flusher sent its last batch
+    final List<PendingMessage> remaining = new ArrayList<>();
+    queue.drainTo(remaining);
+    if (!remaining.isEmpty()) {
+      reportFailed(remaining, new JCSMPException("SolaceBatchPublisher was closed"));
+    }
+  }
+
+  /**
+   * Returns the number of messages waiting to be sent.
+   * @return the number of queued messages
+   */
+  public int getQueuedCount() {
+    return queue.size();
+  }
+
+  /**
+   * Returns the number of batches sent.
+   * @return the batch count
+   */
+  public long getBatchCount() {
+    return batchCount.sum();
+  }
+
+  /**
+   * Returns the number of messages sent.
+   * @return the sent message count
+   */
+  public long getSentCount() {
+    return sentCount.sum();
+  }
+
+  /**
+   * Returns the number of messages which could not be sent.
+   * @return the failed message count
+   */
+  public long getFailedCount() {
+    return failedCount.sum();
+  }
+
+  private static final class PendingMessage {
+
+    private final XMLMessage message;
+    private final Destination destination;
+
+    private PendingMessage(XMLMessage message, Destination destination) {
+      this.message = Objects.requireNonNull(message);
+      this.destination = Objects.requireNonNull(destination);
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package com.solacesystems.jcsmp;
+
+/**
+ * Selects the {@link Context} in which {@link SpringJCSMPFactory} creates a session when the caller
+ * does not provide one. Refer {@link ShardedSolaceContextSelector} for the default implementation.
+ */
+public interface SolaceContextSelector {
+
+  /**
+   * Selects the context for a session which is about to be created.
+   *
+   * @return The context to create the session in.
+   */
+  Context selectContext();
+
+  /**
+   * Notifies the selector that a session has been created in a context it selected.
+   *
+   * @param context The context returned by {@link #selectContext()}.
+   * @param session The session created in the context.
+   */
+  default void onSessionCreated(Context context, JCSMPSession session) {
+  }
+}
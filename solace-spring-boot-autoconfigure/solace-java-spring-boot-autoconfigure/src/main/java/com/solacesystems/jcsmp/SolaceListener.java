@@ -0,0 +1,90 @@
+package com.solacesystems.jcsmp;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a method as the listener of messages consumed from a queue or from topics. The method must
+ * have a single parameter, which receives either the {@link BytesXMLMessage} or its payload as
+ * converted by the {@link SolaceMessageConverter}.
+ * <p>
+ * Methods whose parameter is a {@link java.util.List} of messages or payloads are batch listeners.
+ * A batch is delivered once it reached the max batch size, or the max batch wait passed since its
+ * first message was received, and all messages of a batch consumed from a queue are acknowledged
+ * together once the method returns.
+ * </p>
+ * <p>
+ * Messages consumed from a queue are acknowledged once the method returns, and settled as
+ * {@link XMLMessage.Outcome#FAILED} if it throws. Attribute values may contain
+ * <code>${...}</code> placeholders.
+ * </p>
+ *
+ * @see SolaceListenerContainer
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SolaceListener {
+
+  /**
+   * The id of the listener container, defaults to the declaring class and method name.
+   *
+   * @return the listener id
+   */
+  String id() default "";
+
+  /**
+   * The queue to consume guaranteed messages from. If topics are given as well, they are added
+   * as subscriptions of the queue when the listener starts.
+   *
+   * @return the queue name
+   */
+  String queue() default "";
+
+  /**
+   * The topics to consume direct messages from, or the topics to subscribe the queue to.
+   *
+   * @return the topic subscriptions
+   */
+  String[] topics() default {};
+
+  /**
+   * The number of flows concurrently consuming from the queue, each bound in its own session.
+   * Ignored for direct topic listeners, which always use a single consumer.
+   *
+   * @return the number of concurrent flows
+   */
+  int concurrency() default 1;
+
+  /**
+   * The key whose messages are processed in order, one of {@code topic-level:<level>},
+   * {@code user-property:<name>} and {@code partition-key}. When set, messages are dispatched to
+   * the lanes of the {@link SolaceOrderedDispatcher}, so that messages with the same key are
+   * processed in order while messages with different keys are processed in parallel. When empty,
+   * messages are processed in parallel without ordering guarantees.
+   *
+   * @return the ordering key expression
+   * @see SolaceOrderingKey#parse(String)
+   */
+  String orderingKey() default "";
+
+  /**
+   * The maximum number of messages delivered to a batch listener at once. Zero uses the
+   * {@code solace.java.listener.batch-max-size} setting.
+   *
+   * @return the max batch size
+   */
+  int maxBatchSize() default 0;
+
+  /**
+   * How long a batch listener waits for a batch to fill up after receiving its first message, in
+   * milliseconds. A negative value uses the {@code solace.java.listener.batch-max-wait-in-millis}
+   * setting.
+   *
+   * @return the max batch wait in milliseconds
+   */
+  long maxBatchWaitInMillis() default -1;
+}
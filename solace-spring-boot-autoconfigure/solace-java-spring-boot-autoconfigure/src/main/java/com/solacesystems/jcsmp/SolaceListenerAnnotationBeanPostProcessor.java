@@ -0,0 +1,136 @@
+package com.solacesystems.jcsmp;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Detects {@link SolaceListener} methods on beans and registers them with the
+ * {@link SolaceListenerContainerRegistry} once all singletons are instantiated.
+ */
+public class SolaceListenerAnnotationBeanPostProcessor
+    implements BeanPostProcessor, BeanFactoryAware, SmartInitializingSingleton {
+
+  private final List<SolaceListenerEndpoint> endpoints = new ArrayList<>();
+  private final Set<Class<?>> nonAnnotatedClasses = ConcurrentHashMap.newKeySet();
+  private BeanFactory beanFactory;
+
+  @Override
+  public void setBeanFactory(BeanFactory beanFactory) {
+    this.beanFactory = beanFactory;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName)
+      throws BeansException {
+    final Class<?> targetClass = AopUtils.getTargetClass(bean);
+    if (nonAnnotatedClasses.contains(targetClass)) {
+      return bean;
+    }
+    final Map<Method, SolaceListener> annotatedMethods = MethodIntrospector.selectMethods(
+        targetClass, (MethodIntrospector.MetadataLookup<SolaceListener>) method ->
+            AnnotatedElementUtils.findMergedAnnotation(method, SolaceListener.class));
+    if (annotatedMethods.isEmpty()) {
+      nonAnnotatedClasses.add(targetClass);
+      return bean;
+    }
+    for (Map.Entry<Method, SolaceListener> entry : annotatedMethods.entrySet()) {
+      final Method invocableMethod = AopUtils.selectInvocableMethod(entry.getKey(),
+          bean.getClass());
+      final SolaceListenerEndpoint endpoint = createEndpoint(bean, invocableMethod,
+          entry.getValue());
+      synchronized (endpoints) {
+        endpoints.add(endpoint);
+      }
+    }
+    return bean;
+  }
+
+  /**
+   * Creates the endpoint of an annotated method, resolving placeholders in the annotation
+   * attributes.
+   *
+   * @param bean       the bean declaring the method
+   * @param method     the listener method
+   * @param annotation the annotation of the method
+   * @return the listener endpoint
+   */
+  protected SolaceListenerEndpoint createEndpoint(Object bean, Method method,
+      SolaceListener annotation) {
+    final SolaceListenerEndpoint endpoint = new SolaceListenerEndpoint(bean, method);
+    if (StringUtils.hasText(annotation.id())) {
+      endpoint.setId(resolve(annotation.id()));
+    }
+    if (StringUtils.hasText(annotation.queue())) {
+      endpoint.setQueue(resolve(annotation.queue()));
+    }
+    final List<String> topics = new ArrayList<>(annotation.topics().length);
+    for (String topic : annotation.topics()) {
+      topics.addAll(Arrays.asList(StringUtils.commaDelimitedListToStringArray(resolve(topic))));
+    }
+    topics.removeIf(topic -> !StringUtils.hasText(topic));
+    endpoint.setTopics(topics);
+    endpoint.setConcurrency(annotation.concurrency());
+    if (StringUtils.hasText(annotation.orderingKey())) {
+      endpoint.setOrderingKey(SolaceOrderingKey.parse(resolve(annotation.orderingKey())));
+    }
+    if (annotation.maxBatchSize() > 0) {
+      endpoint.setMaxBatchSize(annotation.maxBatchSize());
+    }
+    if (annotation.maxBatchWaitInMillis() >= 0) {
+      endpoint.setMaxBatchWaitInMillis(annotation.maxBatchWaitInMillis());
+    }
+    return endpoint;
+  }
+
+  private String resolve(String value) {
+    if (beanFactory instanceof ConfigurableBeanFactory) {
+      final String resolved = ((ConfigurableBeanFactory) beanFactory).resolveEmbeddedValue(value);
+      return resolved != null ? resolved.trim() : null;
+    }
+    return value.trim();
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    final List<SolaceListenerEndpoint> registered;
+    synchronized (endpoints) {
+      registered = new ArrayList<>(endpoints);
+      endpoints.clear();
+    }
+    if (registered.isEmpty()) {
+      return;
+    }
+    final SolaceListenerContainerRegistry registry =
+        beanFactory.getBean(SolaceListenerContainerRegistry.class);
+    for (SolaceListenerEndpoint endpoint : registered) {
+      registry.registerEndpoint(endpoint);
+    }
+  }
+
+  /**
+   * Returns the endpoints detected and not yet registered.
+   *
+   * @return the pending endpoints
+   */
+  List<SolaceListenerEndpoint> getPendingEndpoints() {
+    synchronized (endpoints) {
+      return Collections.unmodifiableList(new ArrayList<>(endpoints));
+    }
+  }
+}
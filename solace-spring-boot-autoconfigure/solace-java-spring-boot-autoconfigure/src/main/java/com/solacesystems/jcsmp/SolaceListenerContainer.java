@@ -0,0 +1,432 @@
+package com.solacesystems.jcsmp;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Consumes messages for a {@link SolaceListenerEndpoint} and invokes its listener method on an
+ * {@link Executor}, so that message processing does not run on, and block, the context thread of
+ * the session.
+ * <p>
+ * Queue listeners bind as many flows as the endpoint's concurrency, each in its own session created
+ * by the {@link SpringJCSMPFactory}, so that the consumers can spread over multiple contexts.
+ * Messages of queue listeners are acknowledged after the listener method returns, and settled as
+ * {@link XMLMessage.Outcome#FAILED} if it throws. Topic listeners consume direct messages through a
+ * single consumer.
+ * </p>
+ * <p>
+ * Endpoints with an ordering key are dispatched to the lanes of a {@link SolaceOrderedDispatcher}
+ * instead of the executor, so that messages with the same key are processed in the order in which
+ * they were received.
+ * </p>
+ * <p>
+ * Batch listeners do not use the executor. Each of their flows, or their topic consumer, is read
+ * synchronously by a dedicated thread, which collects a batch until it reaches the max batch size
+ * or the max batch wait has passed since its first message, invokes the listener method with the
+ * batch, and acknowledges all messages of the batch once the method returns.
+ * </p>
+ * <p>
+ * With a {@link SolaceAckCoalescer}, acknowledgements are queued on the coalescer and applied in
+ * bulk. Pending acknowledgements are applied when the container stops, before its flows are
+ * closed.
+ * </p>
+ */
+public class SolaceListenerContainer {
+
+  private static final Logger logger = LoggerFactory.getLogger(SolaceListenerContainer.class);
+
+  /**
+   * The max batch size of batch listeners which do not declare their own.
+   */
+  public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+  /**
+   * The max batch wait of batch listeners which do not declare their own.
+   */
+  public static final long DEFAULT_MAX_BATCH_WAIT_IN_MILLIS = 50;
+
+  //how long batch receivers block waiting for a first message before checking whether to stop
+  private static final int RECEIVE_TIMEOUT_IN_MILLIS = 500;
+
+  private final SpringJCSMPFactory springJCSMPFactory;
+  private final SolaceListenerEndpoint endpoint;
+  private final Executor executor;
+  private final SolaceOrderedDispatcher orderedDispatcher;
+  private final SolaceMessageConverter messageConverter;
+  private final Method method;
+  private final Class<?> payloadType;
+  private final boolean messageParameter;
+  private final boolean batch;
+
+  private final List<JCSMPSession> sessions = new ArrayList<>();
+  private final List<FlowReceiver> flowReceivers = new ArrayList<>();
+  private final List<Thread> batchReceivers = new ArrayList<>();
+  private XMLMessageConsumer consumer;
+  private volatile SolaceAckCoalescer ackCoalescer;
+  private volatile boolean running;
+
+  /**
+   * Constructs a new SolaceListenerContainer.
+   *
+   * @param springJCSMPFactory the factory used to create the sessions of this container
+   * @param endpoint           the listener to invoke
+   * @param executor           the executor invoking the listener method
+   * @param messageConverter   the converter used when the listener method expects a payload
+   */
+  public SolaceListenerContainer(SpringJCSMPFactory springJCSMPFactory,
+      SolaceListenerEndpoint endpoint, Executor executor,
+      SolaceMessageConverter messageConverter) {
+    this(springJCSMPFactory, endpoint, executor, null, messageConverter);
+  }
+
+  /**
+   * Constructs a new SolaceListenerContainer dispatching ordered endpoints to the given dispatcher.
+   *
+   * @param springJCSMPFactory the factory used to create the sessions of this container
+   * @param endpoint           the listener to invoke
+   * @param executor           the executor invoking the listener method
+   * @param orderedDispatcher  the dispatcher invoking the listener method if the endpoint has an
+   *                           ordering key, or {@code null}
+   * @param messageConverter   the converter used when the listener method expects a payload
+   * @throws IllegalStateException if the endpoint has an ordering key and no dispatcher is given
+   */
+  public SolaceListenerContainer(SpringJCSMPFactory springJCSMPFactory,
+      SolaceListenerEndpoint endpoint, Executor executor,
+      @Nullable SolaceOrderedDispatcher orderedDispatcher,
+      SolaceMessageConverter messageConverter) {
+    this.springJCSMPFactory = Objects.requireNonNull(springJCSMPFactory);
+    this.endpoint = Objects.requireNonNull(endpoint);
+    this.executor = Objects.requireNonNull(executor);
+    this.orderedDispatcher = orderedDispatcher;
+    this.messageConverter = Objects.requireNonNull(messageConverter);
+    endpoint.validate();
+    if (endpoint.getOrderingKey() != null && orderedDispatcher == null) {
+      throw new IllegalStateException(String.format(
+          "Listener %s has an ordering key but no ordered dispatcher is available",
+          endpoint.getId()));
+    }
+    this.method = endpoint.getMethod();
+    this.batch = endpoint.isBatch();
+    this.payloadType = batch
+        ? ResolvableType.forMethodParameter(method, 0).getGeneric(0).resolve(Object.class)
+        : method.getParameterTypes()[0];
+    this.messageParameter = XMLMessage.class.isAssignableFrom(payloadType);
+    ReflectionUtils.makeAccessible(method);
+  }
+
+  /**
+   * Creates the sessions and consumers of this container and starts consuming.
+   *
+   * @throws IllegalStateException if a session, flow or consumer could not be created
+   */
+  public synchronized void start() {
+    if (running) {
+      return;
+    }
+    try {
+      if (endpoint.getQueue() != null) {
+        startFlows();
+      } else {
+        startConsumer();
+      }
+    } catch (JCSMPException e) {
+      closeAll();
+      throw new IllegalStateException(
+          String.format("Unable to start Solace listener %s", endpoint.getId()), e);
+    }
+    running = true;
+    if (batch) {
+      startBatchReceivers();
+    }
+    if (logger.isInfoEnabled()) {
+      logger.info("Started Solace listener {} with {} session(s)", endpoint.getId(),
+          sessions.size());
+    }
+  }
+
+  private void startFlows() throws JCSMPException {
+    final Queue queue = JCSMPFactory.onlyInstance().createQueue(endpoint.getQueue());
+    for (int i = 0; i < endpoint.getConcurrency(); i++) {
+      final JCSMPSession session = createSession();
+      if (i == 0) {
+        SolaceSubscriptionManager.addSubscriptions(session, queue,
+            SolaceSubscriptionManager.createTopics(endpoint.getTopics()), 0);
+      }
+      final ConsumerFlowProperties flowProperties = new ConsumerFlowProperties();
+      flowProperties.setEndpoint(queue);
+      flowProperties.setAckMode(JCSMPProperties.SUPPORTED_MESSAGE_ACK_CLIENT);
+      flowProperties.addRequiredSettlementOutcomes(XMLMessage.Outcome.FAILED);
+      //batch listeners read their flows synchronously
+      flowReceivers.add(session.createFlow(batch ? null : new DispatchingListener(true),
+          flowProperties, null));
+    }
+    for (FlowReceiver flowReceiver : flowReceivers) {
+      flowReceiver.start();
+    }
+  }
+
+  private void startConsumer() throws JCSMPException {
+    final JCSMPSession session = createSession();
+    consumer = session.getMessageConsumer(
+        batch ? (XMLMessageListener) null : new DispatchingListener(false));
+    SolaceSubscriptionManager.addSubscriptions(session,
+        SolaceSubscriptionManager.createTopics(endpoint.getTopics()));
+    consumer.start();
+  }
+
+  private void startBatchReceivers() {
+    if (consumer != null) {
+      startBatchReceiver(consumer, false, 0);
+    }
+    for (int i = 0; i < flowReceivers.size(); i++) {
+      startBatchReceiver(flowReceivers.get(i), true, i);
+    }
+  }
+
+  private void startBatchReceiver(Consumer receiver, boolean clientAck, int index) {
+    final Thread thread = new Thread(new BatchReceiver(receiver, clientAck),
+        "solace-batch-listener-" + endpoint.getId() + "-" + index);
+    thread.setDaemon(true);
+    thread.start();
+    batchReceivers.add(thread);
+  }
+
+  private JCSMPSession createSession() throws JCSMPException {
+    final JCSMPSession session = springJCSMPFactory.createSession(null, null,
+        SolaceSubscriptionManager::reapplySubscriptions);
+    sessions.add(session);
+    SolaceReconnectPolicy.connect(session, springJCSMPFactory.getReconnectPolicy());
+    return session;
+  }
+
+  /**
+   * Stops consuming and closes the sessions of this container. Messages already handed to the
+   * executor are still processed, but can no longer be acknowledged and are redelivered.
+   */
+  public synchronized void stop() {
+    if (!running) {
+      return;
+    }
+    running = false;
+    //let batch receivers finish and acknowledge their current batch before closing the flows
+    for (Thread batchReceiver : batchReceivers) {
+      try {
+        batchReceiver.join(TimeUnit.SECONDS.toMillis(30));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+    batchReceivers.clear();
+    final SolaceAckCoalescer coalescer = ackCoalescer;
+    if (coalescer != null) {
+      coalescer.flush();
+    }
+    closeAll();
+  }
+
+  private void closeAll() {
+    for (FlowReceiver flowReceiver : flowReceivers) {
+      flowReceiver.close();
+    }
+    flowReceivers.clear();
+    if (consumer != null) {
+      consumer.close();
+      consumer = null;
+    }
+    for (JCSMPSession session : sessions) {
+      session.closeSession();
+    }
+    sessions.clear();
+  }
+
+  /**
+   * Sets the coalescer which acknowledgements of consumed guaranteed messages are queued on.
+   *
+   * @param ackCoalescer the coalescer, or {@code null} to acknowledge each message immediately
+   */
+  public void setAckCoalescer(@Nullable SolaceAckCoalescer ackCoalescer) {
+    this.ackCoalescer = ackCoalescer;
+  }
+
+  /**
+   * Returns whether this container is consuming.
+   * @return {@code true} if the container is started
+   */
+  public boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * Returns the endpoint of this container.
+   * @return the listener endpoint
+   */
+  public SolaceListenerEndpoint getEndpoint() {
+    return endpoint;
+  }
+
+  void handle(BytesXMLMessage message, boolean clientAck) {
+    try {
+      invoke(convert(message));
+    } catch (Exception e) {
+      logger.error("Solace listener {} failed to process message {}", endpoint.getId(),
+          message.getMessageId(), e);
+      if (clientAck) {
+        settleFailed(message);
+      }
+      return;
+    }
+    if (clientAck) {
+      acknowledge(message);
+    }
+  }
+
+  void handleBatch(List<BytesXMLMessage> messages, boolean clientAck) {
+    try {
+      final List<Object> argument = new ArrayList<>(messages.size());
+      for (BytesXMLMessage message : messages) {
+        argument.add(convert(message));
+      }
+      invoke(argument);
+    } catch (Exception e) {
+      logger.error("Solace listener {} failed to process batch of {} messages", endpoint.getId(),
+          messages.size(), e);
+      if (clientAck) {
+        for (BytesXMLMessage message : messages) {
+          settleFailed(message);
+        }
+      }
+      return;
+    }
+    if (clientAck) {
+      for (BytesXMLMessage message : messages) {
+        acknowledge(message);
+      }
+    }
+  }
+
+  private Object convert(BytesXMLMessage message) {
+    return messageParameter ? message : messageConverter.fromMessage(message, payloadType);
+  }
+
+  private void invoke(Object argument) throws Exception {
+    try {
+      method.invoke(endpoint.getBean(), argument);
+    } catch (InvocationTargetException e) {
+      if (e.getTargetException() instanceof Error) {
+        throw (Error) e.getTargetException();
+      }
+      throw (Exception) e.getTargetException();
+    }
+  }
+
+  private void acknowledge(BytesXMLMessage message) {
+    final SolaceAckCoalescer coalescer = ackCoalescer;
+    if (coalescer != null) {
+      coalescer.acknowledge(message);
+    } else {
+      message.ackMessage();
+    }
+  }
+
+  private void settleFailed(BytesXMLMessage message) {
+    try {
+      message.settle(XMLMessage.Outcome.FAILED);
+    } catch (JCSMPException e) {
+      logger.warn("Unable to settle message {} as failed", message.getMessageId(), e);
+    }
+  }
+
+  private final class DispatchingListener implements XMLMessageListener {
+
+    private final boolean clientAck;
+
+    private DispatchingListener(boolean clientAck) {
+      this.clientAck = clientAck;
+    }
+
+    @Override
+    public void onReceive(BytesXMLMessage message) {
+      final SolaceOrderingKey orderingKey = endpoint.getOrderingKey();
+      if (orderingKey != null) {
+        orderedDispatcher.execute(orderingKey.extractKey(message),
+            () -> handle(message, clientAck));
+      } else {
+        executor.execute(() -> handle(message, clientAck));
+      }
+    }
+
+    @Override
+    public void onException(JCSMPException e) {
+      logger.warn("Solace listener {} received exception", endpoint.getId(), e);
+    }
+  }
+
+  private final class BatchReceiver implements Runnable {
+
+    private final Consumer receiver;
+    private final boolean clientAck;
+    private final int maxBatchSize;
+    private final long maxBatchWaitNanos;
+
+    private BatchReceiver(Consumer receiver, boolean clientAck) {
+      this.receiver = receiver;
+      this.clientAck = clientAck;
+      this.maxBatchSize = endpoint.getMaxBatchSize() != null ? endpoint.getMaxBatchSize()
+          : DEFAULT_MAX_BATCH_SIZE;
+      this.maxBatchWaitNanos = TimeUnit.MILLISECONDS.toNanos(
+          endpoint.getMaxBatchWaitInMillis() != null ? endpoint.getMaxBatchWaitInMillis()
+              : DEFAULT_MAX_BATCH_WAIT_IN_MILLIS);
+    }
+
+    @Override
+    public void run() {
+      final List<BytesXMLMessage> messages = new ArrayList<>(maxBatchSize);
+      while (running) {
+        boolean closed = false;
+        try {
+          collectBatch(messages);
+        } catch (ClosedFacilityException e) {
+          closed = true;
+        } catch (JCSMPException e) {
+          logger.warn("Solace listener {} failed to receive messages", endpoint.getId(), e);
+        }
+        if (!messages.isEmpty()) {
+          handleBatch(messages, clientAck);
+          messages.clear();
+        }
+        if (closed) {
+          return;
+        }
+      }
+    }
+
+    private void collectBatch(List<BytesXMLMessage> messages) throws JCSMPException {
+      final BytesXMLMessage first = receiver.receive(RECEIVE_TIMEOUT_IN_MILLIS);
+      if (first == null) {
+        return;
+      }
+      messages.add(first);
+      final long deadline = System.nanoTime() + maxBatchWaitNanos;
+      while (messages.size() < maxBatchSize) {
+        final long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        final BytesXMLMessage next = remaining > 0 ? receiver.receive((int) remaining)
+            : receiver.receiveNoWait();
+        if (next == null) {
+          return;
+        }
+        messages.add(next);
+      }
+    }
+  }
+}
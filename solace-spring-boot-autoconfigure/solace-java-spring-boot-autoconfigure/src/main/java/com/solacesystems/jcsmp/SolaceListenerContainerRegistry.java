@@ -0,0 +1,174 @@
+package com.solacesystems.jcsmp;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.lang.Nullable;
+
+/**
+ * Creates a {@link SolaceListenerContainer} for every registered {@link SolaceListenerEndpoint} and
+ * starts and stops them with the application context.
+ */
+public class SolaceListenerContainerRegistry implements SmartLifecycle {
+
+  private final SpringJCSMPFactory springJCSMPFactory;
+  private final Executor executor;
+  private final SolaceOrderedDispatcher orderedDispatcher;
+  private final SolaceMessageConverter messageConverter;
+  private final Map<String, SolaceListenerContainer> containers = new LinkedHashMap<>();
+  private int defaultMaxBatchSize = SolaceListenerContainer.DEFAULT_MAX_BATCH_SIZE;
+  private long defaultMaxBatchWaitInMillis =
+      SolaceListenerContainer.DEFAULT_MAX_BATCH_WAIT_IN_MILLIS;
+  private SolaceAckCoalescer ackCoalescer;
+  private volatile boolean running;
+
+  /**
+   * Constructs a new SolaceListenerContainerRegistry.
+   *
+   * @param springJCSMPFactory the factory used to create the sessions of the containers
+   * @param executor           the executor invoking the listener methods
+   * @param messageConverter   the converter used when a listener method expects a payload
+   */
+  public SolaceListenerContainerRegistry(SpringJCSMPFactory springJCSMPFactory, Executor executor,
+      SolaceMessageConverter messageConverter) {
+    this(springJCSMPFactory, executor, null, messageConverter);
+  }
+
+  /**
+   * Constructs a new SolaceListenerContainerRegistry dispatching endpoints with an ordering key to
+   * the given dispatcher.
+   *
+   * @param springJCSMPFactory the factory used to create the sessions of the containers
+   * @param executor           the executor invoking the listener methods
+   * @param orderedDispatcher  the dispatcher invoking the listener methods of endpoints with an
+   *                           ordering key, or {@code null}
+   * @param messageConverter   the converter used when a listener method expects a payload
+   */
+  public SolaceListenerContainerRegistry(SpringJCSMPFactory springJCSMPFactory, Executor executor,
+      @Nullable SolaceOrderedDispatcher orderedDispatcher,
+      SolaceMessageConverter messageConverter) {
+    this.springJCSMPFactory = Objects.requireNonNull(springJCSMPFactory);
+    this.executor = Objects.requireNonNull(executor);
+    this.orderedDispatcher = orderedDispatcher;
+    this.messageConverter = Objects.requireNonNull(messageConverter);
+  }
+
+  /**
+   * Creates a container for the given endpoint. The container is started right away if this
+   * registry is already running.
+   *
+   * @param endpoint the listener endpoint
+   * @return the container of the endpoint
+   * @throws IllegalStateException if a container with the same id is already registered
+   */
+  public synchronized SolaceListenerContainer registerEndpoint(SolaceListenerEndpoint endpoint) {
+    if (containers.containsKey(endpoint.getId())) {
+      throw new IllegalStateException(String.format(
+          "A Solace listener with id %s is already registered", endpoint.getId()));
+    }
+    if (endpoint.isBatch() && endpoint.getMaxBatchSize() == null) {
+      endpoint.setMaxBatchSize(defaultMaxBatchSize);
+    }
+    if (endpoint.isBatch() && endpoint.getMaxBatchWaitInMillis() == null) {
+      endpoint.setMaxBatchWaitInMillis(defaultMaxBatchWaitInMillis);
+    }
+    final SolaceListenerContainer container = createContainer(endpoint);
+    containers.put(endpoint.getId(), container);
+    if (running) {
+      container.start();
+    }
+    return container;
+  }
+
+  /**
+   * Sets the max batch size of batch listeners which do not declare their own.
+   *
+   * @param defaultMaxBatchSize the default max batch size, at least 1
+   */
+  public synchronized void setDefaultMaxBatchSize(int defaultMaxBatchSize) {
+    if (defaultMaxBatchSize < 1) {
+      throw new IllegalArgumentException("Listener max batch size must be at least 1");
+    }
+    this.defaultMaxBatchSize = defaultMaxBatchSize;
+  }
+
+  /**
+   * Sets the max batch wait of batch listeners which do not declare their own.
+   *
+   * @param defaultMaxBatchWaitInMillis the default max batch wait in milliseconds, not negative
+   */
+  public synchronized void setDefaultMaxBatchWaitInMillis(long defaultMaxBatchWaitInMillis) {
+    if (defaultMaxBatchWaitInMillis < 0) {
+      throw new IllegalArgumentException("Listener max batch wait must not be negative");
+    }
+    this.defaultMaxBatchWaitInMillis = defaultMaxBatchWaitInMillis;
+  }
+
+  /**
+   * Sets the coalescer which the containers queue acknowledgements on.
+   *
+   * @param ackCoalescer the coalescer, or {@code null} to acknowledge each message immediately
+   */
+  public synchronized void setAckCoalescer(@Nullable SolaceAckCoalescer ackCoalescer) {
+    this.ackCoalescer = ackCoalescer;
+  }
+
+  /**
+   * Creates the container of an endpoint, can be overridden to customize containers.
+   *
+   * @param endpoint the listener endpoint
+   * @return a new, not yet started container
+   */
+  protected SolaceListenerContainer createContainer(SolaceListenerEndpoint endpoint) {
+    final SolaceListenerContainer container = new SolaceListenerContainer(springJCSMPFactory,
+        endpoint, executor, orderedDispatcher, messageConverter);
+    container.setAckCoalescer(ackCoalescer);
+    return container;
+  }
+
+  /**
+   * Returns the container with the given id.
+   *
+   * @param id the listener id
+   * @return the container, or {@code null} if no container with the id is registered
+   */
+  @Nullable
+  public synchronized SolaceListenerContainer getContainer(String id) {
+    return containers.get(id);
+  }
+
+  /**
+   * Returns all registered containers.
+   *
+   * @return the containers in registration order
+   */
+  public synchronized Collection<SolaceListenerContainer> getContainers() {
+    return Collections.unmodifiableList(new ArrayList<>(containers.values()));
+  }
+
+  @Override
+  public synchronized void start() {
+    for (SolaceListenerContainer container : containers.values()) {
+      container.start();
+    }
+    running = true;
+  }
+
+  @Override
+  public synchronized void stop() {
+    running = false;
+    for (SolaceListenerContainer container : containers.values()) {
+      container.stop();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+}
@@ -0,0 +1,213 @@
+package com.solacesystems.jcsmp;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import org.springframework.lang.Nullable;
+
+/**
+ * Describes a listener method and where it consumes messages from. Created from
+ * {@link SolaceListener} annotations, or programmatically and registered through
+ * {@link SolaceListenerContainerRegistry#registerEndpoint(SolaceListenerEndpoint)}.
+ * <p>
+ * A listener method whose parameter is a {@link List} is a batch listener, which receives up to
+ * the max batch size messages, or their converted payloads, at once.
+ * </p>
+ */
+public class SolaceListenerEndpoint {
+
+  private final Object bean;
+  private final Method method;
+  private String id;
+  private String queue;
+  private List<String> topics = Collections.emptyList();
+  private int concurrency = 1;
+  private SolaceOrderingKey orderingKey;
+  private final boolean batch;
+  private Integer maxBatchSize;
+  private Long maxBatchWaitInMillis;
+
+  /**
+   * Constructs a new SolaceListenerEndpoint invoking the given method.
+   *
+   * @param bean   the bean to invoke the method on
+   * @param method the listener method, with a single parameter
+   */
+  public SolaceListenerEndpoint(Object bean, Method method) {
+    this.bean = Objects.requireNonNull(bean);
+    this.method = Objects.requireNonNull(method);
+    if (method.getParameterCount() != 1) {
+      throw new IllegalArgumentException(String.format(
+          "Listener method %s must have exactly one parameter", method));
+    }
+    this.id = method.getDeclaringClass().getName() + "#" + method.getName();
+    this.batch = List.class.isAssignableFrom(method.getParameterTypes()[0]);
+  }
+
+  /**
+   * Validates that the endpoint consumes from a queue or from at least one topic.
+   *
+   * @throws IllegalStateException if the endpoint has nothing to consume from
+   */
+  void validate() {
+    if (queue == null && topics.isEmpty()) {
+      throw new IllegalStateException(String.format(
+          "Listener %s must declare a queue or at least one topic", id));
+    }
+    if (batch && orderingKey != null) {
+      throw new IllegalStateException(String.format(
+          "Batch listener %s cannot have an ordering key, batches are delivered in order", id));
+    }
+  }
+
+  /**
+   * Gets the bean the listener method is invoked on.
+   * @return the listener bean
+   */
+  public Object getBean() {
+    return bean;
+  }
+
+  /**
+   * Gets the listener method.
+   * @return the listener method
+   */
+  public Method getMethod() {
+    return method;
+  }
+
+  /**
+   * Gets the id of the listener container.
+   * @return the listener id
+   */
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Sets the id of the listener container.
+   * @param id the listener id
+   */
+  public void setId(String id) {
+    this.id = Objects.requireNonNull(id);
+  }
+
+  /**
+   * Gets the queue to consume guaranteed messages from.
+   * @return the queue name, or {@code null} for a direct topic listener
+   */
+  public String getQueue() {
+    return queue;
+  }
+
+  /**
+   * Sets the queue to consume guaranteed messages from.
+   * @param queue the queue name
+   */
+  public void setQueue(String queue) {
+    this.queue = queue;
+  }
+
+  /**
+   * Gets the topics to consume from, or to subscribe the queue to.
+   * @return the topic subscriptions
+   */
+  public List<String> getTopics() {
+    return topics;
+  }
+
+  /**
+   * Sets the topics to consume from, or to subscribe the queue to.
+   * @param topics the topic subscriptions
+   */
+  public void setTopics(List<String> topics) {
+    this.topics = Collections.unmodifiableList(new ArrayList<>(topics));
+  }
+
+  /**
+   * Gets the number of flows concurrently consuming from the queue.
+   * @return the concurrency
+   */
+  public int getConcurrency() {
+    return concurrency;
+  }
+
+  /**
+   * Sets the number of flows concurrently consuming from the queue.
+   * @param concurrency the concurrency, at least 1
+   */
+  public void setConcurrency(int concurrency) {
+    if (concurrency < 1) {
+      throw new IllegalArgumentException("Listener concurrency must be at least 1");
+    }
+    this.concurrency = concurrency;
+  }
+
+  /**
+   * Gets the key whose messages are processed in order.
+   * @return the ordering key, or {@code null} if messages are not ordered
+   */
+  @Nullable
+  public SolaceOrderingKey getOrderingKey() {
+    return orderingKey;
+  }
+
+  /**
+   * Sets the key whose messages are processed in order.
+   * @param orderingKey the ordering key, or {@code null} to process messages without ordering
+   */
+  public void setOrderingKey(@Nullable SolaceOrderingKey orderingKey) {
+    this.orderingKey = orderingKey;
+  }
+
+  /**
+   * Returns whether the listener method receives batches of messages.
+   * @return {@code true} if the listener method parameter is a {@link List}
+   */
+  public boolean isBatch() {
+    return batch;
+  }
+
+  /**
+   * Gets the maximum number of messages delivered to a batch listener at once.
+   * @return the max batch size, or {@code null} to use the default
+   */
+  @Nullable
+  public Integer getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  /**
+   * Sets the maximum number of messages delivered to a batch listener at once.
+   * @param maxBatchSize the max batch size, at least 1, or {@code null} to use the default
+   */
+  public void setMaxBatchSize(@Nullable Integer maxBatchSize) {
+    if (maxBatchSize != null && maxBatchSize < 1) {
+      throw new IllegalArgumentException("Listener max batch size must be at least 1");
+    }
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  /**
+   * Gets how long a batch listener waits for a batch to fill up after receiving its first message.
+   * @return the max batch wait in milliseconds, or {@code null} to use the default
+   */
+  @Nullable
+  public Long getMaxBatchWaitInMillis() {
+    return maxBatchWaitInMillis;
+  }
+
+  /**
+   * Sets how long a batch listener waits for a batch to fill up after receiving its first message.
+   * @param maxBatchWaitInMillis the max batch wait in milliseconds, not negative, or {@code null}
+   *                             to use the default
+   */
+  public void setMaxBatchWaitInMillis(@Nullable Long maxBatchWaitInMillis) {
+    if (maxBatchWaitInMillis != null && maxBatchWaitInMillis < 0) {
+      throw new IllegalArgumentException("Listener max batch wait must not be negative");
+    }
+    this.maxBatchWaitInMillis = maxBatchWaitInMillis;
+  }
+}
@@ -0,0 +1,46 @@
+package com.solacesystems.jcsmp;
+
+/**
+ * Converts between application payloads and JCSMP messages. Refer
+ * {@link SimpleSolaceMessageConverter} for the default implementation, and
+ * {@link JacksonSolaceMessageConverter} for JSON payloads.
+ */
+public interface SolaceMessageConverter {
+
+  /**
+   * Creates a message carrying the given payload.
+   *
+   * @param payload The payload to convert.
+   * @return A new message, ready to be sent.
+   * @throws IllegalArgumentException if the payload type is not supported by this converter.
+   */
+  XMLMessage toMessage(Object payload);
+
+  /**
+   * Extracts the payload of a received message.
+   *
+   * @param message The received message.
+   * @return The payload of the message.
+   */
+  Object fromMessage(BytesXMLMessage message);
+
+  /**
+   * Extracts the payload of a received message as the given type. Converters should read the
+   * payload from the message without copying it where the target type allows, for example by
+   * returning a view of the binary attachment for {@link java.nio.ByteBuffer} targets.
+   *
+   * @param message    The received message.
+   * @param targetType The expected type of the payload.
+   * @param <T>        The type of the payload.
+   * @return The payload of the message.
+   * @throws IllegalArgumentException if the payload cannot be converted to the target type.
+   */
+  default <T> T fromMessage(BytesXMLMessage message, Class<T> targetType) {
+    final Object payload = fromMessage(message);
+    if (!targetType.isInstance(payload)) {
+      throw new IllegalArgumentException(String.format("Cannot convert payload of type %s to %s",
+          payload == null ? null : payload.getClass().getName(), targetType.getName()));
+    }
+    return targetType.cast(payload);
+  }
+}
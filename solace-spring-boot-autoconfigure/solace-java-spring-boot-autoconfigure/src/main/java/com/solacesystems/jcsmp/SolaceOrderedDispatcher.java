@@ -0,0 +1,261 @@
+package com.solacesystems.jcsmp;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+
+/**
+ * Executor of tasks over a fixed number of single-threaded lanes. Tasks submitted with the same key
+ * always run on the same lane, and therefore in submission order, while tasks of different keys run
+ * in parallel on up to as many threads as there are lanes.
+ * <p>
+ * Each lane has a bounded queue. When the queue of a lane is full, {@link #execute(Object,
+ * Runnable)} blocks until the lane catches up, which holds back the context thread delivering
+ * messages instead of reordering them. The depth of every lane is exposed so that hot keys, which
+ * pile up on a single lane, can be spotted.
+ * </p>
+ * <p>
+ * The thread and the queue of a lane are created when the first task is queued on it.
+ * </p>
+ */
+public class SolaceOrderedDispatcher implements Executor, AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(SolaceOrderedDispatcher.class);
+
+  private static final Runnable SHUTDOWN = () -> { };
+
+  private final String name;
+  private final Lane[] lanes;
+  private final AtomicInteger nextLane = new AtomicInteger();
+  private volatile boolean closed;
+
+  /**
+   * Constructs a new SolaceOrderedDispatcher.
+   *
+   * @param name         the name of the dispatcher, used as prefix of the lane thread names
+   * @param laneCount    the number of lanes
+   * @param laneCapacity the number of tasks which can wait on each lane
+   */
+  public SolaceOrderedDispatcher(String name, int laneCount, int laneCapacity) {
+    if (laneCount < 1) {
+      throw new IllegalArgumentException("Lane count must be at least 1");
+    }
+    if (laneCapacity < 1) {
+      throw new IllegalArgumentException("Lane capacity must be at least 1");
+    }
+    this.name = name;
+    this.lanes = new Lane[laneCount];
+    for (int i = 0; i < laneCount; i++) {
+      lanes[i] = new Lane(name + "-" + i, laneCapacity);
+    }
+  }
+
+  /**
+   * Runs a task on the lane of the given key, after all tasks previously submitted with the same
+   * key. Tasks without a key are spread over the lanes round-robin and are not ordered.
+   *
+   * @param key  the ordering key, or {@code null}
+   * @param task the task to run
+   * @throws IllegalStateException if the dispatcher is closed, or the calling thread is
+   *                               interrupted while waiting for space on the lane
+   */
+  public void execute(@Nullable Object key, Runnable task) {
+    lanes[laneFor(key)].submit(task);
+  }
+
+  /**
+   * Runs a task on the next lane, without ordering guarantees.
+   *
+   * @param task the task to run
+   */
+  @Override
+  public void execute(Runnable task) {
+    execute(null, task);
+  }
+
+  /**
+   * Returns the lane tasks of the given key run on.
+   *
+   * @param key the ordering key, or {@code null} for the next lane in round-robin order
+   * @return the lane index
+   */
+  public int laneFor(@Nullable Object key) {
+    if (key == null) {
+      return Math.floorMod(nextLane.getAndIncrement(), lanes.length);
+    }
+    final int hash = key.hashCode();
+    //spread the high bits, as hash codes of similar keys often only differ there
+    return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+  }
+
+  /**
+   * Returns the name of this dispatcher.
+   * @return the dispatcher name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the number of lanes.
+   * @return the lane count
+   */
+  public int getLaneCount() {
+    return lanes.length;
+  }
+
+  /**
+   * Returns the number of tasks waiting on a lane.
+   * @param lane the lane index
+   * @return the lane depth
+   */
+  public int getLaneDepth(int lane) {
+    return lanes[lane].depth();
+  }
+
+  /**
+   * Returns the number of tasks waiting on the deepest lane.
+   * @return the maximum lane depth
+   */
+  public int getMaxLaneDepth() {
+    int max = 0;
+    for (Lane lane : lanes) {
+      max = Math.max(max, lane.depth());
+    }
+    return max;
+  }
+
+  /**
+   * Returns the number of tasks completed by a lane.
+   * @param lane the lane index
+   * @return the completed task count
+   */
+  public long getLaneCompletedCount(int lane) {
+    return lanes[lane].completedCount.sum();
+  }
+
+  /**
+   * Stops accepting tasks and waits for the queued tasks to complete.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    for (Lane lane : lanes) {
+      lane.shutdown();
+    }
+    for (Lane lane : lanes) {
+      lane.join();
+    }
+  }
+
+  private final class Lane implements Runnable {
+
+    private final String threadName;
+    private final int capacity;
+    private final LongAdder completedCount = new LongAdder();
+    //created with the thread, when the first task is queued
+    private volatile BlockingQueue<Runnable> queue;
+    private volatile Thread thread;
+
+    private Lane(String threadName, int capacity) {
+      this.threadName = threadName;
+      this.capacity = capacity;
+    }
+
+    void submit(Runnable task) {
+      if (closed) {
+        throw closedException();
+      }
+      if (thread == null) {
+        start();
+      }
+      try {
+        queue.put(task);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(String.format(
+            "Interrupted while waiting for space on lane %s", threadName), e);
+      }
+      //a task queued behind the shutdown marker would never run
+      if (closed && queue.remove(task)) {
+        throw closedException();
+      }
+    }
+
+    private synchronized void start() {
+      //close() marks the dispatcher closed before shutting down the lanes under their lock, so a
+      //lane started here is always shut down
+      if (closed) {
+        throw closedException();
+      }
+      if (thread == null) {
+        queue = new ArrayBlockingQueue<>(capacity);
+        final Thread newThread = new Thread(this, threadName);
+        newThread.setDaemon(true);
+        newThread.start();
+        thread = newThread;
+      }
+    }
+
+    private IllegalStateException closedException() {
+      return new IllegalStateException(String.format("Dispatcher %s is closed", name));
+    }
+
+    int depth() {
+      final BlockingQueue<Runnable> current = queue;
+      return current != null ? current.size() : 0;
+    }
+
+    @Override
+    public void run() {
+      while (true) {
+        final Runnable task;
+        try {
+          task = queue.take();
+        } catch (InterruptedException e) {
+          return;
+        }
+        if (task == SHUTDOWN) {
+          return;
+        }
+        try {
+          task.run();
+        } catch (Throwable e) {
+          //a lane which stopped would leave the later tasks of its keys queued forever
+          logger.warn("Task on lane {} failed", threadName, e);
+        }
+        completedCount.increment();
+      }
+    }
+
+    synchronized void shutdown() {
+      if (thread == null) {
+        return;
+      }
+      try {
+        queue.put(SHUTDOWN);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        thread.interrupt();
+      }
+    }
+
+    void join() {
+      final Thread current = thread;
+      if (current == null) {
+        return;
+      }
+      try {
+        current.join(TimeUnit.SECONDS.toMillis(30));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package com.solacesystems.jcsmp;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Objects;
+
+/**
+ * Micrometer {@link MeterBinder} publishing the depth and completed tasks of every lane of a
+ * {@link SolaceOrderedDispatcher}, tagged with the dispatcher name and lane index.
+ */
+public class SolaceOrderedDispatcherMetrics implements MeterBinder {
+
+  private final SolaceOrderedDispatcher solaceOrderedDispatcher;
+
+  /**
+   * Constructs a new SolaceOrderedDispatcherMetrics for the given dispatcher.
+   *
+   * @param solaceOrderedDispatcher the dispatcher to instrument
+   */
+  public SolaceOrderedDispatcherMetrics(SolaceOrderedDispatcher solaceOrderedDispatcher) {
+    this.solaceOrderedDispatcher = Objects.requireNonNull(solaceOrderedDispatcher);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    final String name = solaceOrderedDispatcher.getName();
+    for (int i = 0; i < solaceOrderedDispatcher.getLaneCount(); i++) {
+      final int lane = i;
+      Gauge.builder("solace.dispatcher.lane.depth", solaceOrderedDispatcher,
+              dispatcher -> dispatcher.getLaneDepth(lane))
+          .tag("name", name)
+          .tag("lane", String.valueOf(lane))
+          .description("Tasks waiting on a lane of an ordered dispatcher")
+          .register(registry);
+      FunctionCounter.builder("solace.dispatcher.lane.completed", solaceOrderedDispatcher,
+              dispatcher -> dispatcher.getLaneCompletedCount(lane))
+          .tag("name", name)
+          .tag("lane", String.valueOf(lane))
+          .description("Tasks completed by a lane of an ordered dispatcher")
+          .register(registry);
+    }
+    Gauge.builder("solace.dispatcher.lane.depth.max", solaceOrderedDispatcher,
+            SolaceOrderedDispatcher::getMaxLaneDepth)
+        .tag("name", name)
+        .description("Tasks waiting on the deepest lane of an ordered dispatcher")
+        .register(registry);
+  }
+}
@@ -0,0 +1,119 @@
+package com.solacesystems.jcsmp;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+/**
+ * Extracts the key whose messages a {@link SolaceOrderedDispatcher} processes in order. Messages
+ * with different keys may be processed in parallel.
+ */
+@FunctionalInterface
+public interface SolaceOrderingKey {
+
+  /**
+   * The user property holding the partition key of messages published to partitioned queues.
+   */
+  String PARTITION_KEY_PROPERTY = "JMSXGroupID";
+
+  /**
+   * Returns the ordering key of a message.
+   *
+   * @param message the received message
+   * @return the key, or {@code null} if the message does not need to be ordered
+   */
+  @Nullable
+  Object extractKey(BytesXMLMessage message);
+
+  /**
+   * Returns a key extractor using a level of the destination topic.
+   *
+   * @param level the zero-based topic level
+   * @return the key extractor
+   */
+  static SolaceOrderingKey topicLevel(int level) {
+    if (level < 0) {
+      throw new IllegalArgumentException("Topic level must not be negative");
+    }
+    return message -> {
+      final Destination destination = message.getDestination();
+      if (!(destination instanceof Topic)) {
+        return null;
+      }
+      final String name = destination.getName();
+      int start = 0;
+      for (int i = 0; i < level; i++) {
+        start = name.indexOf('/', start) + 1;
+        if (start == 0) {
+          return null;
+        }
+      }
+      final int end = name.indexOf('/', start);
+      return end < 0 ? name.substring(start) : name.substring(start, end);
+    };
+  }
+
+  /**
+   * Returns a key extractor using a user property of the message.
+   *
+   * @param name the name of the user property
+   * @return the key extractor
+   */
+  static SolaceOrderingKey userProperty(String name) {
+    if (!StringUtils.hasText(name)) {
+      throw new IllegalArgumentException("User property name must not be empty");
+    }
+    return message -> {
+      final SDTMap properties = message.getProperties();
+      if (properties == null) {
+        return null;
+      }
+      try {
+        return properties.get(name);
+      } catch (SDTException e) {
+        return null;
+      }
+    };
+  }
+
+  /**
+   * Returns a key extractor using the partition key of the message, which is also the
+   * {@code JMSXGroupID} of messages published through JMS.
+   *
+   * @return the key extractor
+   */
+  static SolaceOrderingKey partitionKey() {
+    return userProperty(PARTITION_KEY_PROPERTY);
+  }
+
+  /**
+   * Parses a key extractor from its textual form, which is one of {@code topic-level:<level>},
+   * {@code user-property:<name>} and {@code partition-key}.
+   *
+   * @param expression the textual form of the key extractor
+   * @return the key extractor
+   * @throws IllegalArgumentException if the expression is not recognized
+   */
+  static SolaceOrderingKey parse(String expression) {
+    final String trimmed = expression.trim();
+    final int colon = trimmed.indexOf(':');
+    final String type = colon < 0 ? trimmed : trimmed.substring(0, colon).trim();
+    final String argument = colon < 0 ? "" : trimmed.substring(colon + 1).trim();
+    switch (type) {
+      case "partition-key":
+        return partitionKey();
+      case "user-property":
+        return userProperty(argument);
+      case "topic-level":
+        try {
+          return topicLevel(Integer.parseInt(argument));
+        } catch (NumberFormatException e) {
+          throw new IllegalArgumentException(String.format(
+              "Invalid topic level in ordering key %s", expression), e);
+        }
+      default:
+        throw new IllegalArgumentException(String.format(
+            "Unknown ordering key %s, expected topic-level:<level>, user-property:<name> or "
+                + "partition-key", expression));
+    }
+  }
+}
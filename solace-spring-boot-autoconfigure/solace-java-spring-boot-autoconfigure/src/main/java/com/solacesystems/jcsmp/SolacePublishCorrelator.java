@@ -0,0 +1,288 @@
+package com.solacesystems.jcsmp;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.lang.Nullable;
+
+/**
+ * Publish event handler which correlates the acknowledgement of every guaranteed message sent
+ * through {@link #send(XMLMessageProducer, XMLMessage, Destination)} with a
+ * {@link CompletableFuture}, so that persistent publishes can be pipelined instead of blocking on
+ * each acknowledgement.
+ * <p>
+ * In-flight messages are tracked in a fixed table of slots. Claiming and releasing a slot is
+ * lock-free. Every claim stamps its slot with a new generation, which is carried by the correlation
+ * key of the message, so a key which outlives its message, for example because it is reported
+ * twice, can neither complete nor release the slot of a later message. When all slots are in
+ * flight, senders wait for up to the acquire timeout for a slot to be released.
+ * </p>
+ * <p>
+ * The time between sending a message and its acknowledgement is recorded per
+ * {@link DestinationClass} by an optional {@link AckLatencyRecorder}. The send time and the
+ * destination class are kept in the correlation key of the message, so recording allocates
+ * nothing.
+ * </p>
+ * <p>
+ * The futures are completed on the thread delivering the acknowledgements, which is the context
+ * thread of the session. Dependent stages which block must therefore use the {@code *Async}
+ * variants of {@link CompletableFuture}.
+ * </p>
+ */
+public class SolacePublishCorrelator implements JCSMPStreamingPublishCorrelatingEventHandler {
+
+  //the generation of a slot is odd while it is in flight and even while it is free
+  private final AtomicLongArray generations;
+  private final int mask;
+  private final AtomicLong nextSlot = new AtomicLong();
+  private final Semaphore permits;
+  private final int maxInFlight;
+  private final long acquireTimeoutInMillis;
+  private final LoggingPublishEventHandler uncorrelatedHandler =
+      new LoggingPublishEventHandler(SolacePublishCorrelator.class);
+
+  private final LongAdder ackCount = new LongAdder();
+  private final LongAdder ackTimeNanos = new LongAdder();
+  private final LongAdder errorCount = new LongAdder();
+  private volatile AckLatencyRecorder ackLatencyRecorder;
+
+  /**
+   * Constructs a new SolacePublishCorrelator.
+   *
+   * @param maxInFlight            the maximum number of unacknowledged messages, which should be at
+   *                               least the publish window size of every producer using this
+   *                               correlator
+   * @param acquireTimeoutInMillis how long a send waits for a slot when all slots are in flight
+   */
+  public SolacePublishCorrelator(int maxInFlight, long acquireTimeoutInMillis) {
+    if (maxInFlight < 1) {
+      throw new IllegalArgumentException("Max in-flight messages must be at least 1");
+    }
+    this.maxInFlight = maxInFlight;
+    this.acquireTimeoutInMillis = acquireTimeoutInMillis;
+    final int capacity = Integer.highestOneBit(maxInFlight - 1 | 1) << 1;
+    this.generations = new AtomicLongArray(capacity);
+    this.mask = capacity - 1;
+    this.permits = new Semaphore(maxInFlight);
+  }
+
+  /**
+   * Sends a message and returns a future completed once the message router acknowledged it. The
+   * correlation key of the message is replaced by a key of this correlator. Direct messages are
+   * not acknowledged, their future is completed as soon as they are sent.
+   *
+   * @param producer    a producer created with this correlator as its publish event handler
+   * @param message     the message to send
+   * @param destination the destination of the message
+   * @return a future completed when the message is acknowledged, or completed exceptionally when
+   *         the message router rejected it
+   * @throws JCSMPException if no slot became available within the acquire timeout, or the message
+   *                        could not be sent
+   */
+  public CompletableFuture<Void> send(XMLMessageProducer producer, XMLMessage message,
+      Destination destination) throws JCSMPException {
+    if (message.getDeliveryMode() == DeliveryMode.DIRECT) {
+      producer.send(message, destination);
+      return CompletableFuture.completedFuture(null);
+    }
+
+    final CompletableFuture<Void> future = correlate(message, destination);
+    try {
+      producer.send(message, destination);
+    } catch (JCSMPException | RuntimeException e) {
+      release((Key) message.getCorrelationKey());
+      throw e;
+    }
+    return future;
+  }
+
+  /**
+   * Claims a slot for a guaranteed message which the caller is about to send itself, for example
+   * in a batch, and sets the key of the claim as the correlation key of the message. If the message cannot be
+   * sent, the caller must report it through {@link #handleErrorEx(Object, JCSMPException, long)}
+   * with its correlation key, which releases the slot.
+   *
+   * @param message     the guaranteed message about to be sent
+   * @param destination the destination of the message
+   * @return a future completed when the message is acknowledged
+   * @throws JCSMPException if no slot became available within the acquire timeout
+   */
+  CompletableFuture<Void> correlate(XMLMessage message, Destination destination)
+      throws JCSMPException {
+    final Key key = new Key(this, destination instanceof Queue
+        ? DestinationClass.QUEUE : DestinationClass.TOPIC);
+    claimSlot(key);
+    message.setCorrelationKey(key);
+    return key.future;
+  }
+
+  private void claimSlot(Key key) throws JCSMPException {
+    try {
+      if (!permits.tryAcquire(acquireTimeoutInMillis, TimeUnit.MILLISECONDS)) {
+        throw new JCSMPException(String.format(
+            "Timed out after %d ms waiting for one of %d in-flight messages to be acknowledged",
+            acquireTimeoutInMillis, maxInFlight));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JCSMPException("Interrupted while waiting for an in-flight message slot", e);
+    }
+    //a permit guarantees that a free slot exists, so the probe terminates
+    while (true) {
+      final int index = (int) (nextSlot.getAndIncrement() & mask);
+      final long generation = generations.get(index);
+      if ((generation & 1) == 0 && generations.compareAndSet(index, generation, generation + 1)) {
+        key.index = index;
+        key.generation = generation + 1;
+        key.sendNanos = System.nanoTime();
+        return;
+      }
+    }
+  }
+
+  private boolean release(Key key) {
+    //fails for a key whose slot was already released, and maybe claimed again since
+    if (!generations.compareAndSet(key.index, key.generation, key.generation + 1)) {
+      return false;
+    }
+    permits.release();
+    return true;
+  }
+
+  @Override
+  public void responseReceivedEx(Object key) {
+    if (!(key instanceof Key) || ((Key) key).owner != this || !release((Key) key)) {
+      uncorrelatedHandler.responseReceivedEx(key);
+      return;
+    }
+    final Key correlationKey = (Key) key;
+    final long ackTime = System.nanoTime() - correlationKey.sendNanos;
+    ackCount.increment();
+    ackTimeNanos.add(ackTime);
+    final AckLatencyRecorder recorder = ackLatencyRecorder;
+    if (recorder != null) {
+      recorder.record(correlationKey.destinationClass, ackTime);
+    }
+    correlationKey.future.complete(null);
+  }
+
+  @Override
+  public void handleErrorEx(Object key, JCSMPException cause, long timestamp) {
+    if (!(key instanceof Key) || ((Key) key).owner != this || !release((Key) key)) {
+      uncorrelatedHandler.handleErrorEx(key, cause, timestamp);
+      return;
+    }
+    errorCount.increment();
+    ((Key) key).future.completeExceptionally(cause);
+  }
+
+  @Override
+  public void responseReceived(String messageID) {
+    responseReceivedEx(messageID);
+  }
+
+  @Override
+  public void handleError(String messageID, JCSMPException cause, long timestamp) {
+    handleErrorEx(messageID, cause, timestamp);
+  }
+
+  /**
+   * Sets the recorder of the time between sending messages and receiving their
+   * acknowledgements.
+   *
+   * @param ackLatencyRecorder the recorder, or {@code null} to stop recording
+   */
+  public void setAckLatencyRecorder(@Nullable AckLatencyRecorder ackLatencyRecorder) {
+    this.ackLatencyRecorder = ackLatencyRecorder;
+  }
+
+  /**
+   * Returns the number of messages sent and not yet acknowledged or rejected.
+   * @return the in-flight message count
+   */
+  public int getInFlightCount() {
+    return maxInFlight - permits.availablePermits();
+  }
+
+  /**
+   * Returns the maximum number of unacknowledged messages.
+   * @return the max in-flight message count
+   */
+  public int getMaxInFlight() {
+    return maxInFlight;
+  }
+
+  /**
+   * Returns the number of acknowledged messages.
+   * @return the ack count
+   */
+  public long getAckCount() {
+    return ackCount.sum();
+  }
+
+  /**
+   * Returns the accumulated time between sending messages and receiving their acknowledgements.
+   * @return the total ack latency in nanoseconds
+   */
+  public long getAckTimeNanos() {
+    return ackTimeNanos.sum();
+  }
+
+  /**
+   * Returns the number of messages rejected by the message router.
+   * @return the error count
+   */
+  public long getErrorCount() {
+    return errorCount.sum();
+  }
+
+  /**
+   * The class of the destination of an acknowledged message.
+   */
+  public enum DestinationClass {
+    TOPIC, QUEUE
+  }
+
+  /**
+   * Records the time between sending a guaranteed message and receiving its acknowledgement. It
+   * is called on the thread delivering the acknowledgements and must neither block nor allocate.
+   */
+  @FunctionalInterface
+  public interface AckLatencyRecorder {
+
+    /**
+     * Records the acknowledgement latency of a message.
+     *
+     * @param destinationClass the class of the destination of the message
+     * @param latencyInNanos   the time between sending the message and its acknowledgement
+     */
+    void record(DestinationClass destinationClass, long latencyInNanos);
+  }
+
+  /**
+   * The correlation key of an in-flight message, naming the slot it claimed and the generation of
+   * the claim.
+   */
+  static final class Key {
+
+    private final SolacePublishCorrelator owner;
+    private final DestinationClass destinationClass;
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+    private int index;
+    private long generation;
+    private long sendNanos;
+
+    private Key(SolacePublishCorrelator owner, DestinationClass destinationClass) {
+      this.owner = owner;
+      this.destinationClass = destinationClass;
+    }
+
+    @Override
+    public String toString() {
+      return "SolacePublishCorrelator.Key[" + index + "#" + generation + "]";
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package com.solacesystems.jcsmp;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer {@link MeterBinder} publishing the in-flight messages and acknowledgement latency of a
+ * {@link SolacePublishCorrelator}.
+ * <p>
+ * Besides the mean acknowledgement latency, the latency of every acknowledgement is recorded into
+ * a percentile histogram per {@link SolacePublishCorrelator.DestinationClass}, published as
+ * {@code solace.publish.ack.latency} with a {@code destination.class} tag.
+ * </p>
+ */
+public class SolacePublishCorrelatorMetrics implements MeterBinder,
+    SolacePublishCorrelator.AckLatencyRecorder {
+
+  private static final Duration MIN_EXPECTED_ACK_LATENCY = Duration.ofNanos(100_000);
+  private static final Duration MAX_EXPECTED_ACK_LATENCY = Duration.ofSeconds(30);
+
+  private final SolacePublishCorrelator solacePublishCorrelator;
+  //the latency timers of every bound registry, indexed by destination class
+  private volatile Timer[][] ackLatencyTimers = new Timer[0][];
+
+  /**
+   * Constructs a new SolacePublishCorrelatorMetrics for the given correlator.
+   *
+   * @param solacePublishCorrelator the correlator to instrument
+   */
+  public SolacePublishCorrelatorMetrics(SolacePublishCorrelator solacePublishCorrelator) {
+    this.solacePublishCorrelator = Objects.requireNonNull(solacePublishCorrelator);
+  }
+
+  @Override
+  public synchronized void bindTo(MeterRegistry registry) {
+    Gauge.builder("solace.publish.inflight", solacePublishCorrelator,
+            SolacePublishCorrelator::getInFlightCount)
+        .description("Guaranteed messages sent and not yet acknowledged")
+        .register(registry);
+    Gauge.builder("solace.publish.inflight.max", solacePublishCorrelator,
+            SolacePublishCorrelator::getMaxInFlight)
+        .description("Maximum number of unacknowledged guaranteed messages")
+        .register(registry);
+
+    FunctionTimer.builder("solace.publish.ack", solacePublishCorrelator,
+            SolacePublishCorrelator::getAckCount, SolacePublishCorrelator::getAckTimeNanos,
+            TimeUnit.NANOSECONDS)
+        .description("Time between sending guaranteed messages and their acknowledgement")
+        .register(registry);
+
+    FunctionCounter.builder("solace.publish.errors", solacePublishCorrelator,
+            SolacePublishCorrelator::getErrorCount)
+        .description("Guaranteed messages rejected by the message router")
+        .register(registry);
+
+    final SolacePublishCorrelator.DestinationClass[] destinationClasses =
+        SolacePublishCorrelator.DestinationClass.values();
+    final Timer[] timers = new Timer[destinationClasses.length];
+    for (SolacePublishCorrelator.DestinationClass destinationClass : destinationClasses) {
+      timers[destinationClass.ordinal()] = Timer.builder("solace.publish.ack.latency")
+          .tag("destination.class", destinationClass.name().toLowerCase(Locale.ROOT))
+          .description("Distribution of the time between sending guaranteed messages and their "
+              + "acknowledgement")
+          .publishPercentiles(0.5, 0.99, 0.999)
+          .publishPercentileHistogram()
+          .minimumExpectedValue(MIN_EXPECTED_ACK_LATENCY)
+          .maximumExpectedValue(MAX_EXPECTED_ACK_LATENCY)
+          .register(registry);
+    }
+    final Timer[][] current = ackLatencyTimers;
+    final Timer[][] updated = Arrays.copyOf(current, current.length + 1);
+    updated[current.length] = timers;
+    ackLatencyTimers = updated;
+    solacePublishCorrelator.setAckLatencyRecorder(this);
+  }
+
+  @Override
+  public void record(SolacePublishCorrelator.DestinationClass destinationClass,
+      long latencyInNanos) {
+    for (Timer[] timers : ackLatencyTimers) {
+      timers[destinationClass.ordinal()].record(latencyInNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+}
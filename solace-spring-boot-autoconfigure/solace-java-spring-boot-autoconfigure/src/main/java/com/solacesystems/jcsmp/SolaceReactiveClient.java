@@ -0,0 +1,248 @@
+package com.solacesystems.jcsmp;
+
+import java.util.Objects;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+
+/**
+ * Project Reactor bindings for consuming and publishing messages.
+ * <p>
+ * Consumers created by {@link #receive(Queue)} and {@link #receive(Topic)} open a dedicated session
+ * per subscription, and stop the delivery of messages while the downstream demand is zero, so that
+ * a slow subscriber applies backpressure to the message router instead of buffering messages in
+ * memory.
+ * </p>
+ * <p>
+ * Publishing goes through the {@link SolaceTemplate}, whose publish event handler must be a
+ * {@link SolacePublishCorrelator} for the returned publishers to complete on acknowledgement.
+ * </p>
+ */
+public class SolaceReactiveClient {
+
+  private static final Logger logger = LoggerFactory.getLogger(SolaceReactiveClient.class);
+
+  private final SpringJCSMPFactory springJCSMPFactory;
+  private final SolaceTemplate solaceTemplate;
+
+  /**
+   * Constructs a new SolaceReactiveClient.
+   *
+   * @param springJCSMPFactory the factory used to create the sessions of consumers
+   * @param solaceTemplate     the template used to publish messages
+   */
+  public SolaceReactiveClient(SpringJCSMPFactory springJCSMPFactory,
+      SolaceTemplate solaceTemplate) {
+    this.springJCSMPFactory = Objects.requireNonNull(springJCSMPFactory);
+    this.solaceTemplate = Objects.requireNonNull(solaceTemplate);
+  }
+
+  /**
+   * Returns a flux of the guaranteed messages spooled on a queue. Messages are received in client
+   * acknowledgement mode and must be acknowledged with {@link BytesXMLMessage#ackMessage()} once
+   * processed. The flow is stopped while the downstream demand is zero.
+   *
+   * @param queue the queue to bind to
+   * @return a cold flux binding to the queue on every subscription
+   */
+  public Flux<BytesXMLMessage> receive(Queue queue) {
+    return Flux.create(sink -> new FlowBinding(sink, queue).bind(),
+        FluxSink.OverflowStrategy.BUFFER);
+  }
+
+  /**
+   * Returns a flux of the direct messages published to a topic. The consumer is stopped while the
+   * downstream demand is zero, which leaves messages in the socket buffers and eventually slows
+   * down the message router.
+   *
+   * @param topic the topic to subscribe to
+   * @return a cold flux subscribing to the topic on every subscription
+   */
+  public Flux<BytesXMLMessage> receive(Topic topic) {
+    return Flux.create(sink -> new DirectBinding(sink, topic).bind(),
+        FluxSink.OverflowStrategy.BUFFER);
+  }
+
+  /**
+   * Sends a message when subscribed to, completing once the message router acknowledged it.
+   *
+   * @param destination the destination of the message
+   * @param message     the message to send
+   * @return a mono completing on acknowledgement
+   */
+  public Mono<Void> send(Destination destination, XMLMessage message) {
+    return Mono.fromCallable(() -> solaceTemplate.sendAsync(destination, message))
+        .flatMap(Mono::fromFuture);
+  }
+
+  /**
+   * Sends all messages of a publisher, completing once every message was acknowledged. Messages
+   * are sent in order without waiting for the acknowledgement of the previous message.
+   *
+   * @param destination the destination of the messages
+   * @param messages    the messages to send
+   * @return a mono completing when all messages are acknowledged
+   */
+  public Mono<Void> send(Destination destination, Publisher<? extends XMLMessage> messages) {
+    return Flux.from(messages)
+        .flatMapSequential(message -> send(destination, message))
+        .then();
+  }
+
+  /**
+   * Binds a flux sink to a session, starting and stopping the delivery of messages with the
+   * downstream demand.
+   */
+  private abstract class SinkBinding implements XMLMessageListener {
+
+    protected final FluxSink<BytesXMLMessage> sink;
+    protected JCSMPSession session;
+    private boolean started;
+    private boolean disposed;
+
+    SinkBinding(FluxSink<BytesXMLMessage> sink) {
+      this.sink = sink;
+    }
+
+    void bind() {
+      try {
+        session = springJCSMPFactory.createSession(null, null,
+            SolaceSubscriptionManager::reapplySubscriptions);
+        SolaceReconnectPolicy.connect(session, springJCSMPFactory.getReconnectPolicy());
+        open();
+      } catch (JCSMPException | RuntimeException e) {
+        close();
+        sink.error(e);
+        return;
+      }
+      sink.onDispose(this::close);
+      sink.onRequest(n -> updateDelivery());
+      updateDelivery();
+    }
+
+    @Override
+    public void onReceive(BytesXMLMessage message) {
+      sink.next(message);
+      updateDelivery();
+    }
+
+    @Override
+    public void onException(JCSMPException e) {
+      sink.error(e);
+    }
+
+    private synchronized void updateDelivery() {
+      if (disposed) {
+        return;
+      }
+      final boolean demand = sink.requestedFromDownstream() > 0;
+      try {
+        if (demand && !started) {
+          start();
+          started = true;
+        } else if (!demand && started) {
+          stop();
+          started = false;
+        }
+      } catch (JCSMPException e) {
+        sink.error(e);
+      }
+    }
+
+    private synchronized void close() {
+      disposed = true;
+      try {
+        closeConsumer();
+      } catch (RuntimeException e) {
+        if (logger.isDebugEnabled()) {
+          logger.debug("Exception while closing reactive consumer.", e);
+        }
+      }
+      if (session != null) {
+        session.closeSession();
+      }
+    }
+
+    abstract void open() throws JCSMPException;
+
+    abstract void start() throws JCSMPException;
+
+    abstract void stop();
+
+    abstract void closeConsumer();
+  }
+
+  private final class FlowBinding extends SinkBinding {
+
+    private final Queue queue;
+    private FlowReceiver flowReceiver;
+
+    FlowBinding(FluxSink<BytesXMLMessage> sink, Queue queue) {
+      super(sink);
+      this.queue = queue;
+    }
+
+    @Override
+    void open() throws JCSMPException {
+      final ConsumerFlowProperties flowProperties = new ConsumerFlowProperties();
+      flowProperties.setEndpoint(queue);
+      flowProperties.setAckMode(JCSMPProperties.SUPPORTED_MESSAGE_ACK_CLIENT);
+      flowProperties.setStartState(false);
+      flowReceiver = session.createFlow(this, flowProperties, null);
+    }
+
+    @Override
+    void start() throws JCSMPException {
+      flowReceiver.start();
+    }
+
+    @Override
+    void stop() {
+      flowReceiver.stop();
+    }
+
+    @Override
+    void closeConsumer() {
+      if (flowReceiver != null) {
+        flowReceiver.close();
+      }
+    }
+  }
+
+  private final class DirectBinding extends SinkBinding {
+
+    private final Topic topic;
+    private XMLMessageConsumer consumer;
+
+    DirectBinding(FluxSink<BytesXMLMessage> sink, Topic topic) {
+      super(sink);
+      this.topic = topic;
+    }
+
+    @Override
+    void open() throws JCSMPException {
+      consumer = session.getMessageConsumer(this);
+      session.addSubscription(topic);
+    }
+
+    @Override
+    void start() throws JCSMPException {
+      consumer.start();
+    }
+
+    @Override
+    void stop() {
+      consumer.stop();
+    }
+
+    @Override
+    void closeConsumer() {
+      if (consumer != null) {
+        consumer.close();
+      }
+    }
+  }
+}
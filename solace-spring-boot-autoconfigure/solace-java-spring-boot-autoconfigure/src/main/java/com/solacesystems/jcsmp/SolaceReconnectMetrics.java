@@ -0,0 +1,68 @@
+package com.solacesystems.jcsmp;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer {@link MeterBinder} publishing how long the sessions created by a
+ * {@link SpringJCSMPFactory} take to reconnect. Register it with
+ * {@link SpringJCSMPFactory#addSessionListener(SolaceSessionListener)}; sessions created before
+ * are not measured. Reconnects are recorded in every registry the binder is bound to.
+ */
+public class SolaceReconnectMetrics implements MeterBinder, SolaceSessionListener {
+
+  //the start of the reconnect of every reconnecting session, weakly held in case it is closed
+  private final Map<JCSMPSession, Long> reconnectStarts =
+      Collections.synchronizedMap(new WeakHashMap<>());
+  private final List<Timer> reconnectTimers = new CopyOnWriteArrayList<>();
+  private final List<Counter> failureCounters = new CopyOnWriteArrayList<>();
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("solace.session.reconnecting", reconnectStarts, Map::size)
+        .description("Sessions currently reconnecting")
+        .register(registry);
+    reconnectTimers.add(Timer.builder("solace.session.reconnect")
+        .description("Time from losing the connection of a session to reconnecting it")
+        .register(registry));
+    failureCounters.add(Counter.builder("solace.session.reconnect.failures")
+        .description("Sessions which went down after exhausting their reconnect retries")
+        .register(registry));
+  }
+
+  @Override
+  public void onSessionEvent(JCSMPSession session, SessionEventArgs event) {
+    switch (event.getEvent()) {
+      case RECONNECTING:
+        reconnectStarts.putIfAbsent(session, System.nanoTime());
+        break;
+      case RECONNECTED:
+        final Long start = reconnectStarts.remove(session);
+        if (start != null) {
+          final long reconnectNanos = System.nanoTime() - start;
+          for (Timer timer : reconnectTimers) {
+            timer.record(reconnectNanos, TimeUnit.NANOSECONDS);
+          }
+        }
+        break;
+      case DOWN_ERROR:
+        if (reconnectStarts.remove(session) != null) {
+          for (Counter counter : failureCounters) {
+            counter.increment();
+          }
+        }
+        break;
+      default:
+        break;
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package com.solacesystems.jcsmp;
+
+import java.util.concurrent.ThreadLocalRandom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+
+/**
+ * Exponential backoff with full jitter, which keeps the sessions of many application instances
+ * from connecting to the message router in lockstep after it failed over.
+ * <p>
+ * The initial connect of a session is retried by {@link #connect(JCSMPSession, SolaceReconnectPolicy)}
+ * after the connect retries of the API are exhausted, waiting a random time between zero and an
+ * exponentially growing, capped delay before each attempt. Reconnects are driven by the API, which
+ * waits the same time between all reconnect attempts of a session, so reconnect waits do not grow;
+ * instead each session created by the {@link SpringJCSMPFactory} draws its own reconnect wait with
+ * equal jitter, see {@link #jitterReconnectRetryWait(int)}.
+ * </p>
+ */
+public class SolaceReconnectPolicy {
+
+  private static final Logger logger = LoggerFactory.getLogger(SolaceReconnectPolicy.class);
+
+  //the largest reconnect wait accepted by JCSMPChannelProperties
+  private static final int MAX_RECONNECT_RETRY_WAIT_IN_MILLIS = 60000;
+  private static final int SERVICE_UNAVAILABLE = 503;
+
+  private final long initialDelayInMillis;
+  private final long maxDelayInMillis;
+  private final double multiplier;
+  private final int maxConnectAttempts;
+
+  /**
+   * Constructs a new SolaceReconnectPolicy.
+   *
+   * @param initialDelayInMillis the upper bound of the delay before the first retry
+   * @param maxDelayInMillis     the cap of the upper bound of the delay
+   * @param multiplier           the factor the upper bound grows by with every attempt
+   * @param maxConnectAttempts   the number of times the initial connect is attempted
+   */
+  public SolaceReconnectPolicy(long initialDelayInMillis, long maxDelayInMillis, double multiplier,
+      int maxConnectAttempts) {
+    if (initialDelayInMillis < 1 || maxDelayInMillis < initialDelayInMillis) {
+      throw new IllegalArgumentException(
+          "Initial delay must be at least 1 ms and not exceed the max delay");
+    }
+    if (multiplier < 1) {
+      throw new IllegalArgumentException("Multiplier must be at least 1");
+    }
+    if (maxConnectAttempts < 1) {
+      throw new IllegalArgumentException("Max connect attempts must be at least 1");
+    }
+    this.initialDelayInMillis = initialDelayInMillis;
+    this.maxDelayInMillis = maxDelayInMillis;
+    this.multiplier = multiplier;
+    this.maxConnectAttempts = maxConnectAttempts;
+  }
+
+  /**
+   * Returns the delay before a retry: a random time between zero and
+   * {@code min(maxDelay, initialDelay * multiplier^attempt)}.
+   *
+   * @param attempt the number of retries before this one, starting at zero
+   * @return the delay in milliseconds
+   */
+  public long delayInMillis(int attempt) {
+    final double bound = Math.min(maxDelayInMillis,
+        initialDelayInMillis * Math.pow(multiplier, attempt));
+    return ThreadLocalRandom.current().nextLong((long) bound + 1);
+  }
+
+  /**
+   * Draws the wait between the reconnect attempts of a session with equal jitter, so that the
+   * sessions of many instances do not reconnect at the same time. The wait is used for every
+   * reconnect attempt of the session, so it is kept at no less than half the configured wait: a
+   * session drawing a wait of a few milliseconds would otherwise keep retrying at that rate for the
+   * whole outage, and exhaust its reconnect retries before the message router is back.
+   *
+   * @param reconnectRetryWaitInMillis the configured reconnect wait, used as the upper bound
+   * @return a wait between half the configured wait and the configured wait
+   */
+  public int jitterReconnectRetryWait(int reconnectRetryWaitInMillis) {
+    final int bound = Math.min(reconnectRetryWaitInMillis, MAX_RECONNECT_RETRY_WAIT_IN_MILLIS);
+    if (bound <= 1) {
+      return bound;
+    }
+    final int floor = (bound + 1) / 2;
+    return floor + ThreadLocalRandom.current().nextInt(bound - floor + 1);
+  }
+
+  /**
+   * Connects a session, retrying with backoff when the message router cannot be reached or is
+   * unavailable. Other failures, such as rejected credentials, are not retried.
+   *
+   * @param session the session to connect
+   * @param policy  the policy, or {@code null} to connect once
+   * @throws JCSMPException if the session could not be connected within the attempts
+   */
+  public static void connect(JCSMPSession session, @Nullable SolaceReconnectPolicy policy)
+      throws JCSMPException {
+    if (policy == null) {
+      session.connect();
+      return;
+    }
+    for (int attempt = 0; ; attempt++) {
+      try {
+        session.connect();
+        return;
+      } catch (JCSMPException e) {
+        if (attempt + 1 >= policy.maxConnectAttempts || !isRetryable(e)) {
+          throw e;
+        }
+        final long delay = policy.delayInMillis(attempt);
+        logger.info("Unable to connect session {}, retrying in {} ms ({}/{})",
+            session.getSessionName(), delay, attempt + 1, policy.maxConnectAttempts, e);
+        try {
+          Thread.sleep(delay);
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          throw e;
+        }
+      }
+    }
+  }
+
+  private static boolean isRetryable(JCSMPException e) {
+    return e instanceof JCSMPTransportException
+        || (e instanceof JCSMPErrorResponseException
+            && ((JCSMPErrorResponseException) e).getResponseCode() == SERVICE_UNAVAILABLE);
+  }
+
+  /**
+   * Returns the number of times the initial connect is attempted.
+   * @return the max connect attempts
+   */
+  public int getMaxConnectAttempts() {
+    return maxConnectAttempts;
+  }
+}
@@ -0,0 +1,388 @@
+package com.solacesystems.jcsmp;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Asynchronous request/reply over a long-lived session created by a {@link SpringJCSMPFactory}.
+ * Requests are sent with the P2P inbox of the session as their reply-to destination and a
+ * correlation id, and the returned {@link CompletableFuture} is completed with the reply carrying
+ * the same correlation id, or with a {@link TimeoutException} once the request timeout has passed.
+ * <p>
+ * Outstanding requests are tracked in a concurrent correlation table, and their timeouts on a
+ * {@link SolaceTimingWheel}, so that a single requestor can drive thousands of concurrent requests
+ * without dedicating a thread to any of them. The session is created and connected on the first
+ * request.
+ * </p>
+ * <p>
+ * {@link #scatterGather(Destination, XMLMessage, int, long)} publishes a single request to many
+ * responders and gathers their replies under the same correlation id, until the expected number of
+ * replies is received or the timeout passes.
+ * </p>
+ * <p>
+ * The futures are completed on the context thread of the session, or on the thread of the timing
+ * wheel when they time out. Dependent stages which block must therefore use the {@code *Async}
+ * variants of {@link CompletableFuture}.
+ * </p>
+ */
+public class SolaceRequestor implements AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(SolaceRequestor.class);
+
+  private final SpringJCSMPFactory springJCSMPFactory;
+  private final SolaceMessageConverter messageConverter;
+  private final SolaceTimingWheel timingWheel;
+  private final long defaultTimeoutInMillis;
+  private final Map<String, Pending> pendingRequests = new ConcurrentHashMap<>();
+  private final String correlationIdPrefix = UUID.randomUUID() + "-";
+  private final AtomicLong nextCorrelationId = new AtomicLong();
+  private final Object lock = new Object();
+
+  private volatile JCSMPSession session;
+  private volatile XMLMessageProducer producer;
+  private volatile Topic replyTo;
+  private volatile boolean closed;
+
+  /**
+   * Constructs a new SolaceRequestor.
+   *
+   * @param springJCSMPFactory     the factory used to create the session of this requestor
+   * @param messageConverter       the converter used by
+   *                               {@link #convertAndRequest(Destination, Object, Class)}
+   * @param timingWheel            the wheel tracking the request timeouts
+   * @param defaultTimeoutInMillis the timeout of requests sent without an explicit timeout
+   */
+  public SolaceRequestor(SpringJCSMPFactory springJCSMPFactory,
+      SolaceMessageConverter messageConverter, SolaceTimingWheel timingWheel,
+      long defaultTimeoutInMillis) {
+    this.springJCSMPFactory = Objects.requireNonNull(springJCSMPFactory);
+    this.messageConverter = Objects.requireNonNull(messageConverter);
+    this.timingWheel = Objects.requireNonNull(timingWheel);
+    if (defaultTimeoutInMillis < 1) {
+      throw new IllegalArgumentException("Request timeout must be at least 1 ms");
+    }
+    this.defaultTimeoutInMillis = defaultTimeoutInMillis;
+  }
+
+  /**
+   * Sends a request with the default timeout.
+   *
+   * @param destination the destination of the request
+   * @param request     the request message
+   * @return a future completed with the reply
+   * @throws JCSMPException if the session could not be connected or the request not be sent
+   */
+  public CompletableFuture<BytesXMLMessage> request(Destination destination, XMLMessage request)
+      throws JCSMPException {
+    return request(destination, request, defaultTimeoutInMillis);
+  }
+
+  /**
+   * Sends a request. The reply-to destination and correlation id of the request are replaced by
+   * the ones of this requestor.
+   *
+   * @param destination     the destination of the request
+   * @param request         the request message
+   * @param timeoutInMillis how long to wait for the reply
+   * @return a future completed with the reply, or completed exceptionally with a
+   *         {@link TimeoutException} if no reply is received within the timeout
+   * @throws JCSMPException if the session could not be connected or the request not be sent
+   */
+  public CompletableFuture<BytesXMLMessage> request(Destination destination, XMLMessage request,
+      long timeoutInMillis) throws JCSMPException {
+    final PendingRequest pending = new PendingRequest(nextCorrelationId());
+    send(destination, request, timeoutInMillis, pending);
+    return pending.future;
+  }
+
+  /**
+   * Publishes a request to many responders and gathers their replies with the default timeout.
+   *
+   * @param destination     the destination of the request, typically a topic
+   * @param request         the request message
+   * @param expectedReplies the number of replies after which the result is complete
+   * @return a future completed with the gathered replies
+   * @throws JCSMPException if the session could not be connected or the request not be sent
+   */
+  public CompletableFuture<SolaceScatterGatherResult> scatterGather(Destination destination,
+      XMLMessage request, int expectedReplies) throws JCSMPException {
+    return scatterGather(destination, request, expectedReplies, defaultTimeoutInMillis);
+  }
+
+  /**
+   * Publishes a request to many responders and gathers their replies. The returned future is
+   * completed as soon as the expected number of replies is received, or with the replies received
+   * so far once the timeout has passed. Replies received after that are discarded.
+   *
+   * @param destination     the destination of the request, typically a topic
+   * @param request         the request message
+   * @param expectedReplies the number of replies after which the result is complete
+   * @param timeoutInMillis how long to wait for the expected replies
+   * @return a future completed with the gathered replies, which is never completed with a
+   *         {@link TimeoutException}
+   * @throws JCSMPException if the session could not be connected or the request not be sent
+   */
+  public CompletableFuture<SolaceScatterGatherResult> scatterGather(Destination destination,
+      XMLMessage request, int expectedReplies, long timeoutInMillis) throws JCSMPException {
+    if (expectedReplies < 1) {
+      throw new IllegalArgumentException("Expected replies must be at least 1");
+    }
+    final PendingGather pending = new PendingGather(nextCorrelationId(), expectedReplies);
+    send(destination, request, timeoutInMillis, pending);
+    return pending.future;
+  }
+
+  private String nextCorrelationId() {
+    return correlationIdPrefix + nextCorrelationId.getAndIncrement();
+  }
+
+  private void send(Destination destination, XMLMessage request, long timeoutInMillis,
+      Pending pending) throws JCSMPException {
+    final XMLMessageProducer currentProducer = getProducer();
+    request.setReplyTo(replyTo);
+    request.setCorrelationId(pending.correlationId);
+    pendingRequests.put(pending.correlationId, pending);
+    pending.timeout = timingWheel.schedule(() -> expire(pending), timeoutInMillis);
+    pending.sentNanos = System.nanoTime();
+    try {
+      currentProducer.send(request, destination);
+    } catch (JCSMPException | RuntimeException e) {
+      pendingRequests.remove(pending.correlationId);
+      pending.timeout.cancel();
+      throw e;
+    }
+  }
+
+  /**
+   * Converts the payload to a request message, sends it with the default timeout, and converts
+   * the reply to the given type.
+   *
+   * @param destination the destination of the request
+   * @param payload     the payload of the request
+   * @param replyType   the expected type of the reply payload
+   * @param <T>         the type of the reply payload
+   * @return a future completed with the reply payload
+   * @throws JCSMPException if the session could not be connected or the request not be sent
+   */
+  public <T> CompletableFuture<T> convertAndRequest(Destination destination, Object payload,
+      Class<T> replyType) throws JCSMPException {
+    final XMLMessage request = messageConverter.toMessage(payload);
+    request.setDeliveryMode(DeliveryMode.DIRECT);
+    return request(destination, request)
+        .thenApply(reply -> messageConverter.fromMessage(reply, replyType));
+  }
+
+  private void expire(Pending pending) {
+    if (pendingRequests.remove(pending.correlationId, pending)) {
+      pending.expire();
+    }
+  }
+
+  private void onReply(BytesXMLMessage reply) {
+    final long receivedNanos = System.nanoTime();
+    final String correlationId = reply.getCorrelationId();
+    final Pending pending = correlationId != null ? pendingRequests.get(correlationId) : null;
+    if (pending == null) {
+      if (logger.isDebugEnabled()) {
+        logger.debug("Discarding uncorrelated reply {} with correlation id {}",
+            reply.getMessageId(), correlationId);
+      }
+      return;
+    }
+    if (pending.accept(reply, receivedNanos)
+        && pendingRequests.remove(pending.correlationId, pending)) {
+      pending.timeout.cancel();
+      pending.complete();
+    }
+  }
+
+  private XMLMessageProducer getProducer() throws JCSMPException {
+    XMLMessageProducer current = producer;
+    if (current != null && !current.isClosed()) {
+      return current;
+    }
+
+    synchronized (lock) {
+      if (closed) {
+        throw new IllegalStateException("SolaceRequestor is closed");
+      }
+      current = producer;
+      if (current != null && !current.isClosed()) {
+        return current;
+      }
+      if (session != null) {
+        logger.info("Producer of session {} is closed, recreating the session",
+            session.getSessionName());
+        session.closeSession();
+      }
+
+      final JCSMPSession newSession = springJCSMPFactory.createSession();
+      try {
+        SolaceReconnectPolicy.connect(newSession, springJCSMPFactory.getReconnectPolicy());
+        final XMLMessageConsumer consumer = newSession.getMessageConsumer(new ReplyListener());
+        consumer.start();
+        current = newSession.getMessageProducer(new LoggingPublishEventHandler(SolaceRequestor.class));
+        replyTo = (Topic) newSession.getProperty(JCSMPProperties.P2PINBOX_IN_USE);
+      } catch (JCSMPException | RuntimeException e) {
+        newSession.closeSession();
+        session = null;
+        producer = null;
+        throw e;
+      }
+      session = newSession;
+      producer = current;
+      return current;
+    }
+  }
+
+  /**
+   * Returns the number of requests waiting for a reply.
+   * @return the pending request count
+   */
+  public int getPendingCount() {
+    return pendingRequests.size();
+  }
+
+  /**
+   * Closes the session of this requestor and fails all pending requests.
+   */
+  @Override
+  public void close() {
+    synchronized (lock) {
+      closed = true;
+      if (session != null) {
+        session.closeSession();
+        session = null;
+        producer = null;
+      }
+    }
+    for (Pending pending : pendingRequests.values()) {
+      if (pendingRequests.remove(pending.correlationId, pending)) {
+        if (pending.timeout != null) {
+          pending.timeout.cancel();
+        }
+        pending.fail(new IllegalStateException("SolaceRequestor is closed"));
+      }
+    }
+  }
+
+  /**
+   * An entry of the correlation table. Replies are accepted on the context thread, while the
+   * entry may expire on the timing wheel thread or fail on the closing thread, but only the
+   * thread which removes the entry from the table completes it.
+   */
+  private abstract static class Pending {
+
+    final String correlationId;
+    volatile SolaceTimingWheel.Timeout timeout;
+    volatile long sentNanos;
+
+    Pending(String correlationId) {
+      this.correlationId = correlationId;
+    }
+
+    /**
+     * Accepts a reply.
+     * @return {@code true} if no further replies are expected
+     */
+    abstract boolean accept(BytesXMLMessage reply, long receivedNanos);
+
+    abstract void complete();
+
+    abstract void expire();
+
+    abstract void fail(Throwable cause);
+  }
+
+  private static final class PendingRequest extends Pending {
+
+    private final CompletableFuture<BytesXMLMessage> future = new CompletableFuture<>();
+    private volatile BytesXMLMessage reply;
+
+    private PendingRequest(String correlationId) {
+      super(correlationId);
+    }
+
+    @Override
+    boolean accept(BytesXMLMessage reply, long receivedNanos) {
+      this.reply = reply;
+      return true;
+    }
+
+    @Override
+    void complete() {
+      future.complete(reply);
+    }
+
+    @Override
+    void expire() {
+      future.completeExceptionally(new TimeoutException(String.format(
+          "No reply received for request %s", correlationId)));
+    }
+
+    @Override
+    void fail(Throwable cause) {
+      future.completeExceptionally(cause);
+    }
+  }
+
+  private static final class PendingGather extends Pending {
+
+    private final CompletableFuture<SolaceScatterGatherResult> future = new CompletableFuture<>();
+    private final SolaceScatterGatherResult.Reply[] replies;
+    private int replyCount;
+
+    private PendingGather(String correlationId, int expectedReplies) {
+      super(correlationId);
+      this.replies = new SolaceScatterGatherResult.Reply[expectedReplies];
+    }
+
+    @Override
+    synchronized boolean accept(BytesXMLMessage reply, long receivedNanos) {
+      if (replyCount < replies.length) {
+        replies[replyCount++] = new SolaceScatterGatherResult.Reply(reply,
+            reply.getSenderId(), receivedNanos - sentNanos);
+      }
+      return replyCount == replies.length;
+    }
+
+    @Override
+    void complete() {
+      future.complete(result());
+    }
+
+    @Override
+    void expire() {
+      future.complete(result());
+    }
+
+    @Override
+    void fail(Throwable cause) {
+      future.completeExceptionally(cause);
+    }
+
+    private synchronized SolaceScatterGatherResult result() {
+      return new SolaceScatterGatherResult(replies.length, replies, replyCount);
+    }
+  }
+
+  private final class ReplyListener implements XMLMessageListener {
+
+    @Override
+    public void onReceive(BytesXMLMessage message) {
+      onReply(message);
+    }
+
+    @Override
+    public void onException(JCSMPException e) {
+      logger.warn("SolaceRequestor received exception", e);
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package com.solacesystems.jcsmp;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.lang.Nullable;
+
+/**
+ * The replies gathered for a request published with
+ * {@link SolaceRequestor#scatterGather(Destination, XMLMessage, int, long)}, in the order they were
+ * received. The result is partial when the timeout passed before the expected number of replies
+ * was received.
+ */
+public final class SolaceScatterGatherResult {
+
+  private final int expectedReplies;
+  private final List<Reply> replies;
+
+  SolaceScatterGatherResult(int expectedReplies, Reply[] replies, int replyCount) {
+    this.expectedReplies = expectedReplies;
+    this.replies = Collections.unmodifiableList(Arrays.asList(
+        Arrays.copyOf(replies, replyCount)));
+  }
+
+  /**
+   * Returns the replies received, in the order they were received.
+   * @return the replies
+   */
+  public List<Reply> getReplies() {
+    return replies;
+  }
+
+  /**
+   * Returns the number of replies after which the result was to be complete.
+   * @return the expected reply count
+   */
+  public int getExpectedReplies() {
+    return expectedReplies;
+  }
+
+  /**
+   * Returns whether the expected number of replies was received before the timeout.
+   * @return {@code true} if the result is complete, {@code false} if it is partial
+   */
+  public boolean isComplete() {
+    return replies.size() == expectedReplies;
+  }
+
+  /**
+   * A reply gathered from one responder.
+   */
+  public static final class Reply {
+
+    private final BytesXMLMessage message;
+    private final String responder;
+    private final long latencyInNanos;
+
+    Reply(BytesXMLMessage message, @Nullable String responder, long latencyInNanos) {
+      this.message = message;
+      this.responder = responder;
+      this.latencyInNanos = latencyInNanos;
+    }
+
+    /**
+     * Returns the reply message.
+     * @return the reply
+     */
+    public BytesXMLMessage getMessage() {
+      return message;
+    }
+
+    /**
+     * Returns the sender id of the reply, which identifies the responder when responders set it.
+     * @return the responder, or {@code null} if the reply has no sender id
+     */
+    @Nullable
+    public String getResponder() {
+      return responder;
+    }
+
+    /**
+     * Returns the time between sending the request and receiving this reply.
+     * @param unit the unit of the returned latency
+     * @return the latency of the responder
+     */
+    public long getLatency(TimeUnit unit) {
+      return unit.convert(latencyInNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+      return "Reply{responder=" + responder + ", latencyInMicros="
+          + TimeUnit.NANOSECONDS.toMicros(latencyInNanos) + '}';
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package com.solacesystems.jcsmp;
+
+/**
+ * Listener notified by the {@link SpringJCSMPFactory} of the sessions it creates and of their
+ * events, in addition to the session event handler of each session.
+ *
+ * @see SpringJCSMPFactory#addSessionListener(SolaceSessionListener)
+ */
+public interface SolaceSessionListener {
+
+  /**
+   * Called after a session is created, before it is connected.
+   *
+   * @param session the new session
+   */
+  default void onSessionCreated(JCSMPSession session) {
+  }
+
+  /**
+   * Called on the context thread of a session for each of its events, such as
+   * {@link SessionEvent#RECONNECTING}. Must not block.
+   *
+   * @param session the session
+   * @param event   the event
+   */
+  default void onSessionEvent(JCSMPSession session, SessionEventArgs event) {
+  }
+}
@@ -0,0 +1,473 @@
+package com.solacesystems.jcsmp;
+
+import com.solace.spring.boot.autoconfigure.SolaceJavaProperties;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * A bounded pool of connected {@link JCSMPSession}s created by a {@link SpringJCSMPFactory}.
+ * Borrowing a pooled session avoids paying the connection, TLS and login handshake of
+ * {@link SpringJCSMPFactory#createSession()} and {@link JCSMPSession#connect()} for every unit of
+ * work.
+ * <p>
+ * Borrowed sessions must be handed back through {@link #returnSession(JCSMPSession)}, or through
+ * {@link #invalidateSession(JCSMPSession)} if the session must not be reused.
+ * </p>
+ * <p>
+ * The pool never holds more than its max size of sessions, counting idle and borrowed sessions
+ * as well as sessions being connected for a borrower. When started, the pool is filled up to its
+ * min size, which idle eviction never shrinks it below.
+ * </p>
+ */
+public class SolaceSessionPool implements SmartLifecycle, AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(SolaceSessionPool.class);
+
+  /**
+   * Starts after the session warm-up, so that only the sessions which were not warmed up are
+   * created to fill the pool to its min size.
+   */
+  public static final int PHASE = SolaceSessionWarmup.PHASE + 1;
+
+  private final SpringJCSMPFactory springJCSMPFactory;
+  private final int minSize;
+  private final int maxSize;
+  private final long idleTimeoutInMillis;
+  private final boolean validateOnBorrow;
+  private final long borrowTimeoutInMillis;
+
+  private final Semaphore permits;
+  //most recently returned sessions are at the head, so that idle eviction trims the tail
+  private final LinkedBlockingDeque<IdleSession> idleSessions = new LinkedBlockingDeque<>();
+  private final Set<JCSMPSession> borrowedSessions = ConcurrentHashMap.newKeySet();
+  //the idle, borrowed and connecting sessions, reserved before a session joins the pool
+  private final AtomicInteger size = new AtomicInteger();
+  private final ScheduledExecutorService evictor;
+  private volatile boolean closed;
+  private volatile boolean running;
+
+  private final LongAdder borrowCount = new LongAdder();
+  private final LongAdder borrowTimeNanos = new LongAdder();
+  private final LongAdder borrowTimeoutCount = new LongAdder();
+  private final LongAdder returnCount = new LongAdder();
+  private final LongAdder returnTimeNanos = new LongAdder();
+  private final LongAdder createdCount = new LongAdder();
+  private final LongAdder destroyedCount = new LongAdder();
+
+  /**
+   * Constructs a new SolaceSessionPool which creates its sessions with the given factory.
+   *
+   * @param springJCSMPFactory the factory used to create new sessions
+   * @param settings           the pool settings, copied at construction time
+   */
+  public SolaceSessionPool(SpringJCSMPFactory springJCSMPFactory,
+      SolaceJavaProperties.SessionPool settings) {
+    Objects.requireNonNull(springJCSMPFactory);
+    Objects.requireNonNull(settings);
+    if (settings.getMaxSize() < 1) {
+      throw new IllegalArgumentException("Session pool max size must be at least 1");
+    }
+    if (settings.getMinSize() < 0 || settings.getMinSize() > settings.getMaxSize()) {
+      throw new IllegalArgumentException(String.format(
+          "Session pool min size must be between 0 and the max size %d", settings.getMaxSize()));
+    }
+
+    this.springJCSMPFactory = springJCSMPFactory;
+    this.minSize = settings.getMinSize();
+    this.maxSize = settings.getMaxSize();
+    this.idleTimeoutInMillis = settings.getIdleTimeoutInMillis();
+    this.validateOnBorrow = settings.isValidateOnBorrow();
+    this.borrowTimeoutInMillis = settings.getBorrowTimeoutInMillis();
+    this.permits = new Semaphore(maxSize, true);
+
+    if (idleTimeoutInMillis > 0) {
+      this.evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+        final Thread thread = new Thread(r, "solace-session-pool-evictor");
+        thread.setDaemon(true);
+        return thread;
+      });
+      final long interval = Math.max(1, settings.getEvictionIntervalInMillis());
+      this.evictor.scheduleWithFixedDelay(this::evictIdleSessions, interval, interval,
+          TimeUnit.MILLISECONDS);
+    } else {
+      this.evictor = null;
+    }
+  }
+
+  /**
+   * Borrows a connected session from the pool, creating and connecting a new one if no idle
+   * session is available and the pool is below its max size.
+   *
+   * @return a connected session which must be handed back to this pool
+   * @throws JCSMPException if no session became available within the borrow timeout, or if a new
+   *                        session could not be created or connected
+   */
+  public JCSMPSession borrowSession() throws JCSMPException {
+    if (closed) {
+      throw new IllegalStateException("Session pool is closed");
+    }
+
+    final long start = System.nanoTime();
+    try {
+      if (!permits.tryAcquire(borrowTimeoutInMillis, TimeUnit.MILLISECONDS)) {
+        borrowTimeoutCount.increment();
+        throw new JCSMPException(String.format(
+            "Timed out after %d ms waiting for a session, all %d pooled sessions are in use",
+            borrowTimeoutInMillis, maxSize));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new JCSMPException("Interrupted while waiting for a pooled session", e);
+    }
+
+    try {
+      final JCSMPSession session = takeIdleOrCreateSession();
+      borrowedSessions.add(session);
+      borrowCount.increment();
+      borrowTimeNanos.add(System.nanoTime() - start);
+      return session;
+    } catch (JCSMPException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Hands a borrowed session back to the pool. Sessions which have been closed in the meantime are
+   * discarded.
+   *
+   * @param session a session previously obtained from {@link #borrowSession()}
+   */
+  public void returnSession(JCSMPSession session) {
+    final long start = System.nanoTime();
+    if (!borrowedSessions.remove(session)) {
+      throw new IllegalArgumentException("Session was not borrowed from this pool");
+    }
+
+    try {
+      if (closed || session.isClosed()) {
+        destroySession(session);
+      } else {
+        idleSessions.offerFirst(new IdleSession(session, System.currentTimeMillis()));
+        if (closed) {
+          destroyIdleSessions();
+        }
+      }
+    } finally {
+      permits.release();
+      returnCount.increment();
+      returnTimeNanos.add(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Closes a borrowed session instead of handing it back for reuse, for example after it failed
+   * in a way that leaves it unusable.
+   *
+   * @param session a session previously obtained from {@link #borrowSession()}
+   */
+  public void invalidateSession(JCSMPSession session) {
+    if (!borrowedSessions.remove(session)) {
+      throw new IllegalArgumentException("Session was not borrowed from this pool");
+    }
+
+    try {
+      destroySession(session);
+    } finally {
+      permits.release();
+    }
+  }
+
+  /**
+   * Adds an already connected session to the idle sessions of the pool, for example one created
+   * while warming up the application. The session is not added if the pool is closed or already
+   * holds its max size of sessions.
+   *
+   * @param session a connected session which is handed over to the pool
+   * @return {@code true} if the session was added, {@code false} if the caller keeps ownership
+   */
+  public boolean addIdleSession(JCSMPSession session) {
+    if (closed || !isValid(session) || !reserve()) {
+      return false;
+    }
+    idleSessions.offerLast(new IdleSession(session, System.currentTimeMillis()));
+    createdCount.increment();
+    if (closed) {
+      destroyIdleSessions();
+    }
+    return true;
+  }
+
+  /**
+   * Fills the pool up to its min size, creating and connecting the missing sessions in parallel.
+   * Startup continues with a warning if they cannot be connected, the pool then creates sessions
+   * when they are borrowed.
+   */
+  @Override
+  public void start() {
+    final int missing = minSize - size.get();
+    if (missing > 0 && !closed) {
+      fill(missing);
+    }
+    running = true;
+  }
+
+  private void fill(int count) {
+    final CompletableFuture<List<JCSMPSession>> future =
+        springJCSMPFactory.createSessionsAsync(count);
+    final List<JCSMPSession> connected;
+    try {
+      connected = future.get();
+    } catch (ExecutionException e) {
+      logger.warn("Failed to fill the session pool to its min size of {} sessions", minSize,
+          e.getCause());
+      return;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      future.thenAccept(late -> late.forEach(JCSMPSession::closeSession));
+      return;
+    }
+    for (JCSMPSession session : connected) {
+      if (!addIdleSession(session)) {
+        session.closeSession();
+      }
+    }
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    return PHASE;
+  }
+
+  /**
+   * Closes all idle and borrowed sessions and stops idle eviction. Sessions returned after the
+   * pool has been closed are closed instead of pooled.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    if (evictor != null) {
+      evictor.shutdownNow();
+    }
+    destroyIdleSessions();
+    for (JCSMPSession session : borrowedSessions) {
+      session.closeSession();
+    }
+  }
+
+  private JCSMPSession takeIdleOrCreateSession() throws JCSMPException {
+    while (true) {
+      IdleSession idleSession;
+      while ((idleSession = idleSessions.pollFirst()) != null) {
+        if (!validateOnBorrow || isValid(idleSession.session)) {
+          return idleSession.session;
+        }
+        if (logger.isDebugEnabled()) {
+          logger.debug("Discarding pooled session {} which failed validation",
+              idleSession.session.getSessionName());
+        }
+        destroySession(idleSession.session);
+      }
+      //as the borrower holds a permit, a full pool implies that an idle session is being added
+      if (reserve()) {
+        return createSession();
+      }
+    }
+  }
+
+  private JCSMPSession createSession() throws JCSMPException {
+    final JCSMPSession session;
+    try {
+      session = springJCSMPFactory.createSession();
+    } catch (JCSMPException | RuntimeException e) {
+      size.decrementAndGet();
+      throw e;
+    }
+    try {
+      SolaceReconnectPolicy.connect(session, springJCSMPFactory.getReconnectPolicy());
+    } catch (JCSMPException | RuntimeException e) {
+      session.closeSession();
+      size.decrementAndGet();
+      throw e;
+    }
+    createdCount.increment();
+    return session;
+  }
+
+  private boolean reserve() {
+    int current;
+    do {
+      current = size.get();
+      if (current >= maxSize) {
+        return false;
+      }
+    } while (!size.compareAndSet(current, current + 1));
+    return true;
+  }
+
+  private boolean isValid(JCSMPSession session) {
+    return !session.isClosed();
+  }
+
+  /**
+   * Closes idle sessions which have exceeded the idle timeout, or which are no longer open, while
+   * keeping at least the configured min size of sessions in the pool.
+   */
+  void evictIdleSessions() {
+    final long now = System.currentTimeMillis();
+    int surplus = size.get() - minSize;
+    final Iterator<IdleSession> oldestFirst = idleSessions.descendingIterator();
+    while (oldestFirst.hasNext()) {
+      final IdleSession idleSession = oldestFirst.next();
+      final boolean invalid = !isValid(idleSession.session);
+      final boolean expired = surplus > 0 && now - idleSession.idleSince >= idleTimeoutInMillis;
+      if ((invalid || expired) && idleSessions.remove(idleSession)) {
+        destroySession(idleSession.session);
+        surplus--;
+      }
+    }
+  }
+
+  private void destroyIdleSessions() {
+    IdleSession idleSession;
+    while ((idleSession = idleSessions.pollFirst()) != null) {
+      destroySession(idleSession.session);
+    }
+  }
+
+  private void destroySession(JCSMPSession session) {
+    size.decrementAndGet();
+    try {
+      session.closeSession();
+    } catch (RuntimeException e) {
+      if (logger.isDebugEnabled()) {
+        logger.debug("Exception while closing pooled session.", e);
+      }
+    }
+    destroyedCount.increment();
+  }
+
+  /**
+   * Returns the number of sessions currently borrowed from the pool.
+   * @return the number of borrowed sessions
+   */
+  public int getActiveCount() {
+    return borrowedSessions.size();
+  }
+
+  /**
+   * Returns the number of connected sessions waiting in the pool to be borrowed.
+   * @return the number of idle sessions
+   */
+  public int getIdleCount() {
+    return idleSessions.size();
+  }
+
+  /**
+   * Returns the maximum number of sessions managed by the pool.
+   * @return the max pool size
+   */
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Returns the estimated number of threads waiting for a session to become available.
+   * @return the number of pending borrowers
+   */
+  public int getPendingBorrowCount() {
+    return permits.getQueueLength();
+  }
+
+  /**
+   * Returns the number of successful borrows since the pool was created.
+   * @return the borrow count
+   */
+  public long getBorrowCount() {
+    return borrowCount.sum();
+  }
+
+  /**
+   * Returns the accumulated time successful borrowers spent in {@link #borrowSession()}.
+   * @return the total borrow time in nanoseconds
+   */
+  public long getBorrowTimeNanos() {
+    return borrowTimeNanos.sum();
+  }
+
+  /**
+   * Returns the number of borrows which timed out because the pool was exhausted.
+   * @return the borrow timeout count
+   */
+  public long getBorrowTimeoutCount() {
+    return borrowTimeoutCount.sum();
+  }
+
+  /**
+   * Returns the number of sessions handed back through {@link #returnSession(JCSMPSession)}.
+   * @return the return count
+   */
+  public long getReturnCount() {
+    return returnCount.sum();
+  }
+
+  /**
+   * Returns the accumulated time spent in {@link #returnSession(JCSMPSession)}.
+   * @return the total return time in nanoseconds
+   */
+  public long getReturnTimeNanos() {
+    return returnTimeNanos.sum();
+  }
+
+  /**
+   * Returns the number of sessions the pool has created and connected.
+   * @return the created session count
+   */
+  public long getCreatedCount() {
+    return createdCount.sum();
+  }
+
+  /**
+   * Returns the number of sessions the pool has closed.
+   * @return the destroyed session count
+   */
+  public long getDestroyedCount() {
+    return destroyedCount.sum();
+  }
+
+  private static final class IdleSession {
+
+    private final JCSMPSession session;
+    private final long idleSince;
+
+    private IdleSession(JCSMPSession session, long idleSince) {
+      this.session = session;
+      this.idleSince = idleSince;
+    }
+  }
+}
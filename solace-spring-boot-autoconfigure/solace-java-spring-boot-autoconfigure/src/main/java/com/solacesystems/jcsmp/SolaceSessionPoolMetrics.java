@@ -0,0 +1,73 @@
+package com.solacesystems.jcsmp;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer {@link MeterBinder} publishing the size, saturation and borrow/return latency of a
+ * {@link SolaceSessionPool}.
+ */
+public class SolaceSessionPoolMetrics implements MeterBinder {
+
+  private final SolaceSessionPool solaceSessionPool;
+
+  /**
+   * Constructs a new SolaceSessionPoolMetrics for the given pool.
+   *
+   * @param solaceSessionPool the pool to instrument
+   */
+  public SolaceSessionPoolMetrics(SolaceSessionPool solaceSessionPool) {
+    this.solaceSessionPool = Objects.requireNonNull(solaceSessionPool);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("solace.session.pool.active", solaceSessionPool,
+            SolaceSessionPool::getActiveCount)
+        .description("Sessions currently borrowed from the pool")
+        .register(registry);
+    Gauge.builder("solace.session.pool.idle", solaceSessionPool, SolaceSessionPool::getIdleCount)
+        .description("Connected sessions waiting in the pool")
+        .register(registry);
+    Gauge.builder("solace.session.pool.max", solaceSessionPool, SolaceSessionPool::getMaxSize)
+        .description("Maximum number of sessions managed by the pool")
+        .register(registry);
+    Gauge.builder("solace.session.pool.pending", solaceSessionPool,
+            SolaceSessionPool::getPendingBorrowCount)
+        .description("Threads waiting for a session to become available")
+        .register(registry);
+    Gauge.builder("solace.session.pool.usage", solaceSessionPool,
+            pool -> (double) pool.getActiveCount() / pool.getMaxSize())
+        .description("Ratio of borrowed sessions to the maximum pool size")
+        .register(registry);
+
+    FunctionTimer.builder("solace.session.pool.borrow", solaceSessionPool,
+            SolaceSessionPool::getBorrowCount, SolaceSessionPool::getBorrowTimeNanos,
+            TimeUnit.NANOSECONDS)
+        .description("Time spent borrowing sessions from the pool")
+        .register(registry);
+    FunctionTimer.builder("solace.session.pool.return", solaceSessionPool,
+            SolaceSessionPool::getReturnCount, SolaceSessionPool::getReturnTimeNanos,
+            TimeUnit.NANOSECONDS)
+        .description("Time spent returning sessions to the pool")
+        .register(registry);
+
+    FunctionCounter.builder("solace.session.pool.borrow.timeouts", solaceSessionPool,
+            SolaceSessionPool::getBorrowTimeoutCount)
+        .description("Borrows which timed out because the pool was exhausted")
+        .register(registry);
+    FunctionCounter.builder("solace.session.pool.created", solaceSessionPool,
+            SolaceSessionPool::getCreatedCount)
+        .description("Sessions created and connected by the pool")
+        .register(registry);
+    FunctionCounter.builder("solace.session.pool.destroyed", solaceSessionPool,
+            SolaceSessionPool::getDestroyedCount)
+        .description("Sessions closed by the pool")
+        .register(registry);
+  }
+}
@@ -0,0 +1,170 @@
+package com.solacesystems.jcsmp;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer {@link MeterBinder} publishing the statistics of the sessions created by a
+ * {@link SpringJCSMPFactory}, such as the messages and bytes sent and received, discards and
+ * redeliveries. Register it with {@link SpringJCSMPFactory#addSessionListener(SolaceSessionListener)};
+ * sessions created before are not published.
+ * <p>
+ * Every {@link SessionStat} is published as a function counter named after the statistic, for
+ * example {@code solace.session.total.msgs.sent} for {@link SessionStat#TOTAL_MSGS_SENT}, tagged
+ * with the name of the session and a {@code session.id} numbering the sessions in the order they
+ * were created, so that sessions sharing a name, such as pooled sessions, do not share meters.
+ * Nothing is recorded while messages are sent or received: the
+ * statistics are read from the session when the meters are published, and one sample is shared
+ * by all meters of a session for the sample interval, so that publishing them reads the
+ * statistics of each session once. The meters of a session are removed when it goes down, or when
+ * they are published after it was closed.
+ * </p>
+ */
+public class SolaceSessionStatsMetrics implements MeterBinder, SolaceSessionListener {
+
+  private static final SessionStat[] STATS = SessionStat.values();
+
+  private final long sampleIntervalInNanos;
+  private final List<MeterRegistry> registries = new ArrayList<>();
+  private final Map<JCSMPSession, Sample> samples = new LinkedHashMap<>();
+  private long sessionCount;
+
+  /**
+   * Constructs a new SolaceSessionStatsMetrics.
+   *
+   * @param sampleIntervalInMillis how long a sample of the statistics of a session is reused
+   */
+  public SolaceSessionStatsMetrics(long sampleIntervalInMillis) {
+    if (sampleIntervalInMillis < 0) {
+      throw new IllegalArgumentException("Sample interval must not be negative");
+    }
+    this.sampleIntervalInNanos = TimeUnit.MILLISECONDS.toNanos(sampleIntervalInMillis);
+  }
+
+  @Override
+  public synchronized void bindTo(MeterRegistry registry) {
+    removeClosedSessions();
+    registries.add(registry);
+    for (Sample sample : samples.values()) {
+      register(registry, sample);
+    }
+  }
+
+  @Override
+  public synchronized void onSessionCreated(JCSMPSession session) {
+    removeClosedSessions();
+    final Sample sample = new Sample(session, ++sessionCount);
+    samples.put(session, sample);
+    for (MeterRegistry registry : registries) {
+      register(registry, sample);
+    }
+  }
+
+  /**
+   * Returns the number of sessions whose statistics are published.
+   * @return the session count
+   */
+  public synchronized int getSessionCount() {
+    return samples.size();
+  }
+
+  private void register(MeterRegistry registry, Sample sample) {
+    final String sessionName = sample.session.getSessionName();
+    final String sessionId = String.valueOf(sample.id);
+    for (SessionStat stat : STATS) {
+      sample.meterIds.add(FunctionCounter.builder(meterName(stat), sample, s -> s.get(stat))
+          .tag("session", sessionName)
+          .tag("session.id", sessionId)
+          .description("Session statistic " + stat.name())
+          .register(registry)
+          .getId());
+    }
+  }
+
+  @Override
+  public void onSessionEvent(JCSMPSession session, SessionEventArgs event) {
+    if (event.getEvent() == SessionEvent.DOWN_ERROR) {
+      remove(session);
+    }
+  }
+
+  private synchronized void remove(JCSMPSession session) {
+    final Sample sample = samples.remove(session);
+    if (sample != null) {
+      removeMeters(sample);
+    }
+  }
+
+  private void removeClosedSessions() {
+    final Iterator<Sample> iterator = samples.values().iterator();
+    while (iterator.hasNext()) {
+      final Sample sample = iterator.next();
+      if (sample.session.isClosed()) {
+        iterator.remove();
+        removeMeters(sample);
+      }
+    }
+  }
+
+  private void removeMeters(Sample sample) {
+    for (MeterRegistry registry : registries) {
+      for (Meter.Id id : sample.meterIds) {
+        registry.remove(id);
+      }
+    }
+  }
+
+  private static String meterName(SessionStat stat) {
+    return "solace.session." + stat.name().toLowerCase(Locale.ROOT).replace('_', '.');
+  }
+
+  /**
+   * The last statistics read from a session, shared by all its meters.
+   */
+  private final class Sample {
+
+    private final JCSMPSession session;
+    private final long id;
+    private final long[] values = new long[STATS.length];
+    private final List<Meter.Id> meterIds = new ArrayList<>(STATS.length);
+    private long sampledAt;
+    private boolean sampled;
+
+    private Sample(JCSMPSession session, long id) {
+      this.session = session;
+      this.id = id;
+    }
+
+    private double get(SessionStat stat) {
+      final boolean closed;
+      final double value;
+      synchronized (this) {
+        final long now = System.nanoTime();
+        closed = session.isClosed();
+        //a closed session reports its last sample while its meters are removed
+        if (!closed && (!sampled || now - sampledAt >= sampleIntervalInNanos)) {
+          final JCSMPSessionStats stats = session.getSessionStats();
+          for (int i = 0; i < STATS.length; i++) {
+            values[i] = stats.getStat(STATS[i]);
+          }
+          sampledAt = now;
+          sampled = true;
+        }
+        value = values[stat.ordinal()];
+      }
+      if (closed) {
+        remove(session);
+      }
+      return value;
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package com.solacesystems.jcsmp;
+
+import com.solace.spring.boot.autoconfigure.SolaceJavaProperties;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link SmartLifecycle} which creates and connects a number of sessions in parallel while the
+ * application context starts, so that the application is only reported as ready once its sessions
+ * are connected. Warmed-up sessions are handed to the {@link SolaceSessionPool} as idle sessions,
+ * so that the first borrowers after a deployment do not pay the connection setup. Sessions beyond
+ * the max size of the pool are closed.
+ */
+public class SolaceSessionWarmup implements SmartLifecycle {
+
+  private static final Logger logger = LoggerFactory.getLogger(SolaceSessionWarmup.class);
+
+  /**
+   * Starts before the embedded web server starts accepting requests.
+   */
+  public static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+  private final SpringJCSMPFactory springJCSMPFactory;
+  private final int sessionCount;
+  private final boolean warmupProducers;
+  private final long timeoutInMillis;
+  private final SolaceSessionPool solaceSessionPool;
+  private final JCSMPStreamingPublishCorrelatingEventHandler publishEventHandler;
+  private volatile boolean running;
+
+  /**
+   * Constructs a new SolaceSessionWarmup.
+   *
+   * @param springJCSMPFactory  the factory used to create the sessions
+   * @param settings            the warm-up settings, copied at construction time
+   * @param solaceSessionPool   the pool receiving the warmed-up sessions, which is only optional
+   *                            when no sessions are warmed up
+   * @param publishEventHandler the handler of warmed-up producers, or {@code null} to log publish
+   *                            events
+   */
+  public SolaceSessionWarmup(SpringJCSMPFactory springJCSMPFactory,
+      SolaceJavaProperties.Warmup settings, @Nullable SolaceSessionPool solaceSessionPool,
+      @Nullable JCSMPStreamingPublishCorrelatingEventHandler publishEventHandler) {
+    this.springJCSMPFactory = Objects.requireNonNull(springJCSMPFactory);
+    this.sessionCount = settings.getSessions();
+    this.warmupProducers = settings.isProducers();
+    this.timeoutInMillis = settings.getTimeoutInMillis();
+    if (sessionCount > 0 && solaceSessionPool == null) {
+      throw new IllegalArgumentException("Warming up sessions requires a SolaceSessionPool");
+    }
+    this.solaceSessionPool = solaceSessionPool;
+    this.publishEventHandler = publishEventHandler != null ? publishEventHandler
+        : new LoggingPublishEventHandler(SolaceSessionWarmup.class);
+  }
+
+  @Override
+  public void start() {
+    if (sessionCount > 0) {
+      warmup();
+    }
+    running = true;
+  }
+
+  private void warmup() {
+    final long start = System.nanoTime();
+    final CompletableFuture<List<JCSMPSession>> future =
+        springJCSMPFactory.createSessionsAsync(sessionCount)
+            .thenApply(connected -> {
+              try {
+                connected.forEach(this::prepareSession);
+              } catch (RuntimeException e) {
+                connected.forEach(JCSMPSession::closeSession);
+                throw e;
+              }
+              return connected;
+            });
+
+    final List<JCSMPSession> connected;
+    try {
+      connected = future.get(timeoutInMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      //close the sessions if they connect after startup gave up on them
+      future.thenAccept(late -> late.forEach(JCSMPSession::closeSession));
+      logger.warn("Timed out after {} ms warming up {} Solace sessions, continuing startup",
+          timeoutInMillis, sessionCount);
+      return;
+    } catch (ExecutionException e) {
+      logger.warn("Failed to warm up {} Solace sessions, continuing startup", sessionCount,
+          e.getCause());
+      return;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      future.thenAccept(late -> late.forEach(JCSMPSession::closeSession));
+      return;
+    }
+
+    int pooled = 0;
+    for (JCSMPSession session : connected) {
+      if (solaceSessionPool.addIdleSession(session)) {
+        pooled++;
+      } else {
+        session.closeSession();
+      }
+    }
+    if (logger.isInfoEnabled()) {
+      logger.info("Warmed up {} Solace sessions ({} pooled) in {} ms", connected.size(), pooled,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+  }
+
+  private void prepareSession(JCSMPSession session) {
+    try {
+      if (warmupProducers) {
+        session.getMessageProducer(publishEventHandler);
+      }
+    } catch (JCSMPException e) {
+      throw new IllegalStateException(
+          String.format("Unable to prepare warmed-up session %s", session.getSessionName()), e);
+    }
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    return PHASE;
+  }
+}
@@ -0,0 +1,207 @@
+package com.solacesystems.jcsmp;
+
+import com.solace.spring.boot.autoconfigure.SolaceJavaProperties;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.lang.Nullable;
+
+/**
+ * Registers topic subscriptions in bulk. Instead of waiting for the confirmation of every
+ * subscription in turn, which costs a round trip to the message router per subscription, all but
+ * the last subscription are added without waiting, and only the confirmation of the last one is
+ * awaited. As the message router processes the subscriptions of a session in order, the last
+ * confirmation implies that the subscriptions before it were processed too. A subscription which
+ * is rejected without being waited for is reported to the session event handler.
+ * <p>
+ * While the application context starts, the topic subscriptions configured for queues are added
+ * to them, and the {@link SolaceSubscriptionRegistry} is connected so that the configured topic
+ * subscriptions of sessions, which it holds, are added to its shared session. Sessions which do
+ * not consume messages, such as pooled or warmed-up sessions, are not subscribed.
+ * </p>
+ */
+public class SolaceSubscriptionManager implements SmartLifecycle {
+
+  private static final Logger logger = LoggerFactory.getLogger(SolaceSubscriptionManager.class);
+
+  /**
+   * Starts before the session warm-up and the listener containers, so that queues receive the
+   * messages of their subscriptions before consumers bind to them.
+   */
+  public static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 8192;
+
+  private final SpringJCSMPFactory springJCSMPFactory;
+  private final SolaceSubscriptionRegistry subscriptionRegistry;
+  private final List<Topic> topics;
+  private final Map<Queue, List<Topic>> queueSubscriptions = new LinkedHashMap<>();
+  private volatile boolean running;
+
+  /**
+   * Constructs a new SolaceSubscriptionManager.
+   *
+   * @param springJCSMPFactory the factory used to create the session adding queue subscriptions
+   * @param settings           the subscription settings, copied at construction time
+   */
+  public SolaceSubscriptionManager(SpringJCSMPFactory springJCSMPFactory,
+      SolaceJavaProperties.Subscriptions settings) {
+    this(springJCSMPFactory, settings, null);
+  }
+
+  /**
+   * Constructs a new SolaceSubscriptionManager which connects the shared session of a registry
+   * holding the configured topic subscriptions of sessions at startup.
+   *
+   * @param springJCSMPFactory   the factory used to create the session adding queue subscriptions
+   * @param settings             the subscription settings, copied at construction time
+   * @param subscriptionRegistry the registry holding the configured topic subscriptions, or
+   *                             {@code null}
+   */
+  public SolaceSubscriptionManager(SpringJCSMPFactory springJCSMPFactory,
+      SolaceJavaProperties.Subscriptions settings,
+      @Nullable SolaceSubscriptionRegistry subscriptionRegistry) {
+    this.springJCSMPFactory = Objects.requireNonNull(springJCSMPFactory);
+    this.subscriptionRegistry = subscriptionRegistry;
+    this.topics = Collections.unmodifiableList(createTopics(settings.getTopics()));
+    for (Map.Entry<String, List<String>> entry : settings.getQueues().entrySet()) {
+      queueSubscriptions.put(JCSMPFactory.onlyInstance().createQueue(entry.getKey()),
+          createTopics(entry.getValue()));
+    }
+  }
+
+  /**
+   * Adds topic subscriptions to a session in bulk, waiting only for the confirmation of the last
+   * one.
+   *
+   * @param session       the connected session
+   * @param subscriptions the subscriptions to add
+   * @throws JCSMPException if a subscription could not be added
+   */
+  public static void addSubscriptions(JCSMPSession session,
+      Collection<? extends Subscription> subscriptions) throws JCSMPException {
+    final Iterator<? extends Subscription> iterator = subscriptions.iterator();
+    while (iterator.hasNext()) {
+      final Subscription subscription = iterator.next();
+      session.addSubscription(subscription, !iterator.hasNext());
+    }
+  }
+
+  /**
+   * Adds topic subscriptions to an endpoint in bulk, waiting only for the confirmation of the last
+   * one.
+   *
+   * @param session       the connected session
+   * @param endpoint      the endpoint, typically a queue
+   * @param subscriptions the subscriptions to add
+   * @param flags         additional flags of every subscription, such as
+   *                      {@link JCSMPSession#FLAG_IGNORE_ALREADY_EXISTS}
+   * @throws JCSMPException if a subscription could not be added
+   */
+  public static void addSubscriptions(JCSMPSession session, Endpoint endpoint,
+      Collection<? extends Subscription> subscriptions, int flags) throws JCSMPException {
+    final Iterator<? extends Subscription> iterator = subscriptions.iterator();
+    while (iterator.hasNext()) {
+      final Subscription subscription = iterator.next();
+      session.addSubscription(endpoint, subscription,
+          iterator.hasNext() ? flags : flags | JCSMPSession.WAIT_FOR_CONFIRM);
+    }
+  }
+
+  /**
+   * Makes the API re-add the topic subscriptions of a session after it reconnected, for example
+   * after a failover of the message router. Sessions keeping topic subscriptions for their
+   * lifetime should be created with these overrides through
+   * {@link SpringJCSMPFactory#createSession(Context, SessionEventHandler, java.util.function.Consumer)},
+   * otherwise their subscriptions are silently lost when they reconnect.
+   *
+   * @param properties the copied session properties
+   */
+  public static void reapplySubscriptions(JCSMPProperties properties) {
+    properties.setBooleanProperty(JCSMPProperties.REAPPLY_SUBSCRIPTIONS, true);
+  }
+
+  /**
+   * Creates topics from their names.
+   *
+   * @param names the topic names
+   * @return the topics
+   */
+  public static List<Topic> createTopics(Collection<String> names) {
+    final List<Topic> result = new ArrayList<>(names.size());
+    for (String name : names) {
+      result.add(JCSMPFactory.onlyInstance().createTopic(name));
+    }
+    return result;
+  }
+
+  /**
+   * Returns the configured topic subscriptions of sessions.
+   * @return the topics
+   */
+  public List<Topic> getTopics() {
+    return topics;
+  }
+
+  @Override
+  public void start() {
+    if (!queueSubscriptions.isEmpty()) {
+      addQueueSubscriptions();
+    }
+    if (subscriptionRegistry != null && !topics.isEmpty()) {
+      try {
+        subscriptionRegistry.connect();
+      } catch (JCSMPException e) {
+        throw new IllegalStateException("Unable to add the configured session subscriptions", e);
+      }
+    }
+    running = true;
+  }
+
+  private void addQueueSubscriptions() {
+    final long start = System.nanoTime();
+    int count = 0;
+    JCSMPSession session = null;
+    try {
+      session = springJCSMPFactory.createSession();
+      SolaceReconnectPolicy.connect(session, springJCSMPFactory.getReconnectPolicy());
+      for (Map.Entry<Queue, List<Topic>> entry : queueSubscriptions.entrySet()) {
+        addSubscriptions(session, entry.getKey(), entry.getValue(),
+            JCSMPSession.FLAG_IGNORE_ALREADY_EXISTS);
+        count += entry.getValue().size();
+      }
+    } catch (JCSMPException e) {
+      throw new IllegalStateException("Unable to add the configured queue subscriptions", e);
+    } finally {
+      if (session != null) {
+        session.closeSession();
+      }
+    }
+    if (logger.isInfoEnabled()) {
+      logger.info("Added {} subscriptions to {} queues in {} ms", count,
+          queueSubscriptions.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    return PHASE;
+  }
+}
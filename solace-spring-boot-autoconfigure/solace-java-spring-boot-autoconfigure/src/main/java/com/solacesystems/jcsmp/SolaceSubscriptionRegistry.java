@@ -0,0 +1,242 @@
+package com.solacesystems.jcsmp;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Shares a single session created by a {@link SpringJCSMPFactory} between the components of an
+ * application which subscribe to topics, instead of each of them creating its own session.
+ * <p>
+ * Topic subscriptions are reference counted: a subscription is only added to the message router
+ * when its first handler registers, and only removed once its last handler is released, so that
+ * components subscribing to the same topics share a single subscription and receive every message
+ * once. Received messages are routed to the handlers of the matching subscriptions by a
+ * {@link SolaceTopicDispatcher}.
+ * </p>
+ * <p>
+ * Subscriptions given at construction time, such as the configured topic subscriptions of sessions,
+ * are held by the registry itself and kept for its lifetime, whether or not handlers are
+ * registered for them.
+ * </p>
+ * <p>
+ * The session is created and connected on the first registration, or by {@link #connect()}, with
+ * {@link JCSMPProperties#REAPPLY_SUBSCRIPTIONS} enabled so that its subscriptions are re-added
+ * when it reconnects. The subscriptions held when the session is created are added in bulk.
+ * Registering and releasing handlers waits for the message router when the subscription is added
+ * or removed, and must not be done from a handler, which is called on the context thread of the
+ * session.
+ * </p>
+ */
+public class SolaceSubscriptionRegistry implements AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(SolaceSubscriptionRegistry.class);
+
+  private final SpringJCSMPFactory springJCSMPFactory;
+  private final SolaceTopicDispatcher dispatcher = new SolaceTopicDispatcher();
+  //the number of registrations of every subscription added to the message router, plus one for
+  //the subscriptions held by the registry itself
+  private final Map<String, Integer> referenceCounts = new HashMap<>();
+
+  private JCSMPSession session;
+  private XMLMessageConsumer consumer;
+  private boolean closed;
+
+  /**
+   * Constructs a new SolaceSubscriptionRegistry.
+   *
+   * @param springJCSMPFactory the factory used to create the shared session
+   */
+  public SolaceSubscriptionRegistry(SpringJCSMPFactory springJCSMPFactory) {
+    this(springJCSMPFactory, Collections.emptyList());
+  }
+
+  /**
+   * Constructs a new SolaceSubscriptionRegistry whose shared session keeps the given subscriptions
+   * for the lifetime of the registry.
+   *
+   * @param springJCSMPFactory the factory used to create the shared session
+   * @param subscriptions      the topic subscriptions held by the registry itself
+   */
+  public SolaceSubscriptionRegistry(SpringJCSMPFactory springJCSMPFactory,
+      Collection<String> subscriptions) {
+    this.springJCSMPFactory = Objects.requireNonNull(springJCSMPFactory);
+    for (String subscription : subscriptions) {
+      referenceCounts.put(subscription, 1);
+    }
+  }
+
+  /**
+   * Creates and connects the shared session unless it is connected already, adding the
+   * subscriptions held by the registry in bulk.
+   *
+   * @throws JCSMPException if the session could not be connected or a subscription not be added
+   */
+  public synchronized void connect() throws JCSMPException {
+    if (closed) {
+      throw new IllegalStateException("SolaceSubscriptionRegistry is closed");
+    }
+    getSession();
+  }
+
+  /**
+   * Registers a handler for the messages matching a topic subscription, adding the subscription
+   * to the shared session unless another handler already registered it.
+   *
+   * @param subscription the topic subscription, which may contain wildcards
+   * @param handler      the handler of the matching messages, called on the context thread
+   * @return the registration, which releases the handler when closed
+   * @throws JCSMPException if the session could not be connected or the subscription not be added
+   * @throws IllegalArgumentException if the handler is already registered for this subscription
+   */
+  public synchronized Registration register(String subscription, XMLMessageListener handler)
+      throws JCSMPException {
+    if (closed) {
+      throw new IllegalStateException("SolaceSubscriptionRegistry is closed");
+    }
+    final JCSMPSession currentSession = getSession();
+    //route before subscribing, so that no message of the new subscription is missed
+    if (!dispatcher.subscribe(subscription, handler)) {
+      throw new IllegalArgumentException(String.format(
+          "Handler %s is already registered for %s", handler, subscription));
+    }
+    final Integer count = referenceCounts.get(subscription);
+    if (count == null) {
+      try {
+        currentSession.addSubscription(JCSMPFactory.onlyInstance().createTopic(subscription),
+            true);
+      } catch (JCSMPException | RuntimeException e) {
+        dispatcher.unsubscribe(subscription, handler);
+        throw e;
+      }
+      referenceCounts.put(subscription, 1);
+    } else {
+      referenceCounts.put(subscription, count + 1);
+    }
+    return new Registration(subscription, handler);
+  }
+
+  private synchronized void release(String subscription, XMLMessageListener handler) {
+    if (!dispatcher.unsubscribe(subscription, handler)) {
+      return;
+    }
+    final int count = referenceCounts.get(subscription) - 1;
+    if (count > 0) {
+      referenceCounts.put(subscription, count);
+      return;
+    }
+    referenceCounts.remove(subscription);
+    if (session != null) {
+      try {
+        session.removeSubscription(JCSMPFactory.onlyInstance().createTopic(subscription), true);
+      } catch (JCSMPException e) {
+        logger.warn("Unable to remove subscription {} from session {}", subscription,
+            session.getSessionName(), e);
+      }
+    }
+  }
+
+  private JCSMPSession getSession() throws JCSMPException {
+    if (session != null && !session.isClosed()) {
+      return session;
+    }
+    if (session != null) {
+      logger.info("Shared session {} is closed, recreating it with {} subscriptions",
+          session.getSessionName(), referenceCounts.size());
+    }
+    //the subscriptions of the shared session must survive its reconnects
+    final JCSMPSession newSession = springJCSMPFactory.createSession(null, null,
+        SolaceSubscriptionManager::reapplySubscriptions);
+    try {
+      SolaceReconnectPolicy.connect(newSession, springJCSMPFactory.getReconnectPolicy());
+      final XMLMessageConsumer newConsumer = newSession.getMessageConsumer(dispatcher);
+      SolaceSubscriptionManager.addSubscriptions(newSession,
+          SolaceSubscriptionManager.createTopics(referenceCounts.keySet()));
+      newConsumer.start();
+      consumer = newConsumer;
+    } catch (JCSMPException | RuntimeException e) {
+      newSession.closeSession();
+      throw e;
+    }
+    session = newSession;
+    return newSession;
+  }
+
+  /**
+   * Returns the number of subscriptions added to the message router, including those held by the
+   * registry itself.
+   * @return the distinct subscription count
+   */
+  public synchronized int getSubscriptionCount() {
+    return referenceCounts.size();
+  }
+
+  /**
+   * Returns the number of registered handlers, over all subscriptions.
+   * @return the registration count
+   */
+  public int getRegistrationCount() {
+    return dispatcher.getSubscriptionCount();
+  }
+
+  /**
+   * Returns the number of messages received which matched no registered subscription.
+   * @return the unmatched message count
+   */
+  public long getUnmatchedCount() {
+    return dispatcher.getUnmatchedCount();
+  }
+
+  /**
+   * Closes the shared session. Registrations which are still open no longer receive messages.
+   */
+  @Override
+  public synchronized void close() {
+    closed = true;
+    if (session != null) {
+      consumer.close();
+      session.closeSession();
+      session = null;
+      consumer = null;
+    }
+  }
+
+  /**
+   * The registration of a handler for a subscription.
+   */
+  public final class Registration implements AutoCloseable {
+
+    private final String subscription;
+    private final XMLMessageListener handler;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private Registration(String subscription, XMLMessageListener handler) {
+      this.subscription = subscription;
+      this.handler = handler;
+    }
+
+    /**
+     * Returns the topic subscription of this registration.
+     * @return the subscription
+     */
+    public String getSubscription() {
+      return subscription;
+    }
+
+    /**
+     * Releases the handler, removing the subscription from the shared session if no other
+     * handler is registered for it. Releasing a registration again has no effect.
+     */
+    @Override
+    public void close() {
+      if (released.compareAndSet(false, true)) {
+        release(subscription, handler);
+      }
+    }
+  }
+}
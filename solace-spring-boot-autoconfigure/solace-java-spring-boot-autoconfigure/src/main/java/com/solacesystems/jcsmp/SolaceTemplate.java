@@ -0,0 +1,266 @@
+package com.solacesystems.jcsmp;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+
+/**
+ * Publishing facade over a long-lived session created by a {@link SpringJCSMPFactory}. The session
+ * and its {@link XMLMessageProducer} are created on the first send and reused afterwards, and
+ * {@link Topic} and {@link Queue} destinations are cached by name, so that a send does not pay for
+ * creating any of them.
+ * <p>
+ * The session and producer are recreated on the next send if the producer has been closed, for
+ * example after the session exhausted its reconnect retries.
+ * </p>
+ * <p>
+ * When the publish event handler is a {@link SolacePublishCorrelator}, guaranteed messages are
+ * sent through it, so that their acknowledgement latency is recorded. Their correlation keys are
+ * replaced by keys of the correlator.
+ * </p>
+ */
+public class SolaceTemplate implements AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(SolaceTemplate.class);
+
+  private final SpringJCSMPFactory springJCSMPFactory;
+  private final JCSMPStreamingPublishCorrelatingEventHandler publishEventHandler;
+  private final SolaceMessageConverter messageConverter;
+  private final ConcurrentMap<String, Topic> topics = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Queue> queues = new ConcurrentHashMap<>();
+  private final Object lock = new Object();
+
+  private volatile DeliveryMode deliveryMode = DeliveryMode.PERSISTENT;
+  private volatile JCSMPSession session;
+  private volatile XMLMessageProducer producer;
+  private volatile boolean closed;
+
+  /**
+   * Constructs a new SolaceTemplate.
+   *
+   * @param springJCSMPFactory  the factory used to create the session of this template
+   * @param publishEventHandler the handler of publish acknowledgements and errors, or {@code null}
+   *                            to log them
+   * @param messageConverter    the converter used by {@link #convertAndSend(String, Object)} and
+   *                            {@link #sendAndForget(String, Object)}
+   */
+  public SolaceTemplate(SpringJCSMPFactory springJCSMPFactory,
+      @Nullable JCSMPStreamingPublishCorrelatingEventHandler publishEventHandler,
+      SolaceMessageConverter messageConverter) {
+    this.springJCSMPFactory = Objects.requireNonNull(springJCSMPFactory);
+    this.publishEventHandler = publishEventHandler != null ? publishEventHandler
+        : new LoggingPublishEventHandler(SolaceTemplate.class);
+    this.messageConverter = Objects.requireNonNull(messageConverter);
+  }
+
+  /**
+   * Sends a message to the given destination, using the delivery mode set on the message.
+   *
+   * @param destination the destination of the message
+   * @param message     the message to send
+   * @throws JCSMPException if the session could not be connected or the message not be sent
+   */
+  public void send(Destination destination, XMLMessage message) throws JCSMPException {
+    if (publishEventHandler instanceof SolacePublishCorrelator) {
+      ((SolacePublishCorrelator) publishEventHandler).send(getProducer(), message, destination);
+    } else {
+      getProducer().send(message, destination);
+    }
+  }
+
+  /**
+   * Sends a message to the topic with the given name, using the delivery mode set on the message.
+   *
+   * @param topic   the name of the topic
+   * @param message the message to send
+   * @throws JCSMPException if the session could not be connected or the message not be sent
+   */
+  public void send(String topic, XMLMessage message) throws JCSMPException {
+    send(getTopic(topic), message);
+  }
+
+  /**
+   * Converts the payload to a message and sends it to the given destination with the delivery
+   * mode of this template.
+   *
+   * @param destination the destination of the message
+   * @param payload     the payload to convert
+   * @throws JCSMPException if the session could not be connected or the message not be sent
+   */
+  public void convertAndSend(Destination destination, Object payload) throws JCSMPException {
+    final XMLMessage message = messageConverter.toMessage(payload);
+    message.setDeliveryMode(deliveryMode);
+    send(destination, message);
+  }
+
+  /**
+   * Converts the payload to a message and sends it to the topic with the given name with the
+   * delivery mode of this template.
+   *
+   * @param topic   the name of the topic
+   * @param payload the payload to convert
+   * @throws JCSMPException if the session could not be connected or the message not be sent
+   */
+  public void convertAndSend(String topic, Object payload) throws JCSMPException {
+    convertAndSend(getTopic(topic), payload);
+  }
+
+  /**
+   * Sends a message to the given destination and returns a future completed once the message
+   * router acknowledged it. Requires the publish event handler of this template to be a
+   * {@link SolacePublishCorrelator}.
+   *
+   * @param destination the destination of the message
+   * @param message     the message to send
+   * @return a future completed when the message is acknowledged
+   * @throws JCSMPException if the session could not be connected or the message not be sent
+   */
+  public CompletableFuture<Void> sendAsync(Destination destination, XMLMessage message)
+      throws JCSMPException {
+    if (!(publishEventHandler instanceof SolacePublishCorrelator)) {
+      throw new IllegalStateException(
+          "Asynchronous sends require a SolacePublishCorrelator as publish event handler");
+    }
+    return ((SolacePublishCorrelator) publishEventHandler)
+        .send(getProducer(), message, destination);
+  }
+
+  /**
+   * Converts the payload to a message, sends it to the topic with the given name with the delivery
+   * mode of this template, and returns a future completed once the message router acknowledged
+   * it.
+   *
+   * @param topic   the name of the topic
+   * @param payload the payload to convert
+   * @return a future completed when the message is acknowledged
+   * @throws JCSMPException if the session could not be connected or the message not be sent
+   */
+  public CompletableFuture<Void> convertAndSendAsync(String topic, Object payload)
+      throws JCSMPException {
+    final XMLMessage message = messageConverter.toMessage(payload);
+    message.setDeliveryMode(deliveryMode);
+    return sendAsync(getTopic(topic), message);
+  }
+
+  /**
+   * Converts the payload to a message and sends it as a direct message, which is not acknowledged
+   * by the message router.
+   *
+   * @param topic   the name of the topic
+   * @param payload the payload to convert
+   * @throws JCSMPException if the session could not be connected or the message not be sent
+   */
+  public void sendAndForget(String topic, Object payload) throws JCSMPException {
+    final XMLMessage message = messageConverter.toMessage(payload);
+    message.setDeliveryMode(DeliveryMode.DIRECT);
+    send(getTopic(topic), message);
+  }
+
+  /**
+   * Returns the cached topic with the given name.
+   *
+   * @param name the name of the topic
+   * @return the topic
+   */
+  public Topic getTopic(String name) {
+    return topics.computeIfAbsent(name, JCSMPFactory.onlyInstance()::createTopic);
+  }
+
+  /**
+   * Returns the cached queue with the given name.
+   *
+   * @param name the name of the queue
+   * @return the queue
+   */
+  public Queue getQueue(String name) {
+    return queues.computeIfAbsent(name, JCSMPFactory.onlyInstance()::createQueue);
+  }
+
+  /**
+   * Returns the session of this template, creating and connecting it if necessary.
+   *
+   * @return the connected session
+   * @throws JCSMPException if the session could not be created or connected
+   */
+  public JCSMPSession getSession() throws JCSMPException {
+    getProducer();
+    return session;
+  }
+
+  /**
+   * Sets the delivery mode of messages sent through {@code convertAndSend}. Defaults to
+   * {@link DeliveryMode#PERSISTENT}.
+   *
+   * @param deliveryMode the delivery mode
+   */
+  public void setDeliveryMode(DeliveryMode deliveryMode) {
+    this.deliveryMode = Objects.requireNonNull(deliveryMode);
+  }
+
+  /**
+   * Returns the converter used to create messages from payloads.
+   *
+   * @return the message converter
+   */
+  public SolaceMessageConverter getMessageConverter() {
+    return messageConverter;
+  }
+
+  private XMLMessageProducer getProducer() throws JCSMPException {
+    XMLMessageProducer current = producer;
+    if (current != null && !current.isClosed()) {
+      return current;
+    }
+
+    synchronized (lock) {
+      if (closed) {
+        throw new IllegalStateException("SolaceTemplate is closed");
+      }
+      current = producer;
+      if (current != null && !current.isClosed()) {
+        return current;
+      }
+      if (session != null) {
+        logger.info("Producer of session {} is closed, recreating the session",
+            session.getSessionName());
+        session.closeSession();
+      }
+
+      final JCSMPSession newSession = springJCSMPFactory.createSession();
+      try {
+        SolaceReconnectPolicy.connect(newSession, springJCSMPFactory.getReconnectPolicy());
+        current = newSession.getMessageProducer(publishEventHandler);
+      } catch (JCSMPException | RuntimeException e) {
+        newSession.closeSession();
+        session = null;
+        producer = null;
+        throw e;
+      }
+      session = newSession;
+      producer = current;
+      return current;
+    }
+  }
+
+  /**
+   * Closes the producer and the session of this template.
+   */
+  @Override
+  public void close() {
+    synchronized (lock) {
+      closed = true;
+      if (producer != null) {
+        producer.close();
+        producer = null;
+      }
+      if (session != null) {
+        session.closeSession();
+        session = null;
+      }
+    }
+  }
+}
@@ -0,0 +1,194 @@
+package com.solacesystems.jcsmp;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hashed timing wheel running timeout tasks on a single thread. Scheduling and cancelling a
+ * timeout are constant time and do not take a lock, which makes the wheel suited for tracking
+ * the deadlines of many concurrent requests, most of which are cancelled before they expire.
+ * <p>
+ * New timeouts are handed to the wheel thread through a queue. On every tick, the thread places
+ * them in the bucket of the tick they expire on, then expires the bucket of the current tick.
+ * As only the wheel thread touches the buckets, a timeout cannot be placed in a bucket the wheel
+ * has just passed, and timeouts expire at most one tick late. Cancelled timeouts are removed
+ * from their bucket the next time the wheel passes over it. The thread is started when the first
+ * timeout is scheduled.
+ * </p>
+ */
+public class SolaceTimingWheel implements AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(SolaceTimingWheel.class);
+
+  private final long tickNanos;
+  private final Queue<Timeout>[] buckets;
+  //timeouts scheduled since the last tick, not yet placed in their bucket
+  private final Queue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+  private final int mask;
+  private final long startNanos;
+  private final Thread thread;
+  private final AtomicBoolean started = new AtomicBoolean();
+  //the tick before the first tick of the wheel thread
+  private volatile long startTick = -1;
+  private volatile boolean closed;
+
+  /**
+   * Constructs a new SolaceTimingWheel.
+   *
+   * @param name         the name of the wheel thread
+   * @param tickInMillis the duration of a tick, which is the precision of the timeouts
+   * @param bucketCount  the number of buckets, rounded up to a power of two
+   */
+  @SuppressWarnings("unchecked")
+  public SolaceTimingWheel(String name, long tickInMillis, int bucketCount) {
+    if (tickInMillis < 1) {
+      throw new IllegalArgumentException("Tick duration must be at least 1 ms");
+    }
+    if (bucketCount < 1) {
+      throw new IllegalArgumentException("Bucket count must be at least 1");
+    }
+    final int capacity = Integer.highestOneBit(bucketCount - 1 | 1) << 1;
+    this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickInMillis);
+    this.buckets = new Queue[capacity];
+    for (int i = 0; i < capacity; i++) {
+      buckets[i] = new ArrayDeque<>();
+    }
+    this.mask = capacity - 1;
+    this.startNanos = System.nanoTime();
+    this.thread = new Thread(this::run, name);
+    this.thread.setDaemon(true);
+  }
+
+  /**
+   * Schedules a task to run once the delay has passed, unless the returned timeout is cancelled
+   * first. The task runs on the thread of the wheel and must not block.
+   *
+   * @param task          the task to run
+   * @param delayInMillis the delay after which the task runs
+   * @return the timeout, which can be cancelled
+   * @throws IllegalStateException if the wheel is closed
+   */
+  public Timeout schedule(Runnable task, long delayInMillis) {
+    if (closed) {
+      throw new IllegalStateException("SolaceTimingWheel is closed");
+    }
+    if (!started.get() && started.compareAndSet(false, true)) {
+      //skip the ticks which passed before the first timeout
+      startTick = (System.nanoTime() - startNanos) / tickNanos - 1;
+      thread.start();
+    }
+    final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayInMillis);
+    final Timeout timeout = new Timeout(task, deadline);
+    scheduled.add(timeout);
+    return timeout;
+  }
+
+  private long tickOf(long nanos) {
+    //round up, so that a timeout is never expired before its deadline
+    return (nanos - startNanos + tickNanos - 1) / tickNanos;
+  }
+
+  private void run() {
+    long tick = startTick + 1;
+    while (!closed) {
+      final long sleepNanos = startNanos + tick * tickNanos - System.nanoTime();
+      if (sleepNanos > 0) {
+        try {
+          TimeUnit.NANOSECONDS.sleep(sleepNanos);
+        } catch (InterruptedException e) {
+          if (closed) {
+            return;
+          }
+          continue;
+        }
+      }
+      placeScheduled(tick);
+      expire(buckets[(int) (tick & mask)], System.nanoTime());
+      tick++;
+    }
+  }
+
+  private void placeScheduled(long currentTick) {
+    Timeout timeout;
+    while ((timeout = scheduled.poll()) != null) {
+      if (!timeout.isCancelled()) {
+        //timeouts due on a tick the wheel already passed expire on the current tick
+        final long tick = Math.max(tickOf(timeout.deadline), currentTick);
+        buckets[(int) (tick & mask)].add(timeout);
+      }
+    }
+  }
+
+  private void expire(Queue<Timeout> bucket, long now) {
+    final Iterator<Timeout> iterator = bucket.iterator();
+    while (iterator.hasNext()) {
+      final Timeout timeout = iterator.next();
+      if (timeout.isCancelled()) {
+        iterator.remove();
+      } else if (timeout.deadline - now <= 0) {
+        iterator.remove();
+        if (timeout.state.compareAndSet(Timeout.PENDING, Timeout.EXPIRED)) {
+          try {
+            timeout.task.run();
+          } catch (RuntimeException e) {
+            logger.warn("Timeout task failed", e);
+          }
+        }
+      }
+      //timeouts of a later round stay in the bucket
+    }
+  }
+
+  /**
+   * Stops the wheel thread. Pending timeouts are not run.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    thread.interrupt();
+  }
+
+  /**
+   * A scheduled timeout.
+   */
+  public static final class Timeout {
+
+    private static final int PENDING = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    private final Runnable task;
+    private final long deadline;
+    private final AtomicInteger state = new AtomicInteger(PENDING);
+
+    private Timeout(Runnable task, long deadline) {
+      this.task = task;
+      this.deadline = deadline;
+    }
+
+    /**
+     * Cancels the timeout, so that its task does not run.
+     *
+     * @return {@code true} if the timeout was cancelled, {@code false} if it already expired or
+     *         was cancelled before
+     */
+    public boolean cancel() {
+      return state.compareAndSet(PENDING, CANCELLED);
+    }
+
+    /**
+     * Returns whether the timeout was cancelled.
+     * @return {@code true} if cancelled
+     */
+    public boolean isCancelled() {
+      return state.get() == CANCELLED;
+    }
+  }
+}
@@ -0,0 +1,445 @@
+package com.solacesystems.jcsmp;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link XMLMessageListener} which routes the messages received by a session to the handlers of
+ * the matching topic subscriptions, so that handlers sharing a session do not need to match the
+ * destination of every message themselves.
+ * <p>
+ * Subscriptions follow the Solace topic syntax: levels are separated by {@code /}, a {@code *}
+ * level matches any single level, a level ending with {@code *} matches the levels starting with
+ * its prefix, and a {@code >} last level matches one or more remaining levels. They are compiled
+ * into a trie indexed by level, so that routing a message visits only the branches which can
+ * match its topic, whatever the number of subscriptions. Routing reads the levels of the topic in
+ * place and does not allocate.
+ * </p>
+ * <p>
+ * A handler subscribed with several subscriptions matching the same message receives it once.
+ * Subscriptions can be changed while messages are routed: the trie is updated copy-on-write under
+ * a lock, and routing never blocks. Nodes which no longer hold subscriptions are kept, so that
+ * subscribing to the same topics again does not rebuild them.
+ * </p>
+ */
+public class SolaceTopicDispatcher implements XMLMessageListener {
+
+  private static final Logger logger = LoggerFactory.getLogger(SolaceTopicDispatcher.class);
+
+  private static final char LEVEL_SEPARATOR = '/';
+  private static final XMLMessageListener[] NO_HANDLERS = new XMLMessageListener[0];
+
+  private final Node root = new Node();
+  private final ThreadLocal<Matches> matches = ThreadLocal.withInitial(Matches::new);
+  //the number of subscriptions of every handler, to forward exceptions once per handler
+  private final Map<XMLMessageListener, Integer> handlers = new IdentityHashMap<>();
+  private volatile XMLMessageListener[] distinctHandlers = NO_HANDLERS;
+  private int subscriptionCount;
+  private final LongAdder unmatchedCount = new LongAdder();
+
+  /**
+   * Subscribes a handler to the messages matching a topic subscription.
+   *
+   * @param subscription the topic subscription, which may contain wildcards
+   * @param handler      the handler of the matching messages
+   * @return {@code true} if the handler was not subscribed with this subscription yet
+   * @throws IllegalArgumentException if the subscription is empty
+   */
+  public synchronized boolean subscribe(String subscription, XMLMessageListener handler) {
+    Objects.requireNonNull(handler);
+    final Slot slot = slotFor(subscription, true);
+    final XMLMessageListener[] current = slot.get();
+    if (indexOf(current, handler) >= 0) {
+      return false;
+    }
+    final XMLMessageListener[] updated = Arrays.copyOf(current, current.length + 1);
+    updated[current.length] = handler;
+    slot.set(updated);
+    subscriptionCount++;
+    if (handlers.merge(handler, 1, Integer::sum) == 1) {
+      distinctHandlers = handlers.keySet().toArray(NO_HANDLERS);
+    }
+    return true;
+  }
+
+  /**
+   * Unsubscribes a handler from a topic subscription.
+   *
+   * @param subscription the topic subscription the handler was subscribed with
+   * @param handler      the handler
+   * @return {@code true} if the handler was subscribed with this subscription
+   */
+  public synchronized boolean unsubscribe(String subscription, XMLMessageListener handler) {
+    final Slot slot = slotFor(subscription, false);
+    if (slot == null) {
+      return false;
+    }
+    final XMLMessageListener[] current = slot.get();
+    final int index = indexOf(current, handler);
+    if (index < 0) {
+      return false;
+    }
+    final XMLMessageListener[] updated = new XMLMessageListener[current.length - 1];
+    System.arraycopy(current, 0, updated, 0, index);
+    System.arraycopy(current, index + 1, updated, index, updated.length - index);
+    slot.set(updated.length == 0 ? NO_HANDLERS : updated);
+    subscriptionCount--;
+    if (handlers.merge(handler, -1, Integer::sum) == 0) {
+      handlers.remove(handler);
+      distinctHandlers = handlers.keySet().toArray(NO_HANDLERS);
+    }
+    return true;
+  }
+
+  @Override
+  public void onReceive(BytesXMLMessage message) {
+    final Destination destination = message.getDestination();
+    if (destination == null || dispatch(destination.getName(), message) == 0) {
+      unmatchedCount.increment();
+      if (logger.isDebugEnabled()) {
+        logger.debug("No subscription matches message {} on {}", message.getMessageId(),
+            destination);
+      }
+    }
+  }
+
+  /**
+   * Forwards the exception to every subscribed handler.
+   *
+   * @param exception the exception raised by the consumer
+   */
+  @Override
+  public void onException(JCSMPException exception) {
+    for (XMLMessageListener handler : distinctHandlers) {
+      handler.onException(exception);
+    }
+  }
+
+  /**
+   * Routes a message to the handlers of the subscriptions matching a topic.
+   *
+   * @param topic   the topic to match the subscriptions against
+   * @param message the message handed to the matching handlers
+   * @return the number of handlers which received the message
+   */
+  public int dispatch(String topic, BytesXMLMessage message) {
+    Matches found = matches.get();
+    if (found.inUse) {
+      //a handler dispatches another message on the same thread
+      found = new Matches();
+    }
+    found.inUse = true;
+    try {
+      match(root, topic, 0, found);
+      final int count = found.size;
+      for (int i = 0; i < count; i++) {
+        try {
+          found.handlers[i].onReceive(message);
+        } catch (RuntimeException e) {
+          //a failing handler must not keep the message from the other handlers
+          logger.warn("Handler failed to process message {} on {}", message.getMessageId(),
+              topic, e);
+        }
+      }
+      return count;
+    } finally {
+      found.clear();
+    }
+  }
+
+  /**
+   * Returns the number of handlers subscribed with a subscription matching a topic.
+   *
+   * @param topic the topic to match the subscriptions against
+   * @return the number of distinct matching handlers
+   */
+  public int matchCount(String topic) {
+    final Matches found = new Matches();
+    match(root, topic, 0, found);
+    return found.size;
+  }
+
+  private static void match(Node node, String topic, int start, Matches found) {
+    found.addAll(node.remainderHandlers);
+    int end = topic.indexOf(LEVEL_SEPARATOR, start);
+    if (end < 0) {
+      end = topic.length();
+    }
+    final boolean last = end == topic.length();
+
+    final Node literal = node.children.get(topic, start, end);
+    if (literal != null) {
+      matchChild(literal, topic, end, last, found);
+    }
+    final Node anyLevel = node.anyLevel;
+    if (anyLevel != null) {
+      matchChild(anyLevel, topic, end, last, found);
+    }
+    final PrefixNode[] prefixes = node.prefixes;
+    for (PrefixNode prefix : prefixes) {
+      if (end - start >= prefix.prefix.length()
+          && topic.startsWith(prefix.prefix, start)) {
+        matchChild(prefix.node, topic, end, last, found);
+      }
+    }
+  }
+
+  private static void matchChild(Node child, String topic, int end, boolean last,
+      Matches found) {
+    if (last) {
+      found.addAll(child.handlers);
+    } else {
+      match(child, topic, end + 1, found);
+    }
+  }
+
+  private Slot slotFor(String subscription, boolean create) {
+    if (subscription == null || subscription.isEmpty()) {
+      throw new IllegalArgumentException("Subscription must not be empty");
+    }
+    Node node = root;
+    int start = 0;
+    while (true) {
+      int end = subscription.indexOf(LEVEL_SEPARATOR, start);
+      if (end < 0) {
+        end = subscription.length();
+      }
+      final String level = subscription.substring(start, end);
+      final boolean last = end == subscription.length();
+      if (last && level.equals(">")) {
+        return new Slot(node, true);
+      }
+      final Node child = node.child(level, create);
+      if (child == null) {
+        return null;
+      }
+      if (last) {
+        return new Slot(child, false);
+      }
+      node = child;
+      start = end + 1;
+    }
+  }
+
+  private static int indexOf(XMLMessageListener[] handlers, XMLMessageListener handler) {
+    for (int i = 0; i < handlers.length; i++) {
+      if (handlers[i] == handler) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the number of subscriptions of all handlers.
+   * @return the subscription count
+   */
+  public synchronized int getSubscriptionCount() {
+    return subscriptionCount;
+  }
+
+  /**
+   * Returns the number of messages received which matched no subscription.
+   * @return the unmatched message count
+   */
+  public long getUnmatchedCount() {
+    return unmatchedCount.sum();
+  }
+
+  /**
+   * A level of the trie. Fields are replaced rather than modified, so that routing threads always
+   * see a consistent node without locking.
+   */
+  private static final class Node {
+
+    //handlers of subscriptions ending at this node
+    volatile XMLMessageListener[] handlers = NO_HANDLERS;
+    //handlers of subscriptions ending with '>' after this node
+    volatile XMLMessageListener[] remainderHandlers = NO_HANDLERS;
+    volatile ChildTable children = ChildTable.EMPTY;
+    volatile Node anyLevel;
+    volatile PrefixNode[] prefixes = new PrefixNode[0];
+
+    Node child(String level, boolean create) {
+      if (level.equals("*")) {
+        if (anyLevel == null && create) {
+          anyLevel = new Node();
+        }
+        return anyLevel;
+      }
+      if (level.endsWith("*")) {
+        final String prefix = level.substring(0, level.length() - 1);
+        for (PrefixNode node : prefixes) {
+          if (node.prefix.equals(prefix)) {
+            return node.node;
+          }
+        }
+        if (!create) {
+          return null;
+        }
+        final PrefixNode added = new PrefixNode(prefix, new Node());
+        final PrefixNode[] updated = Arrays.copyOf(prefixes, prefixes.length + 1);
+        updated[prefixes.length] = added;
+        prefixes = updated;
+        return added.node;
+      }
+      Node child = children.get(level, 0, level.length());
+      if (child == null && create) {
+        child = new Node();
+        children = children.with(level, child);
+      }
+      return child;
+    }
+  }
+
+  private static final class PrefixNode {
+
+    final String prefix;
+    final Node node;
+
+    PrefixNode(String prefix, Node node) {
+      this.prefix = prefix;
+      this.node = node;
+    }
+  }
+
+  /**
+   * Immutable open-addressing table of the literal child levels of a node, which is looked up
+   * with a level of the topic in place instead of a substring of it.
+   */
+  private static final class ChildTable {
+
+    static final ChildTable EMPTY = new ChildTable(new String[1], new Node[1], 0);
+
+    final String[] levels;
+    final Node[] nodes;
+    final int size;
+
+    private ChildTable(String[] levels, Node[] nodes, int size) {
+      this.levels = levels;
+      this.nodes = nodes;
+      this.size = size;
+    }
+
+    Node get(String topic, int start, int end) {
+      final int mask = levels.length - 1;
+      int index = spread(hash(topic, start, end)) & mask;
+      final int length = end - start;
+      String level;
+      while ((level = levels[index]) != null) {
+        if (level.length() == length && topic.regionMatches(start, level, 0, length)) {
+          return nodes[index];
+        }
+        index = (index + 1) & mask;
+      }
+      return null;
+    }
+
+    ChildTable with(String level, Node node) {
+      //keep the table at most half full, so that probe sequences stay short
+      int capacity = levels.length;
+      while ((size + 1) * 2 > capacity) {
+        capacity <<= 1;
+      }
+      final String[] newLevels = new String[capacity];
+      final Node[] newNodes = new Node[capacity];
+      for (int i = 0; i < levels.length; i++) {
+        if (levels[i] != null) {
+          put(newLevels, newNodes, levels[i], nodes[i]);
+        }
+      }
+      put(newLevels, newNodes, level, node);
+      return new ChildTable(newLevels, newNodes, size + 1);
+    }
+
+    private static void put(String[] levels, Node[] nodes, String level, Node node) {
+      final int mask = levels.length - 1;
+      int index = spread(level.hashCode()) & mask;
+      while (levels[index] != null) {
+        index = (index + 1) & mask;
+      }
+      levels[index] = level;
+      nodes[index] = node;
+    }
+
+    //same as String.hashCode() of the level, without creating the substring
+    private static int hash(String topic, int start, int end) {
+      int hash = 0;
+      for (int i = start; i < end; i++) {
+        hash = 31 * hash + topic.charAt(i);
+      }
+      return hash;
+    }
+
+    private static int spread(int hash) {
+      return hash ^ (hash >>> 16);
+    }
+  }
+
+  /**
+   * The slot of a subscription in the trie: the exact or the remainder handlers of a node.
+   */
+  private static final class Slot {
+
+    private final Node node;
+    private final boolean remainder;
+
+    Slot(Node node, boolean remainder) {
+      this.node = node;
+      this.remainder = remainder;
+    }
+
+    XMLMessageListener[] get() {
+      return remainder ? node.remainderHandlers : node.handlers;
+    }
+
+    void set(XMLMessageListener[] handlers) {
+      if (remainder) {
+        node.remainderHandlers = handlers;
+      } else {
+        node.handlers = handlers;
+      }
+    }
+  }
+
+  /**
+   * The distinct handlers matching a message, reused across the messages routed by a thread.
+   */
+  private static final class Matches {
+
+    XMLMessageListener[] handlers = new XMLMessageListener[16];
+    int size;
+    boolean inUse;
+
+    void addAll(XMLMessageListener[] matched) {
+      for (XMLMessageListener handler : matched) {
+        if (!contains(handler)) {
+          if (size == handlers.length) {
+            handlers = Arrays.copyOf(handlers, size * 2);
+          }
+          handlers[size++] = handler;
+        }
+      }
+    }
+
+    private boolean contains(XMLMessageListener handler) {
+      for (int i = 0; i < size; i++) {
+        if (handlers[i] == handler) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    void clear() {
+      Arrays.fill(handlers, 0, size, null);
+      size = 0;
+      inUse = false;
+    }
+  }
+}
@@ -20,6 +20,20 @@
 package com.solacesystems.jcsmp;
 
 import static com.solacesystems.jcsmp.JCSMPProperties.AUTHENTICATION_SCHEME;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import org.springframework.lang.Nullable;
 
 /**
@@ -32,6 +46,16 @@ public class SpringJCSMPFactory {
   protected JCSMPProperties jcsmpProperties;
   /** The OAuth2 token provider for OAuth2-authenticated sessions. */
   protected SolaceSessionOAuth2TokenProvider solaceSessionOAuth2TokenProvider;
+  /** Selects the context of sessions created without an explicit context, if set. */
+  protected volatile SolaceContextSelector solaceContextSelector;
+  /** Runs asynchronous session creation, a daemon thread pool is created on first use if unset. */
+  protected volatile Executor asyncExecutor;
+  /** The complete session properties of each named session profile. */
+  protected volatile Map<String, JCSMPProperties> sessionProfiles = Collections.emptyMap();
+  /** Jitters the reconnect wait of sessions and retries their initial connect, if set. */
+  protected volatile SolaceReconnectPolicy reconnectPolicy;
+  /** Notified of the sessions created by this factory and of their events. */
+  protected final List<SolaceSessionListener> sessionListeners = new CopyOnWriteArrayList<>();
 
   /**
    * Constructs a new SpringJCSMPFactory with the specified properties and OAuth2 token provider.
@@ -62,7 +86,8 @@ public class SpringJCSMPFactory {
    * Acquires a {@link JCSMPSession} and associates it to the given {@link Context}.
    *
    * @param context The <code>Context</code> in which the new session will be created and associated
-   *                with. If <code>null</code>, the default context is used.
+   *                with. If <code>null</code>, the context chosen by the configured
+   *                {@link SolaceContextSelector} is used, or the default context if none is set.
    * @return A newly constructed session in <code>context</code>.
    * @throws InvalidPropertiesException on error
    */
@@ -76,7 +101,9 @@ public class SpringJCSMPFactory {
    * If the event handler is null, it creates a new session event handler that will handle OAuth2 token refreshes.
    *
    * @param context      The <code>Context</code> in which the new session will be created and
-   *                     associated with. If <code>null</code>, uses the default context.
+   *                     associated with. If <code>null</code>, uses the context chosen by the
+   *                     configured {@link SolaceContextSelector}, or the default context if none
+   *                     is set.
    * @param eventHandler A callback instance for handling session events.
    * @return A newly constructed session in the <code>context</code> Context.
    * @throws InvalidPropertiesException on error
@@ -84,15 +111,141 @@ public class SpringJCSMPFactory {
   public JCSMPSession createSession(
       Context context,
       SessionEventHandler eventHandler) throws InvalidPropertiesException {
-    final String authScheme = jcsmpProperties.getStringProperty(AUTHENTICATION_SCHEME);
+    return createSessionFrom(jcsmpProperties, context, eventHandler);
+  }
+
+  /**
+   * Acquires a {@link JCSMPSession} as done by {@link #createSession(Context, SessionEventHandler)},
+   * with properties that differ from the properties of this factory. The overrides are applied to a
+   * copy of this factory's properties, which are left unchanged.
+   *
+   * @param context      The <code>Context</code> in which the new session will be created and
+   *                     associated with. If <code>null</code>, the context is chosen as done by
+   *                     {@link #createSession(Context, SessionEventHandler)}.
+   * @param eventHandler A callback instance for handling session events.
+   * @param overrides    Applies the session specific settings to the copied properties, e.g.
+   *                     <code>p -&gt; p.setProperty(JCSMPProperties.PUB_ACK_WINDOW_SIZE, 255)</code>.
+   * @return A newly constructed session with the overridden properties.
+   * @throws InvalidPropertiesException on error
+   */
+  public JCSMPSession createSession(Context context, SessionEventHandler eventHandler,
+      Consumer<JCSMPProperties> overrides) throws InvalidPropertiesException {
+    final JCSMPProperties sessionProperties = (JCSMPProperties) jcsmpProperties.clone();
+    overrides.accept(sessionProperties);
+    return createSessionFrom(sessionProperties, context, eventHandler);
+  }
+
+  /**
+   * Acquires a {@link JCSMPSession} configured by the named session profile in the context chosen
+   * as done by {@link #createSession()}.
+   *
+   * @param profileName The name of a profile registered with {@link #setSessionProfiles(Map)}.
+   * @return A newly constructed session with the properties of the profile.
+   * @throws InvalidPropertiesException on error
+   * @throws IllegalArgumentException   if no profile with the given name is registered
+   */
+  public JCSMPSession createProfileSession(String profileName)
+      throws InvalidPropertiesException {
+    return createProfileSession(profileName, null, null);
+  }
+
+  /**
+   * Acquires a {@link JCSMPSession} configured by the named session profile and associates it to
+   * the given {@link Context}.
+   *
+   * @param profileName  The name of a profile registered with {@link #setSessionProfiles(Map)}.
+   * @param context      The <code>Context</code> in which the new session will be created and
+   *                     associated with. If <code>null</code>, the context is chosen as done by
+   *                     {@link #createSession(Context, SessionEventHandler)}.
+   * @param eventHandler A callback instance for handling session events.
+   * @return A newly constructed session with the properties of the profile.
+   * @throws InvalidPropertiesException on error
+   * @throws IllegalArgumentException   if no profile with the given name is registered
+   */
+  public JCSMPSession createProfileSession(String profileName, Context context,
+      SessionEventHandler eventHandler) throws InvalidPropertiesException {
+    final JCSMPProperties profileProperties = sessionProfiles.get(profileName);
+    if (profileProperties == null) {
+      throw new IllegalArgumentException(
+          String.format("No session profile named '%s' is registered.", profileName));
+    }
+    return createSessionFrom(profileProperties, context, eventHandler);
+  }
+
+  /**
+   * Registers named session profiles, each holding the complete properties of the sessions created
+   * with {@link #createProfileSession(String)}. The properties are cloned.
+   *
+   * @param sessionProfiles the session properties by profile name
+   */
+  public void setSessionProfiles(Map<String, JCSMPProperties> sessionProfiles) {
+    final Map<String, JCSMPProperties> profiles = new HashMap<>();
+    sessionProfiles.forEach((name, properties) ->
+        profiles.put(name, (JCSMPProperties) properties.clone()));
+    this.sessionProfiles = Collections.unmodifiableMap(profiles);
+  }
+
+  /**
+   * Returns the names of the registered session profiles.
+   *
+   * @return the session profile names
+   */
+  public Set<String> getSessionProfileNames() {
+    return sessionProfiles.keySet();
+  }
+
+  private JCSMPSession createSessionFrom(JCSMPProperties properties, Context context,
+      SessionEventHandler eventHandler) throws InvalidPropertiesException {
+    final SolaceReconnectPolicy policy = this.reconnectPolicy;
+    final JCSMPProperties sessionProperties = policy != null
+        ? withJitteredReconnectWait(properties, policy) : properties;
+    final SolaceContextSelector contextSelector = this.solaceContextSelector;
+    final boolean selectContext = context == null && contextSelector != null;
+    final Context sessionContext = selectContext ? contextSelector.selectContext() : context;
+
+    final JCSMPSession jcsmpSession;
+    final String authScheme = sessionProperties.getStringProperty(AUTHENTICATION_SCHEME);
     if (JCSMPProperties.AUTHENTICATION_SCHEME_OAUTH2.equalsIgnoreCase(authScheme)) {
-      return createSessionWithOAuth2(context, eventHandler);
+      jcsmpSession = createSessionWithOAuth2(sessionProperties, sessionContext, eventHandler);
     } else {
-      return JCSMPFactory.onlyInstance().createSession(jcsmpProperties, context, eventHandler);
+      jcsmpSession = createListenedSession(sessionProperties, sessionContext, eventHandler);
     }
+
+    if (selectContext) {
+      contextSelector.onSessionCreated(sessionContext, jcsmpSession);
+    }
+    for (SolaceSessionListener listener : sessionListeners) {
+      listener.onSessionCreated(jcsmpSession);
+    }
+    return jcsmpSession;
   }
 
-  private JCSMPSession createSessionWithOAuth2(Context context,
+  private static JCSMPProperties withJitteredReconnectWait(JCSMPProperties properties,
+      SolaceReconnectPolicy policy) {
+    final JCSMPProperties sessionProperties = (JCSMPProperties) properties.clone();
+    final JCSMPChannelProperties channelProperties = (JCSMPChannelProperties)
+        ((JCSMPChannelProperties) properties.getProperty(
+            JCSMPProperties.CLIENT_CHANNEL_PROPERTIES)).clone();
+    channelProperties.setReconnectRetryWaitInMillis(
+        policy.jitterReconnectRetryWait(channelProperties.getReconnectRetryWaitInMillis()));
+    sessionProperties.setProperty(JCSMPProperties.CLIENT_CHANNEL_PROPERTIES, channelProperties);
+    return sessionProperties;
+  }
+
+  private JCSMPSession createListenedSession(JCSMPProperties properties, Context context,
+      SessionEventHandler eventHandler) throws InvalidPropertiesException {
+    if (sessionListeners.isEmpty()) {
+      return JCSMPFactory.onlyInstance().createSession(properties, context, eventHandler);
+    }
+    final ListeningSessionEventHandler listeningHandler =
+        new ListeningSessionEventHandler(eventHandler, sessionListeners);
+    final JCSMPSession jcsmpSession =
+        JCSMPFactory.onlyInstance().createSession(properties, context, listeningHandler);
+    listeningHandler.session = jcsmpSession;
+    return jcsmpSession;
+  }
+
+  private JCSMPSession createSessionWithOAuth2(JCSMPProperties properties, Context context,
       SessionEventHandler eventHandler) throws InvalidPropertiesException {
     if (eventHandler != null && !(eventHandler instanceof SolaceOAuth2SessionEventHandler)) {
       throw new IllegalArgumentException(String.format(
@@ -103,21 +256,175 @@ public class SpringJCSMPFactory {
     //A JCSMP SessionEventHandler, to handle OAuth2 token refreshes
     final SolaceOAuth2SessionEventHandler solaceOAuth2SessionEventHandler =
         eventHandler != null ? (SolaceOAuth2SessionEventHandler) eventHandler
-            : new DefaultSolaceOAuth2SessionEventHandler(this.jcsmpProperties,
+            : new DefaultSolaceOAuth2SessionEventHandler(properties,
                 this.solaceSessionOAuth2TokenProvider);
 
-    //Fetch and set the initial OAuth2 token
+    //Fetch and set the initial OAuth2 token on a per-session copy of the properties, so that
+    //concurrent session creation never shares a token through this factory's properties
     final String accessToken = this.solaceSessionOAuth2TokenProvider.getAccessToken();
-    this.jcsmpProperties.setProperty(JCSMPProperties.OAUTH2_ACCESS_TOKEN, accessToken);
+    final JCSMPProperties sessionProperties = (JCSMPProperties) properties.clone();
+    sessionProperties.setProperty(JCSMPProperties.OAUTH2_ACCESS_TOKEN, accessToken);
 
-    final JCSMPSession jcsmpSession = JCSMPFactory.onlyInstance()
-        .createSession(this.jcsmpProperties, context, solaceOAuth2SessionEventHandler);
+    final JCSMPSession jcsmpSession =
+        createListenedSession(sessionProperties, context, solaceOAuth2SessionEventHandler);
     //inject the JCSMP Session into the event handler
     solaceOAuth2SessionEventHandler.setJcsmpSession(jcsmpSession);
     return jcsmpSession;
   }
 
+  /* ASYNCHRONOUS SESSION OPERATIONS */
+  /**
+   * Asynchronously acquires and connects a {@link JCSMPSession} in the default
+   * <code>Context</code>.
+   *
+   * @return A future completed with the connected session, or exceptionally if the session could
+   *         not be created or connected.
+   * @see #createSessionAsync(Context, SessionEventHandler)
+   */
+  public CompletableFuture<JCSMPSession> createSessionAsync() {
+    return createSessionAsync(null, null);
+  }
+
+  /**
+   * Asynchronously acquires a {@link JCSMPSession} as done by
+   * {@link #createSession(Context, SessionEventHandler)} and connects it. Session creation,
+   * including the OAuth2 token retrieval, and the connect run on the async executor rather than on
+   * the calling thread. The session is closed if it cannot be connected.
+   *
+   * @param context      The <code>Context</code> in which the new session will be created and
+   *                     associated with. If <code>null</code>, the context is chosen as done by
+   *                     {@link #createSession(Context, SessionEventHandler)}.
+   * @param eventHandler A callback instance for handling session events.
+   * @return A future completed with the connected session, or exceptionally if the session could
+   *         not be created or connected.
+   */
+  public CompletableFuture<JCSMPSession> createSessionAsync(Context context,
+      SessionEventHandler eventHandler) {
+    return CompletableFuture.supplyAsync(() -> {
+      JCSMPSession jcsmpSession = null;
+      try {
+        jcsmpSession = createSession(context, eventHandler);
+        SolaceReconnectPolicy.connect(jcsmpSession, reconnectPolicy);
+        return jcsmpSession;
+      } catch (JCSMPException | RuntimeException e) {
+        if (jcsmpSession != null) {
+          jcsmpSession.closeSession();
+        }
+        throw e instanceof CompletionException ? (CompletionException) e
+            : new CompletionException(e);
+      }
+    }, getAsyncExecutor());
+  }
+
+  /**
+   * Asynchronously acquires and connects the given number of sessions concurrently in the contexts
+   * chosen as done by {@link #createSession()}. If any of the sessions fails, the sessions which
+   * did connect are closed and the returned future completes exceptionally with the first failure.
+   *
+   * @param count The number of sessions to create.
+   * @return A future completed with all connected sessions.
+   */
+  public CompletableFuture<List<JCSMPSession>> createSessionsAsync(int count) {
+    final List<CompletableFuture<JCSMPSession>> futures = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      futures.add(createSessionAsync());
+    }
+
+    return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+        .handle((ignored, failure) -> {
+          final List<JCSMPSession> jcsmpSessions = new ArrayList<>(count);
+          for (CompletableFuture<JCSMPSession> future : futures) {
+            if (!future.isCompletedExceptionally()) {
+              jcsmpSessions.add(future.join());
+            }
+          }
+          if (failure != null) {
+            jcsmpSessions.forEach(JCSMPSession::closeSession);
+            throw failure instanceof CompletionException ? (CompletionException) failure
+                : new CompletionException(failure);
+          }
+          return jcsmpSessions;
+        });
+  }
+
+  /**
+   * Sets the {@link Executor} running asynchronous session creation and connects.
+   *
+   * @param asyncExecutor the executor, or {@code null} to use a pool of daemon threads created on
+   *                      first use
+   */
+  public void setAsyncExecutor(@Nullable Executor asyncExecutor) {
+    this.asyncExecutor = asyncExecutor;
+  }
+
+  private Executor getAsyncExecutor() {
+    Executor executor = this.asyncExecutor;
+    if (executor == null) {
+      synchronized (this) {
+        executor = this.asyncExecutor;
+        if (executor == null) {
+          executor = createDefaultAsyncExecutor();
+          this.asyncExecutor = executor;
+        }
+      }
+    }
+    return executor;
+  }
+
+  private static ExecutorService createDefaultAsyncExecutor() {
+    final AtomicInteger threadCount = new AtomicInteger();
+    return Executors.newCachedThreadPool(r -> {
+      final Thread thread = new Thread(r, "solace-session-connect-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Sets the {@link SolaceReconnectPolicy} of the sessions created by this factory. Sessions
+   * created afterwards wait a jittered time between their reconnect attempts, and sessions
+   * connected by this factory or by the beans of this library retry their initial connect with
+   * backoff.
+   *
+   * @param reconnectPolicy the reconnect policy, or {@code null} to use the configured reconnect
+   *                        wait and connect once
+   */
+  public void setReconnectPolicy(@Nullable SolaceReconnectPolicy reconnectPolicy) {
+    this.reconnectPolicy = reconnectPolicy;
+  }
+
+  /**
+   * Returns the {@link SolaceReconnectPolicy} of the sessions created by this factory.
+   *
+   * @return the reconnect policy, or {@code null} if none is set
+   */
+  @Nullable
+  public SolaceReconnectPolicy getReconnectPolicy() {
+    return reconnectPolicy;
+  }
+
+  /**
+   * Adds a listener notified of the sessions created afterwards by this factory and of their
+   * events.
+   *
+   * @param listener the listener
+   */
+  public void addSessionListener(SolaceSessionListener listener) {
+    sessionListeners.add(listener);
+  }
+
   /* CONTEXT OPERATIONS */
+  /**
+   * Sets the {@link SolaceContextSelector} which chooses the context of sessions created without
+   * an explicit context.
+   *
+   * @param solaceContextSelector the context selector, or {@code null} to use the default context
+   */
+  public void setContextSelector(@Nullable SolaceContextSelector solaceContextSelector) {
+    this.solaceContextSelector = solaceContextSelector;
+  }
+
+
   /**
    * Returns a reference to the default <code>Context</code>. There is a single instance of a
    * default context in the API.
@@ -138,4 +445,34 @@ public class SpringJCSMPFactory {
   public Context createContext(ContextProperties properties) {
     return JCSMPFactory.onlyInstance().createContext(properties);
   }
+
+  /**
+   * Notifies the session listeners of the events of a session before handing them to its own
+   * event handler.
+   */
+  private static final class ListeningSessionEventHandler implements SessionEventHandler {
+
+    private final SessionEventHandler delegate;
+    private final List<SolaceSessionListener> listeners;
+    private volatile JCSMPSession session;
+
+    private ListeningSessionEventHandler(@Nullable SessionEventHandler delegate,
+        List<SolaceSessionListener> listeners) {
+      this.delegate = delegate;
+      this.listeners = listeners;
+    }
+
+    @Override
+    public void handleEvent(SessionEventArgs event) {
+      final JCSMPSession current = session;
+      if (current != null) {
+        for (SolaceSessionListener listener : listeners) {
+          listener.onSessionEvent(current, event);
+        }
+      }
+      if (delegate != null) {
+        delegate.handleEvent(event);
+      }
+    }
+  }
 }
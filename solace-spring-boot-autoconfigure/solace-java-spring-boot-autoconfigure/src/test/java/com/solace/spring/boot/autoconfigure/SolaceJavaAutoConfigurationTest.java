@@ -20,13 +20,18 @@ package com.solace.spring.boot.autoconfigure;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import com.solacesystems.jcsmp.InvalidPropertiesException;
 import com.solacesystems.jcsmp.JCSMPChannelProperties;
 import com.solacesystems.jcsmp.JCSMPProperties;
 import com.solacesystems.jcsmp.JCSMPSession;
+import com.solacesystems.jcsmp.ShardedSolaceContextSelector;
+import com.solacesystems.jcsmp.SolaceAckCoalescer;
 import com.solacesystems.jcsmp.SpringJCSMPFactory;
+import java.util.Set;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.boot.test.util.TestPropertyValues;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Configuration;
@@ -102,6 +107,99 @@ class SolaceJavaAutoConfigurationTest {
     assertEquals(1000, (int) cp.getReconnectRetryWaitInMillis());
   }
 
+  @Test
+  void shardedContexts() throws InvalidPropertiesException {
+    load("solace.java.contexts.enabled=true", "solace.java.contexts.count=2");
+
+    ShardedSolaceContextSelector selector =
+        this.context.getBean(ShardedSolaceContextSelector.class);
+    assertEquals(2, selector.getContexts().size());
+
+    SpringJCSMPFactory jcsmpFactory = this.context.getBean(SpringJCSMPFactory.class);
+    jcsmpFactory.createSession();
+    jcsmpFactory.createSession();
+    assertEquals(1, selector.getOpenSessionCount(0));
+    assertEquals(1, selector.getOpenSessionCount(1));
+  }
+
+  @Test
+  void sessionProfiles() throws InvalidPropertiesException {
+    load("solace.java.clientName=base-client",
+        "solace.java.sessions.bulk.clientName=bulk-client",
+        "solace.java.sessions.latency.apiProperties.reapply_subscriptions=true");
+
+    SpringJCSMPFactory jcsmpFactory = this.context.getBean(SpringJCSMPFactory.class);
+    assertEquals(Set.of("bulk", "latency"), jcsmpFactory.getSessionProfileNames());
+
+    JCSMPSession bulkSession = jcsmpFactory.createProfileSession("bulk");
+    assertEquals("bulk-client", (String) bulkSession.getProperty(JCSMPProperties.CLIENT_NAME));
+    JCSMPSession latencySession = jcsmpFactory.createProfileSession("latency");
+    assertEquals("base-client", (String) latencySession.getProperty(JCSMPProperties.CLIENT_NAME));
+    assertEquals("base-client",
+        (String) jcsmpFactory.createSession().getProperty(JCSMPProperties.CLIENT_NAME));
+  }
+
+  @Test
+  void performanceProfile() throws InvalidPropertiesException {
+    load("solace.java.performanceProfile=high-throughput",
+        "solace.java.apiProperties." + JCSMPProperties.PUB_ACK_WINDOW_SIZE + "=100");
+
+    SpringJCSMPFactory jcsmpFactory = this.context.getBean(SpringJCSMPFactory.class);
+    JCSMPSession session = jcsmpFactory.createSession();
+
+    // explicit api properties take precedence over the profile
+    assertEquals(100, (int) (Integer) session.getProperty(JCSMPProperties.PUB_ACK_WINDOW_SIZE));
+    assertEquals(255, (int) (Integer) session.getProperty(JCSMPProperties.SUB_ACK_WINDOW_SIZE));
+    assertEquals(Boolean.FALSE,
+        (Boolean) session.getProperty(JCSMPProperties.MESSAGE_CALLBACK_ON_REACTOR));
+    JCSMPChannelProperties cp = (JCSMPChannelProperties) session
+        .getProperty(JCSMPProperties.CLIENT_CHANNEL_PROPERTIES);
+    assertEquals(false, cp.isTcpNoDelay());
+    assertEquals(1048576, cp.getSendBuffer());
+    assertEquals(1048576, cp.getReceiveBuffer());
+  }
+
+  @Test
+  void typedChannelProperties() throws InvalidPropertiesException {
+    load("solace.java.performanceProfile=high-throughput",
+        "solace.java.channel.sendBuffer=131072", "solace.java.channel.receiveBuffer=262144",
+        "solace.java.channel.tcpNoDelay=true", "solace.java.channel.keepAliveIntervalInMillis=1000",
+        "solace.java.channel.compressionLevel=6", "solace.java.channel.connectTimeoutInMillis=5000",
+        "solace.java.channel.readTimeoutInMillis=7000");
+
+    SpringJCSMPFactory jcsmpFactory = this.context.getBean(SpringJCSMPFactory.class);
+    JCSMPChannelProperties cp = (JCSMPChannelProperties) jcsmpFactory.createSession()
+        .getProperty(JCSMPProperties.CLIENT_CHANNEL_PROPERTIES);
+    assertEquals(131072, cp.getSendBuffer());
+    assertEquals(262144, cp.getReceiveBuffer());
+    assertEquals(true, cp.isTcpNoDelay());
+    assertEquals(1000, cp.getKeepAliveIntervalInMillis());
+    assertEquals(6, cp.getCompressionLevel());
+    assertEquals(5000, cp.getConnectTimeoutInMillis());
+    assertEquals(7000, cp.getReadTimeoutInMillis());
+  }
+
+  @Test
+  void invalidChannelPropertiesFailBinding() {
+    assertThrows(BeanCreationException.class, () -> load("solace.java.channel.compressionLevel=10"));
+    assertThrows(BeanCreationException.class, () -> load("solace.java.channel.sendBuffer=-1"));
+  }
+
+  @Test
+  void ackCoalescing() throws InvalidPropertiesException {
+    load("solace.java.ackCoalescing.enabled=true", "solace.java.ackCoalescing.maxPending=32",
+        "solace.java.ackCoalescing.subAckTimeInMillis=200",
+        "solace.java.ackCoalescing.subAckWindowThreshold=40");
+
+    assertNotNull(this.context.getBean(SolaceAckCoalescer.class));
+    JCSMPProperties jcsmpProperties = this.context.getBean(JCSMPProperties.class);
+    assertEquals(200, jcsmpProperties.getIntegerProperty(JCSMPProperties.SUB_ACK_TIME));
+    assertEquals(40,
+        jcsmpProperties.getIntegerProperty(JCSMPProperties.SUB_ACK_WINDOW_THRESHOLD));
+    assertThrows(BeanCreationException.class,
+        () -> load("solace.java.ackCoalescing.subAckWindowThreshold=80"));
+  }
+
   void load(String... environment) {
     load(EmptyConfiguration.class, environment);
   }
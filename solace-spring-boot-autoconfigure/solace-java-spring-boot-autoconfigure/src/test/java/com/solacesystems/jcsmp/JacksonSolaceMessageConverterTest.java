@@ -0,0 +1,59 @@
+package com.solacesystems.jcsmp;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+public class JacksonSolaceMessageConverterTest {
+
+  private final JacksonSolaceMessageConverter converter =
+      new JacksonSolaceMessageConverter(new JsonMapper());
+
+  @Test
+  void shouldRoundTripObjectsAsJson() {
+    XMLMessage message = converter.toMessage(new Price("ACME", 42));
+
+    BytesMessage bytesMessage = assertInstanceOf(BytesMessage.class, message);
+    assertEquals(JacksonSolaceMessageConverter.CONTENT_TYPE, bytesMessage.getHTTPContentType());
+    assertEquals(new Price("ACME", 42), converter.fromMessage(bytesMessage, Price.class));
+  }
+
+  @Test
+  void shouldReadJsonFromTextMessages() {
+    TextMessage message = JCSMPFactory.onlyInstance().createMessage(TextMessage.class);
+    message.setText("{\"symbol\":\"ACME\",\"price\":7}");
+
+    assertEquals(new Price("ACME", 7), converter.fromMessage(message, Price.class));
+  }
+
+  @Test
+  void shouldExposeAttachmentsWithoutConversion() {
+    byte[] data = "payload".getBytes(StandardCharsets.UTF_8);
+    BytesMessage message = JCSMPFactory.onlyInstance().createMessage(BytesMessage.class);
+    message.setData(data);
+
+    ByteBuffer buffer = converter.fromMessage(message, ByteBuffer.class);
+    assertTrue(buffer.isReadOnly());
+    assertEquals(data.length, buffer.remaining());
+    assertEquals("payload", converter.fromMessage(message, String.class));
+    assertArrayEquals(data, converter.fromMessage(message, byte[].class));
+    assertArrayEquals(data, (byte[]) converter.fromMessage(message, Object.class));
+  }
+
+  @Test
+  void shouldRejectInvalidJson() {
+    TextMessage message = JCSMPFactory.onlyInstance().createMessage(TextMessage.class);
+    message.setText("not json");
+
+    assertThrows(IllegalArgumentException.class, () -> converter.fromMessage(message, Price.class));
+  }
+
+  public record Price(String symbol, int price) {
+  }
+}
@@ -0,0 +1,75 @@
+package com.solacesystems.jcsmp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import com.solacesystems.jcsmp.ShardedSolaceContextSelector.Strategy;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ShardedSolaceContextSelectorTest {
+
+  private Context first;
+  private Context second;
+  private Context third;
+
+  @BeforeEach
+  void setUp() {
+    first = mock(Context.class);
+    second = mock(Context.class);
+    third = mock(Context.class);
+  }
+
+  @Test
+  void shouldAssignContextsRoundRobin() {
+    ShardedSolaceContextSelector selector = new ShardedSolaceContextSelector(
+        List.of(first, second, third), Strategy.ROUND_ROBIN);
+
+    assertSame(first, selector.selectContext());
+    assertSame(second, selector.selectContext());
+    assertSame(third, selector.selectContext());
+    assertSame(first, selector.selectContext());
+  }
+
+  @Test
+  void shouldAssignLeastLoadedContext() {
+    ShardedSolaceContextSelector selector = new ShardedSolaceContextSelector(
+        List.of(first, second), Strategy.LEAST_LOADED);
+
+    Context selected = selector.selectContext();
+    JCSMPSession session = mock(JCSMPSession.class);
+    selector.onSessionCreated(selected, session);
+    Context other = selected == first ? second : first;
+
+    assertSame(other, selector.selectContext());
+    assertSame(other, selector.selectContext());
+  }
+
+  @Test
+  void shouldNotCountClosedSessions() {
+    ShardedSolaceContextSelector selector = new ShardedSolaceContextSelector(
+        List.of(first, second), Strategy.LEAST_LOADED);
+    JCSMPSession session = mock(JCSMPSession.class);
+    selector.onSessionCreated(first, session);
+    assertEquals(1, selector.getOpenSessionCount(0));
+
+    when(session.isClosed()).thenReturn(true);
+
+    assertEquals(0, selector.getOpenSessionCount(0));
+  }
+
+  @Test
+  void shouldDestroyContextsOnClose() {
+    ShardedSolaceContextSelector selector = new ShardedSolaceContextSelector(
+        List.of(first, second), Strategy.ROUND_ROBIN);
+
+    selector.close();
+
+    verify(first, times(1)).destroy();
+    verify(second, times(1)).destroy();
+  }
+}
@@ -0,0 +1,57 @@
+package com.solacesystems.jcsmp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.junit.jupiter.api.Test;
+
+public class SolaceAckCoalescerTest {
+
+  @Test
+  void shouldFlushWhenMaxPendingIsReached() {
+    try (SolaceAckCoalescer coalescer = new SolaceAckCoalescer(3, 60000)) {
+      BytesXMLMessage first = mock(BytesXMLMessage.class);
+      BytesXMLMessage second = mock(BytesXMLMessage.class);
+      BytesXMLMessage third = mock(BytesXMLMessage.class);
+
+      coalescer.acknowledge(first);
+      coalescer.acknowledge(second);
+      verify(first, never()).ackMessage();
+      assertEquals(2, coalescer.getPendingCount());
+
+      coalescer.acknowledge(third);
+      verify(first, times(1)).ackMessage();
+      verify(second, times(1)).ackMessage();
+      verify(third, times(1)).ackMessage();
+      assertEquals(0, coalescer.getPendingCount());
+      assertEquals(3, coalescer.getAckCount());
+      assertEquals(1, coalescer.getFlushCount());
+    }
+  }
+
+  @Test
+  void shouldFlushAfterMaxDelay() {
+    try (SolaceAckCoalescer coalescer = new SolaceAckCoalescer(100, 20)) {
+      BytesXMLMessage message = mock(BytesXMLMessage.class);
+
+      coalescer.acknowledge(message);
+
+      verify(message, timeout(5000)).ackMessage();
+    }
+  }
+
+  @Test
+  void shouldFlushPendingAcknowledgementsOnClose() {
+    SolaceAckCoalescer coalescer = new SolaceAckCoalescer(100, 60000);
+    BytesXMLMessage message = mock(BytesXMLMessage.class);
+    coalescer.acknowledge(message);
+
+    coalescer.close();
+
+    verify(message, times(1)).ackMessage();
+    assertEquals(0, coalescer.getPendingCount());
+  }
+}
@@ -0,0 +1,167 @@
+package com.solacesystems.jcsmp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import com.solace.spring.boot.autoconfigure.SolaceJavaProperties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SolaceBatchPublisherTest {
+
+  private SpringJCSMPFactory mockFactory;
+  private JCSMPSession mockSession;
+  private XMLMessageProducer mockProducer;
+  private JCSMPStreamingPublishCorrelatingEventHandler mockHandler;
+  private SolaceJavaProperties.BatchPublisher settings;
+  private SolaceBatchPublisher publisher;
+  private Topic topic;
+
+  @BeforeEach
+  void setUp() throws JCSMPException {
+    mockFactory = mock(SpringJCSMPFactory.class);
+    mockSession = mock(JCSMPSession.class);
+    mockProducer = mock(XMLMessageProducer.class);
+    mockHandler = mock(JCSMPStreamingPublishCorrelatingEventHandler.class);
+    when(mockFactory.createSession()).thenReturn(mockSession);
+    when(mockSession.getMessageProducer(mockHandler)).thenReturn(mockProducer);
+    when(mockProducer.sendMultiple(any(), anyInt(), anyInt(), anyInt()))
+        .thenAnswer(invocation -> invocation.getArgument(2));
+    settings = new SolaceJavaProperties.BatchPublisher();
+    topic = JCSMPFactory.onlyInstance().createTopic("test/topic");
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (publisher != null) {
+      publisher.close();
+    }
+  }
+
+  @Test
+  void shouldSendMessagesInBatches() throws JCSMPException {
+    settings.setBatchSize(3);
+    settings.setLingerInMicros(TimeUnit.SECONDS.toMicros(10));
+    AtomicInteger sent = new AtomicInteger();
+    doAnswer(invocation -> {
+      sent.addAndGet(invocation.getArgument(2));
+      return invocation.getArgument(2);
+    }).when(mockProducer).sendMultiple(any(), eq(0), anyInt(), anyInt());
+    publisher = new SolaceBatchPublisher(mockFactory, settings, mockHandler);
+
+    for (int i = 0; i < 6; i++) {
+      publisher.send(JCSMPFactory.onlyInstance().createMessage(TextMessage.class), topic);
+    }
+
+    verify(mockProducer, timeout(5000).times(2)).sendMultiple(any(), eq(0), eq(3), anyInt());
+    assertEquals(6, sent.get());
+    verify(mockSession, times(1)).connect();
+  }
+
+  @Test
+  void shouldSendPartialBatchAfterLinger() throws JCSMPException {
+    settings.setLingerInMicros(1000);
+    publisher = new SolaceBatchPublisher(mockFactory, settings, mockHandler);
+
+    publisher.send(JCSMPFactory.onlyInstance().createMessage(TextMessage.class), topic);
+
+    verify(mockProducer, timeout(5000).times(1)).sendMultiple(any(), eq(0), eq(1), anyInt());
+  }
+
+  @Test
+  void shouldReportFailedBatchToHandler() throws JCSMPException {
+    settings.setLingerInMicros(0);
+    JCSMPException failure = new JCSMPException("Test exception");
+    doThrow(failure).when(mockProducer).sendMultiple(any(), anyInt(), anyInt(), anyInt());
+    publisher = new SolaceBatchPublisher(mockFactory, settings, mockHandler);
+
+    TextMessage message = JCSMPFactory.onlyInstance().createMessage(TextMessage.class);
+    message.setCorrelationKey("key");
+    publisher.send(message, topic);
+
+    verify(mockHandler, timeout(5000).times(1)).handleErrorEx(eq("key"), eq(failure), anyLong());
+  }
+
+  @Test
+  void shouldReportOnlyUnsentMessagesOfBatchToHandler() throws JCSMPException {
+    settings.setBatchSize(3);
+    settings.setLingerInMicros(TimeUnit.SECONDS.toMicros(10));
+    doAnswer(invocation -> 1).when(mockProducer).sendMultiple(any(), anyInt(), anyInt(), anyInt());
+    publisher = new SolaceBatchPublisher(mockFactory, settings, mockHandler);
+
+    for (int i = 0; i < 3; i++) {
+      TextMessage message = JCSMPFactory.onlyInstance().createMessage(TextMessage.class);
+      message.setCorrelationKey("key-" + i);
+      publisher.send(message, topic);
+    }
+
+    verify(mockHandler, timeout(5000).times(1)).handleErrorEx(eq("key-2"), any(), anyLong());
+    verify(mockHandler, times(1)).handleErrorEx(eq("key-1"), any(), anyLong());
+    verify(mockHandler, times(0)).handleErrorEx(eq("key-0"), any(), anyLong());
+    assertEquals(1, publisher.getSentCount());
+  }
+
+  @Test
+  void shouldTimeOutWhenQueueIsFull() throws Exception {
+    settings.setBatchSize(1);
+    settings.setQueueCapacity(1);
+    settings.setSendTimeoutInMillis(10);
+    CountDownLatch sending = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      sending.countDown();
+      release.await();
+      return invocation.getArgument(2);
+    }).when(mockProducer).sendMultiple(any(), anyInt(), anyInt(), anyInt());
+    publisher = new SolaceBatchPublisher(mockFactory, settings, mockHandler);
+
+    try {
+      publisher.send(JCSMPFactory.onlyInstance().createMessage(TextMessage.class), topic);
+      sending.await(5, TimeUnit.SECONDS);
+      publisher.send(JCSMPFactory.onlyInstance().createMessage(TextMessage.class), topic);
+      assertThrows(JCSMPException.class, () -> publisher.send(
+          JCSMPFactory.onlyInstance().createMessage(TextMessage.class), topic));
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  void shouldSendLingeringBatchWhenClosed() throws JCSMPException {
+    settings.setBatchSize(10);
+    settings.setLingerInMicros(TimeUnit.SECONDS.toMicros(10));
+    publisher = new SolaceBatchPublisher(mockFactory, settings, mockHandler);
+
+    publisher.send(JCSMPFactory.onlyInstance().createMessage(TextMessage.class), topic);
+    publisher.send(JCSMPFactory.onlyInstance().createMessage(TextMessage.class), topic);
+    publisher.close();
+
+    verify(mockProducer, times(1)).sendMultiple(any(), eq(0), eq(2), anyInt());
+    assertEquals(2, publisher.getSentCount());
+    assertEquals(0, publisher.getQueuedCount());
+    verify(mockSession, times(1)).closeSession();
+    assertThrows(IllegalStateException.class, () -> publisher.send(
+        JCSMPFactory.onlyInstance().createMessage(TextMessage.class), topic));
+  }
+
+  @Test
+  void shouldRejectInvalidBatchSize() {
+    settings.setBatchSize(SolaceBatchPublisher.MAX_BATCH_SIZE + 1);
+    assertThrows(IllegalArgumentException.class,
+        () -> new SolaceBatchPublisher(mockFactory, settings, mockHandler));
+  }
+}
@@ -0,0 +1,212 @@
+package com.solacesystems.jcsmp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+public class SolaceListenerContainerTest {
+
+  private SpringJCSMPFactory mockFactory;
+  private JCSMPSession mockSession;
+  private FlowReceiver mockFlowReceiver;
+  private XMLMessageConsumer mockConsumer;
+  private TestListener listener;
+
+  @BeforeEach
+  void setUp() throws JCSMPException {
+    mockFactory = mock(SpringJCSMPFactory.class);
+    mockSession = mock(JCSMPSession.class);
+    mockFlowReceiver = mock(FlowReceiver.class);
+    mockConsumer = mock(XMLMessageConsumer.class);
+    when(mockFactory.createSession(isNull(), isNull(), any())).thenReturn(mockSession);
+    when(mockSession.createFlow(any(XMLMessageListener.class), any(ConsumerFlowProperties.class),
+        isNull())).thenReturn(mockFlowReceiver);
+    when(mockSession.getMessageConsumer(any(XMLMessageListener.class))).thenReturn(mockConsumer);
+    listener = new TestListener();
+  }
+
+  @Test
+  void shouldBindConcurrentFlowsAndAcknowledgeProcessedMessages() throws Exception {
+    SolaceListenerEndpoint endpoint = createEndpoint("onMessage");
+    endpoint.setQueue("test-queue");
+    endpoint.setConcurrency(2);
+    SolaceListenerContainer container = createContainer(endpoint);
+
+    container.start();
+
+    verify(mockSession, times(2)).connect();
+    verify(mockFlowReceiver, times(2)).start();
+    BytesXMLMessage message = mock(BytesXMLMessage.class);
+    captureFlowListener().onReceive(message);
+    assertEquals(List.of(message), listener.received);
+    verify(message, times(1)).ackMessage();
+
+    container.stop();
+    verify(mockFlowReceiver, times(2)).close();
+    verify(mockSession, times(2)).closeSession();
+  }
+
+  @Test
+  void shouldSettleFailedMessages() throws Exception {
+    SolaceListenerEndpoint endpoint = createEndpoint("onMessage");
+    endpoint.setQueue("test-queue");
+    SolaceListenerContainer container = createContainer(endpoint);
+    listener.failure = new IllegalStateException("Test exception");
+
+    container.start();
+    BytesXMLMessage message = mock(BytesXMLMessage.class);
+    captureFlowListener().onReceive(message);
+
+    verify(message, never()).ackMessage();
+    verify(message, times(1)).settle(XMLMessage.Outcome.FAILED);
+  }
+
+  @Test
+  void shouldConvertPayloadsOfTopicListeners() throws Exception {
+    SolaceListenerEndpoint endpoint = createEndpoint("onPayload");
+    endpoint.setTopics(List.of("test/topic"));
+    SolaceListenerContainer container = createContainer(endpoint);
+
+    container.start();
+    verify(mockSession, times(1)).addSubscription(any(Topic.class), eq(true));
+    verify(mockConsumer, times(1)).start();
+
+    ArgumentCaptor<XMLMessageListener> captor = ArgumentCaptor.forClass(XMLMessageListener.class);
+    verify(mockSession).getMessageConsumer(captor.capture());
+    TextMessage message = JCSMPFactory.onlyInstance().createMessage(TextMessage.class);
+    message.setText("payload");
+    captor.getValue().onReceive(message);
+    assertEquals(List.of("payload"), listener.received);
+  }
+
+  @Test
+  void shouldRejectEndpointWithoutQueueOrTopics() throws Exception {
+    assertThrows(IllegalStateException.class,
+        () -> createContainer(createEndpoint("onMessage")));
+  }
+
+  @Test
+  void shouldDispatchOrderedEndpointsToLanes() throws Exception {
+    SolaceListenerEndpoint endpoint = createEndpoint("onMessage");
+    endpoint.setQueue("test-queue");
+    endpoint.setOrderingKey(SolaceOrderingKey.partitionKey());
+    assertThrows(IllegalStateException.class, () -> createContainer(endpoint));
+
+    SolaceOrderedDispatcher dispatcher = new SolaceOrderedDispatcher("test", 2, 10);
+    SolaceListenerContainer container = new SolaceListenerContainer(mockFactory, endpoint,
+        task -> {
+          throw new AssertionError("Ordered endpoints must not use the executor");
+        }, dispatcher, new SimpleSolaceMessageConverter());
+    container.start();
+    BytesXMLMessage message = mock(BytesXMLMessage.class);
+    captureFlowListener().onReceive(message);
+    dispatcher.close();
+
+    assertEquals(List.of(message), listener.received);
+    verify(message, times(1)).ackMessage();
+  }
+
+  @Test
+  void shouldAcknowledgeBatchesAfterListenerReturns() throws Exception {
+    when(mockSession.createFlow(isNull(), any(ConsumerFlowProperties.class), isNull()))
+        .thenReturn(mockFlowReceiver);
+    BytesXMLMessage first = mock(BytesXMLMessage.class);
+    BytesXMLMessage second = mock(BytesXMLMessage.class);
+    when(mockFlowReceiver.receive(anyInt())).thenReturn(first, second, null);
+    SolaceListenerEndpoint endpoint = createEndpoint("onBatch");
+    endpoint.setQueue("test-queue");
+    endpoint.setMaxBatchSize(10);
+    endpoint.setMaxBatchWaitInMillis(1000L);
+    SolaceListenerContainer container = createContainer(endpoint);
+
+    container.start();
+    verify(second, timeout(5000)).ackMessage();
+    container.stop();
+
+    assertEquals(List.of(List.of(first, second)), listener.received);
+    verify(first, times(1)).ackMessage();
+  }
+
+  @Test
+  void shouldDetectAnnotatedMethods() {
+    DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+    beanFactory.addEmbeddedValueResolver(value -> value.replace("${queue}", "resolved-queue"));
+    SolaceListenerAnnotationBeanPostProcessor postProcessor =
+        new SolaceListenerAnnotationBeanPostProcessor();
+    postProcessor.setBeanFactory(beanFactory);
+
+    postProcessor.postProcessAfterInitialization(new AnnotatedListener(), "annotatedListener");
+
+    List<SolaceListenerEndpoint> endpoints = postProcessor.getPendingEndpoints();
+    assertEquals(1, endpoints.size());
+    assertEquals("resolved-queue", endpoints.get(0).getQueue());
+    assertEquals(List.of("a/b", "c/d"), endpoints.get(0).getTopics());
+    assertEquals(3, endpoints.get(0).getConcurrency());
+    assertNotNull(endpoints.get(0).getOrderingKey());
+  }
+
+  private SolaceListenerEndpoint createEndpoint(String methodName) throws NoSuchMethodException {
+    Class<?> parameterType = methodName.equals("onPayload") ? Object.class
+        : methodName.equals("onBatch") ? List.class : BytesXMLMessage.class;
+    return new SolaceListenerEndpoint(listener,
+        TestListener.class.getMethod(methodName, parameterType));
+  }
+
+  private SolaceListenerContainer createContainer(SolaceListenerEndpoint endpoint) {
+    return new SolaceListenerContainer(mockFactory, endpoint, Runnable::run,
+        new SimpleSolaceMessageConverter());
+  }
+
+  private XMLMessageListener captureFlowListener() throws JCSMPException {
+    ArgumentCaptor<XMLMessageListener> captor = ArgumentCaptor.forClass(XMLMessageListener.class);
+    verify(mockSession, atLeastOnce()).createFlow(captor.capture(),
+        any(ConsumerFlowProperties.class), isNull());
+    return captor.getAllValues().get(0);
+  }
+
+  public static class TestListener {
+
+    private final List<Object> received = new ArrayList<>();
+    private RuntimeException failure;
+
+    public void onMessage(BytesXMLMessage message) {
+      received.add(message);
+      if (failure != null) {
+        throw failure;
+      }
+    }
+
+    public void onPayload(Object payload) {
+      received.add(payload);
+    }
+
+    public void onBatch(List<BytesXMLMessage> messages) {
+      received.add(messages);
+    }
+  }
+
+  public static class AnnotatedListener {
+
+    @SolaceListener(queue = "${queue}", topics = {"a/b", "c/d"}, concurrency = 3,
+        orderingKey = "topic-level:1")
+    public void onMessage(BytesXMLMessage message) {
+    }
+  }
+}
@@ -0,0 +1,119 @@
+package com.solacesystems.jcsmp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class SolaceOrderedDispatcherTest {
+
+  @Test
+  void shouldPreserveOrderPerKey() {
+    SolaceOrderedDispatcher dispatcher = new SolaceOrderedDispatcher("test", 4, 100);
+    List<List<Integer>> processed = new ArrayList<>();
+    for (int key = 0; key < 8; key++) {
+      processed.add(Collections.synchronizedList(new ArrayList<>()));
+    }
+
+    for (int i = 0; i < 100; i++) {
+      for (int key = 0; key < 8; key++) {
+        final List<Integer> keyProcessed = processed.get(key);
+        final int sequence = i;
+        dispatcher.execute("key-" + key, () -> keyProcessed.add(sequence));
+      }
+    }
+    dispatcher.close();
+
+    for (List<Integer> keyProcessed : processed) {
+      assertEquals(100, keyProcessed.size());
+      for (int i = 0; i < 100; i++) {
+        assertEquals(i, keyProcessed.get(i));
+      }
+    }
+  }
+
+  @Test
+  void shouldExposeLaneDepth() throws InterruptedException {
+    SolaceOrderedDispatcher dispatcher = new SolaceOrderedDispatcher("test", 2, 10);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    int lane = dispatcher.laneFor("hot-key");
+
+    dispatcher.execute("hot-key", () -> {
+      started.countDown();
+      awaitQuietly(release);
+    });
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    dispatcher.execute("hot-key", () -> { });
+    dispatcher.execute("hot-key", () -> { });
+
+    assertEquals(2, dispatcher.getLaneDepth(lane));
+    assertEquals(2, dispatcher.getMaxLaneDepth());
+    assertEquals(0, dispatcher.getLaneDepth(1 - lane));
+
+    release.countDown();
+    dispatcher.close();
+    assertEquals(3, dispatcher.getLaneCompletedCount(lane));
+    assertThrows(IllegalStateException.class, () -> dispatcher.execute("hot-key", () -> { }));
+  }
+
+  @Test
+  void shouldKeepLaneRunningWhenTaskThrowsError() throws InterruptedException {
+    SolaceOrderedDispatcher dispatcher = new SolaceOrderedDispatcher("test", 1, 10);
+    CountDownLatch processed = new CountDownLatch(1);
+
+    dispatcher.execute("key", () -> {
+      throw new AssertionError("Test error");
+    });
+    dispatcher.execute("key", processed::countDown);
+
+    assertTrue(processed.await(5, TimeUnit.SECONDS));
+    dispatcher.close();
+    assertEquals(2, dispatcher.getLaneCompletedCount(0));
+  }
+
+  @Test
+  void shouldRejectTasksAfterCloseWithoutStartingLanes() {
+    SolaceOrderedDispatcher dispatcher = new SolaceOrderedDispatcher("test-lane", 2, 4);
+    dispatcher.close();
+
+    assertThrows(IllegalStateException.class, () -> dispatcher.execute("key", () -> { }));
+    for (Thread thread : Thread.getAllStackTraces().keySet()) {
+      assertTrue(!thread.getName().startsWith("test-lane-"), thread.getName() + " was started");
+    }
+    assertEquals(0, dispatcher.getMaxLaneDepth());
+  }
+
+  @Test
+  void shouldExtractOrderingKeys() throws SDTException {
+    BytesXMLMessage message = mock(BytesXMLMessage.class);
+    when(message.getDestination()).thenReturn(
+        JCSMPFactory.onlyInstance().createTopic("prices/equity/ACME/update"));
+    SDTMap properties = JCSMPFactory.onlyInstance().createMap();
+    properties.putString("JMSXGroupID", "group-1");
+    properties.putString("account", "account-1");
+    when(message.getProperties()).thenReturn(properties);
+
+    assertEquals("ACME", SolaceOrderingKey.parse("topic-level:2").extractKey(message));
+    assertNull(SolaceOrderingKey.parse("topic-level:5").extractKey(message));
+    assertEquals("account-1", SolaceOrderingKey.parse("user-property:account").extractKey(message));
+    assertEquals("group-1", SolaceOrderingKey.parse("partition-key").extractKey(message));
+    assertThrows(IllegalArgumentException.class, () -> SolaceOrderingKey.parse("unknown"));
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
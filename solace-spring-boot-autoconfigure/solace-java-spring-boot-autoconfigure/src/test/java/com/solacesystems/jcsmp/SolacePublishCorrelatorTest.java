@@ -0,0 +1,152 @@
+package com.solacesystems.jcsmp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SolacePublishCorrelatorTest {
+
+  private XMLMessageProducer mockProducer;
+  private Topic topic;
+
+  @BeforeEach
+  void setUp() {
+    mockProducer = mock(XMLMessageProducer.class);
+    topic = JCSMPFactory.onlyInstance().createTopic("test/topic");
+  }
+
+  @Test
+  void shouldCompleteFutureWhenAcknowledged() throws JCSMPException {
+    SolacePublishCorrelator correlator = new SolacePublishCorrelator(4, 10);
+    TextMessage message = createMessage(DeliveryMode.PERSISTENT);
+
+    CompletableFuture<Void> future = correlator.send(mockProducer, message, topic);
+    assertFalse(future.isDone());
+    assertEquals(1, correlator.getInFlightCount());
+
+    correlator.responseReceivedEx(message.getCorrelationKey());
+    assertTrue(future.isDone());
+    assertEquals(0, correlator.getInFlightCount());
+    assertEquals(1, correlator.getAckCount());
+  }
+
+  @Test
+  void shouldCompleteFutureExceptionallyWhenRejected() throws JCSMPException {
+    SolacePublishCorrelator correlator = new SolacePublishCorrelator(4, 10);
+    TextMessage message = createMessage(DeliveryMode.PERSISTENT);
+    JCSMPException cause = new JCSMPException("Test exception");
+
+    CompletableFuture<Void> future = correlator.send(mockProducer, message, topic);
+    correlator.handleErrorEx(message.getCorrelationKey(), cause, 0);
+
+    CompletionException e = assertThrows(CompletionException.class, future::join);
+    assertSame(cause, e.getCause());
+    assertEquals(0, correlator.getInFlightCount());
+    assertEquals(1, correlator.getErrorCount());
+  }
+
+  @Test
+  void shouldCompleteDirectMessagesImmediately() throws JCSMPException {
+    SolacePublishCorrelator correlator = new SolacePublishCorrelator(1, 10);
+
+    assertTrue(correlator.send(mockProducer, createMessage(DeliveryMode.DIRECT), topic).isDone());
+    assertEquals(0, correlator.getInFlightCount());
+  }
+
+  @Test
+  void shouldTimeOutWhenMaxInFlightIsReached() throws JCSMPException {
+    SolacePublishCorrelator correlator = new SolacePublishCorrelator(1, 10);
+    TextMessage first = createMessage(DeliveryMode.PERSISTENT);
+    correlator.send(mockProducer, first, topic);
+
+    assertThrows(JCSMPException.class,
+        () -> correlator.send(mockProducer, createMessage(DeliveryMode.PERSISTENT), topic));
+
+    correlator.responseReceivedEx(first.getCorrelationKey());
+    correlator.send(mockProducer, createMessage(DeliveryMode.PERSISTENT), topic);
+    assertEquals(1, correlator.getInFlightCount());
+  }
+
+  @Test
+  void shouldReleaseSlotWhenSendFails() throws JCSMPException {
+    SolacePublishCorrelator correlator = new SolacePublishCorrelator(1, 10);
+    doThrow(new JCSMPException("Test exception")).when(mockProducer)
+        .send(any(XMLMessage.class), any(Destination.class));
+
+    assertThrows(JCSMPException.class,
+        () -> correlator.send(mockProducer, createMessage(DeliveryMode.PERSISTENT), topic));
+    assertEquals(0, correlator.getInFlightCount());
+  }
+
+  @Test
+  void shouldIgnoreKeysOfReleasedSlots() throws JCSMPException {
+    SolacePublishCorrelator correlator = new SolacePublishCorrelator(1, 10);
+    TextMessage first = createMessage(DeliveryMode.PERSISTENT);
+    TextMessage second = createMessage(DeliveryMode.PERSISTENT);
+    correlator.send(mockProducer, first, topic);
+    correlator.responseReceivedEx(first.getCorrelationKey());
+
+    CompletableFuture<Void> future = correlator.send(mockProducer, second, topic);
+    correlator.handleErrorEx(first.getCorrelationKey(), new JCSMPException("Test exception"), 0);
+    correlator.responseReceivedEx(first.getCorrelationKey());
+    assertFalse(future.isDone());
+    assertEquals(1, correlator.getInFlightCount());
+    assertEquals(1, correlator.getAckCount());
+    assertEquals(0, correlator.getErrorCount());
+
+    correlator.responseReceivedEx(second.getCorrelationKey());
+    assertTrue(future.isDone());
+    assertEquals(0, correlator.getInFlightCount());
+  }
+
+  @Test
+  void shouldIgnoreUncorrelatedResponses() {
+    SolacePublishCorrelator correlator = new SolacePublishCorrelator(1, 10);
+
+    correlator.responseReceivedEx("foreign-key");
+    correlator.handleErrorEx(null, new JCSMPException("Test exception"), 0);
+    assertEquals(0, correlator.getAckCount());
+    assertEquals(0, correlator.getErrorCount());
+  }
+
+  @Test
+  void shouldRecordAckLatencyPerDestinationClass() throws JCSMPException {
+    SolacePublishCorrelator correlator = new SolacePublishCorrelator(4, 10);
+    List<SolacePublishCorrelator.DestinationClass> recorded = new ArrayList<>();
+    correlator.setAckLatencyRecorder((destinationClass, latencyInNanos) -> {
+      assertTrue(latencyInNanos >= 0);
+      recorded.add(destinationClass);
+    });
+    Queue queue = JCSMPFactory.onlyInstance().createQueue("test-queue");
+    TextMessage toTopic = createMessage(DeliveryMode.PERSISTENT);
+    TextMessage toQueue = createMessage(DeliveryMode.PERSISTENT);
+    TextMessage rejected = createMessage(DeliveryMode.PERSISTENT);
+
+    correlator.send(mockProducer, toTopic, topic);
+    correlator.send(mockProducer, toQueue, queue);
+    correlator.send(mockProducer, rejected, queue);
+    correlator.responseReceivedEx(toQueue.getCorrelationKey());
+    correlator.responseReceivedEx(toTopic.getCorrelationKey());
+    correlator.handleErrorEx(rejected.getCorrelationKey(), new JCSMPException("Test exception"), 0);
+
+    assertEquals(List.of(SolacePublishCorrelator.DestinationClass.QUEUE,
+        SolacePublishCorrelator.DestinationClass.TOPIC), recorded);
+  }
+
+  private static TextMessage createMessage(DeliveryMode deliveryMode) {
+    TextMessage message = JCSMPFactory.onlyInstance().createMessage(TextMessage.class);
+    message.setDeliveryMode(deliveryMode);
+    return message;
+  }
+}
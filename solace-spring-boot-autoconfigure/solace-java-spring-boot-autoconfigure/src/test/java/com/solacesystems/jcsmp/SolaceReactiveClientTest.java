@@ -0,0 +1,76 @@
+package com.solacesystems.jcsmp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+
+public class SolaceReactiveClientTest {
+
+  private SpringJCSMPFactory mockFactory;
+  private JCSMPSession mockSession;
+  private FlowReceiver mockFlowReceiver;
+  private SolaceReactiveClient client;
+
+  @BeforeEach
+  void setUp() throws JCSMPException {
+    mockFactory = mock(SpringJCSMPFactory.class);
+    mockSession = mock(JCSMPSession.class);
+    mockFlowReceiver = mock(FlowReceiver.class);
+    when(mockFactory.createSession(isNull(), isNull(), any())).thenReturn(mockSession);
+    when(mockSession.createFlow(any(XMLMessageListener.class), any(ConsumerFlowProperties.class),
+        isNull())).thenReturn(mockFlowReceiver);
+    client = new SolaceReactiveClient(mockFactory, mock(SolaceTemplate.class));
+  }
+
+  @Test
+  void shouldStartAndStopFlowWithDemand() throws JCSMPException {
+    List<BytesXMLMessage> received = new ArrayList<>();
+    RequestingSubscriber subscriber = new RequestingSubscriber(received);
+    client.receive(JCSMPFactory.onlyInstance().createQueue("test-queue")).subscribe(subscriber);
+
+    ArgumentCaptor<XMLMessageListener> listener = ArgumentCaptor.forClass(XMLMessageListener.class);
+    verify(mockSession).createFlow(listener.capture(), any(ConsumerFlowProperties.class), isNull());
+    verify(mockFlowReceiver, times(1)).start();
+
+    listener.getValue().onReceive(mock(BytesXMLMessage.class));
+    assertEquals(1, received.size());
+    verify(mockFlowReceiver, times(1)).stop();
+
+    subscriber.request(1);
+    verify(mockFlowReceiver, times(2)).start();
+
+    subscriber.dispose();
+    verify(mockFlowReceiver, times(1)).close();
+    verify(mockSession, times(1)).closeSession();
+  }
+
+  private static final class RequestingSubscriber extends BaseSubscriber<BytesXMLMessage> {
+
+    private final List<BytesXMLMessage> received;
+
+    private RequestingSubscriber(List<BytesXMLMessage> received) {
+      this.received = received;
+    }
+
+    @Override
+    protected void hookOnSubscribe(Subscription subscription) {
+      request(1);
+    }
+
+    @Override
+    protected void hookOnNext(BytesXMLMessage message) {
+      received.add(message);
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package com.solacesystems.jcsmp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class SolaceReconnectMetricsTest {
+
+  @Test
+  void shouldRecordReconnectsInEveryBoundRegistry() {
+    SolaceReconnectMetrics metrics = new SolaceReconnectMetrics();
+    SimpleMeterRegistry first = new SimpleMeterRegistry();
+    SimpleMeterRegistry second = new SimpleMeterRegistry();
+    metrics.bindTo(first);
+    metrics.bindTo(second);
+    JCSMPSession reconnected = mock(JCSMPSession.class);
+    JCSMPSession failed = mock(JCSMPSession.class);
+
+    metrics.onSessionEvent(reconnected, event(SessionEvent.RECONNECTING));
+    metrics.onSessionEvent(failed, event(SessionEvent.RECONNECTING));
+    metrics.onSessionEvent(reconnected, event(SessionEvent.RECONNECTED));
+    metrics.onSessionEvent(failed, event(SessionEvent.DOWN_ERROR));
+
+    for (SimpleMeterRegistry registry : List.of(first, second)) {
+      assertEquals(1, registry.get("solace.session.reconnect").timer().count());
+      assertEquals(1, registry.get("solace.session.reconnect.failures").counter().count());
+      assertEquals(0, registry.get("solace.session.reconnecting").gauge().value());
+    }
+  }
+
+  private static SessionEventArgs event(SessionEvent sessionEvent) {
+    SessionEventArgs event = mock(SessionEventArgs.class);
+    when(event.getEvent()).thenReturn(sessionEvent);
+    return event;
+  }
+}
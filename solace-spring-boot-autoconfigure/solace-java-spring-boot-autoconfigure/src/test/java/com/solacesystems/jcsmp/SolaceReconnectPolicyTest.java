@@ -0,0 +1,83 @@
+package com.solacesystems.jcsmp;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.junit.jupiter.api.Test;
+
+public class SolaceReconnectPolicyTest {
+
+  @Test
+  void shouldBoundDelayByCappedExponentialBackoff() {
+    SolaceReconnectPolicy policy = new SolaceReconnectPolicy(100, 1000, 2.0, 5);
+    for (int i = 0; i < 100; i++) {
+      long first = policy.delayInMillis(0);
+      assertTrue(first >= 0 && first <= 100, "first delay " + first);
+      long third = policy.delayInMillis(2);
+      assertTrue(third >= 0 && third <= 400, "third delay " + third);
+      long capped = policy.delayInMillis(30);
+      assertTrue(capped >= 0 && capped <= 1000, "capped delay " + capped);
+    }
+  }
+
+  @Test
+  void shouldJitterReconnectRetryWait() {
+    SolaceReconnectPolicy policy = new SolaceReconnectPolicy(100, 1000, 2.0, 5);
+    for (int i = 0; i < 100; i++) {
+      int wait = policy.jitterReconnectRetryWait(3000);
+      assertTrue(wait >= 1500 && wait <= 3000, "reconnect wait " + wait);
+    }
+  }
+
+  @Test
+  void shouldRetryTransportFailures() throws JCSMPException {
+    JCSMPSession session = mock(JCSMPSession.class);
+    doThrow(new JCSMPTransportException("unreachable"))
+        .doThrow(new JCSMPTransportException("unreachable"))
+        .doNothing()
+        .when(session).connect();
+
+    SolaceReconnectPolicy.connect(session, new SolaceReconnectPolicy(1, 1, 1.0, 5));
+
+    verify(session, times(3)).connect();
+  }
+
+  @Test
+  void shouldGiveUpAfterMaxConnectAttempts() throws JCSMPException {
+    JCSMPSession session = mock(JCSMPSession.class);
+    JCSMPTransportException failure = new JCSMPTransportException("unreachable");
+    doThrow(failure).when(session).connect();
+
+    JCSMPException thrown = assertThrows(JCSMPException.class, () ->
+        SolaceReconnectPolicy.connect(session, new SolaceReconnectPolicy(1, 1, 1.0, 3)));
+
+    assertSame(failure, thrown);
+    verify(session, times(3)).connect();
+  }
+
+  @Test
+  void shouldNotRetryOtherFailures() throws JCSMPException {
+    JCSMPSession session = mock(JCSMPSession.class);
+    doThrow(new JCSMPException("rejected")).when(session).connect();
+
+    assertThrows(JCSMPException.class, () ->
+        SolaceReconnectPolicy.connect(session, new SolaceReconnectPolicy(1, 1, 1.0, 5)));
+
+    verify(session, times(1)).connect();
+  }
+
+  @Test
+  void shouldConnectOnceWithoutPolicy() throws JCSMPException {
+    JCSMPSession session = mock(JCSMPSession.class);
+    doThrow(new JCSMPTransportException("unreachable")).when(session).connect();
+
+    assertThrows(JCSMPTransportException.class, () ->
+        SolaceReconnectPolicy.connect(session, null));
+
+    verify(session, times(1)).connect();
+  }
+}
@@ -0,0 +1,169 @@
+package com.solacesystems.jcsmp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+public class SolaceRequestorTest {
+
+  private final Topic inbox = JCSMPFactory.onlyInstance().createTopic("#P2P/test/inbox");
+  private final Topic requestTopic = JCSMPFactory.onlyInstance().createTopic("test/request");
+  private SpringJCSMPFactory mockFactory;
+  private JCSMPSession mockSession;
+  private XMLMessageProducer mockProducer;
+  private SolaceTimingWheel timingWheel;
+  private SolaceRequestor requestor;
+  private XMLMessageListener replyListener;
+
+  @BeforeEach
+  void setUp() throws JCSMPException {
+    mockFactory = mock(SpringJCSMPFactory.class);
+    mockSession = mock(JCSMPSession.class);
+    mockProducer = mock(XMLMessageProducer.class);
+    XMLMessageConsumer mockConsumer = mock(XMLMessageConsumer.class);
+    when(mockFactory.createSession()).thenReturn(mockSession);
+    when(mockSession.getMessageProducer(any(JCSMPStreamingPublishCorrelatingEventHandler.class)))
+        .thenReturn(mockProducer);
+    when(mockSession.getMessageConsumer(any(XMLMessageListener.class))).thenAnswer(invocation -> {
+      replyListener = invocation.getArgument(0);
+      return mockConsumer;
+    });
+    when(mockSession.getProperty(JCSMPProperties.P2PINBOX_IN_USE)).thenReturn(inbox);
+    timingWheel = new SolaceTimingWheel("test-request-timeouts", 5, 64);
+    requestor = new SolaceRequestor(mockFactory, new SimpleSolaceMessageConverter(), timingWheel,
+        10000);
+  }
+
+  @AfterEach
+  void tearDown() {
+    requestor.close();
+    timingWheel.close();
+  }
+
+  @Test
+  void shouldCompleteRequestsWithCorrelatedReplies() throws Exception {
+    CompletableFuture<String> first = requestor.convertAndRequest(requestTopic, "a", String.class);
+    CompletableFuture<String> second = requestor.convertAndRequest(requestTopic, "b", String.class);
+
+    ArgumentCaptor<XMLMessage> captor = ArgumentCaptor.forClass(XMLMessage.class);
+    verify(mockProducer, times(2)).send(captor.capture(), any(Destination.class));
+    XMLMessage firstRequest = captor.getAllValues().get(0);
+    XMLMessage secondRequest = captor.getAllValues().get(1);
+    assertSame(inbox, firstRequest.getReplyTo());
+    assertFalse(firstRequest.getCorrelationId().equals(secondRequest.getCorrelationId()));
+    assertEquals(2, requestor.getPendingCount());
+
+    replyListener.onReceive(reply(secondRequest.getCorrelationId(), "B"));
+    replyListener.onReceive(reply(firstRequest.getCorrelationId(), "A"));
+
+    assertEquals("A", first.get(1, TimeUnit.SECONDS));
+    assertEquals("B", second.get(1, TimeUnit.SECONDS));
+    assertEquals(0, requestor.getPendingCount());
+    verify(mockFactory, times(1)).createSession();
+    verify(mockSession, times(1)).connect();
+  }
+
+  @Test
+  void shouldFailRequestsWithoutReplyAfterTimeout() throws Exception {
+    TextMessage request = JCSMPFactory.onlyInstance().createMessage(TextMessage.class);
+
+    CompletableFuture<BytesXMLMessage> future = requestor.request(requestTopic, request, 20);
+
+    ExecutionException e = assertThrows(ExecutionException.class,
+        () -> future.get(5, TimeUnit.SECONDS));
+    assertInstanceOf(TimeoutException.class, e.getCause());
+    assertEquals(0, requestor.getPendingCount());
+
+    //a late reply is discarded
+    replyListener.onReceive(reply(request.getCorrelationId(), "late"));
+  }
+
+  @Test
+  void shouldFailPendingRequestsOnClose() throws JCSMPException {
+    CompletableFuture<BytesXMLMessage> future = requestor.request(requestTopic,
+        JCSMPFactory.onlyInstance().createMessage(TextMessage.class));
+
+    requestor.close();
+
+    assertTrue(future.isCompletedExceptionally());
+    verify(mockSession, times(1)).closeSession();
+    assertThrows(IllegalStateException.class, () -> requestor.request(requestTopic,
+        JCSMPFactory.onlyInstance().createMessage(TextMessage.class)));
+  }
+
+  @Test
+  void shouldNotTrackRequestsWhichFailToSend() throws JCSMPException {
+    TextMessage request = JCSMPFactory.onlyInstance().createMessage(TextMessage.class);
+    doThrow(new JCSMPException("send failed"))
+        .when(mockProducer).send(any(XMLMessage.class), any(Destination.class));
+
+    assertThrows(JCSMPException.class, () -> requestor.request(requestTopic, request));
+    assertEquals(0, requestor.getPendingCount());
+  }
+
+  @Test
+  void shouldCompleteScatterGatherEarlyWhenExpectedRepliesArrive() throws Exception {
+    TextMessage request = JCSMPFactory.onlyInstance().createMessage(TextMessage.class);
+    CompletableFuture<SolaceScatterGatherResult> future =
+        requestor.scatterGather(requestTopic, request, 2, 60000);
+
+    replyListener.onReceive(reply(request.getCorrelationId(), "1", "pricer-1"));
+    assertFalse(future.isDone());
+    replyListener.onReceive(reply(request.getCorrelationId(), "2", "pricer-2"));
+    //replies beyond the expected count are discarded
+    replyListener.onReceive(reply(request.getCorrelationId(), "3", "pricer-3"));
+
+    SolaceScatterGatherResult result = future.get(1, TimeUnit.SECONDS);
+    assertTrue(result.isComplete());
+    assertEquals(2, result.getReplies().size());
+    assertEquals("pricer-1", result.getReplies().get(0).getResponder());
+    assertEquals("pricer-2", result.getReplies().get(1).getResponder());
+    assertTrue(result.getReplies().get(0).getLatency(TimeUnit.NANOSECONDS) >= 0);
+    assertEquals(0, requestor.getPendingCount());
+  }
+
+  @Test
+  void shouldCompleteScatterGatherWithPartialResultAfterTimeout() throws Exception {
+    TextMessage request = JCSMPFactory.onlyInstance().createMessage(TextMessage.class);
+    CompletableFuture<SolaceScatterGatherResult> future =
+        requestor.scatterGather(requestTopic, request, 3, 20);
+
+    replyListener.onReceive(reply(request.getCorrelationId(), "1", "pricer-1"));
+
+    SolaceScatterGatherResult result = future.get(5, TimeUnit.SECONDS);
+    assertFalse(result.isComplete());
+    assertEquals(3, result.getExpectedReplies());
+    assertEquals(1, result.getReplies().size());
+    assertEquals(0, requestor.getPendingCount());
+  }
+
+  private static BytesXMLMessage reply(String correlationId, String text, String senderId) {
+    BytesXMLMessage reply = reply(correlationId, text);
+    reply.setSenderId(senderId);
+    return reply;
+  }
+
+  private static BytesXMLMessage reply(String correlationId, String text) {
+    TextMessage reply = JCSMPFactory.onlyInstance().createMessage(TextMessage.class);
+    reply.setText(text);
+    reply.setCorrelationId(correlationId);
+    return reply;
+  }
+}
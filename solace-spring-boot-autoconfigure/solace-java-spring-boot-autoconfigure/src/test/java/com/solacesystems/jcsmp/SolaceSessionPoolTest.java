@@ -0,0 +1,175 @@
+package com.solacesystems.jcsmp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import com.solace.spring.boot.autoconfigure.SolaceJavaProperties;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SolaceSessionPoolTest {
+
+  private SpringJCSMPFactory mockFactory;
+  private SolaceJavaProperties.SessionPool settings;
+  private SolaceSessionPool pool;
+
+  @BeforeEach
+  void setUp() throws InvalidPropertiesException {
+    mockFactory = mock(SpringJCSMPFactory.class);
+    when(mockFactory.createSession()).thenAnswer(invocation -> mock(JCSMPSession.class));
+    settings = new SolaceJavaProperties.SessionPool();
+    settings.setMaxSize(2);
+    settings.setBorrowTimeoutInMillis(50);
+    settings.setIdleTimeoutInMillis(0);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (pool != null) {
+      pool.close();
+    }
+  }
+
+  @Test
+  void shouldReuseReturnedSession() throws JCSMPException {
+    pool = new SolaceSessionPool(mockFactory, settings);
+
+    JCSMPSession first = pool.borrowSession();
+    verify(first, times(1)).connect();
+    pool.returnSession(first);
+    JCSMPSession second = pool.borrowSession();
+
+    assertSame(first, second);
+    assertEquals(1, pool.getCreatedCount());
+    assertEquals(1, pool.getActiveCount());
+    assertEquals(0, pool.getIdleCount());
+  }
+
+  @Test
+  void shouldTimeOutWhenPoolIsExhausted() throws JCSMPException {
+    pool = new SolaceSessionPool(mockFactory, settings);
+
+    pool.borrowSession();
+    pool.borrowSession();
+
+    assertThrows(JCSMPException.class, () -> pool.borrowSession());
+    assertEquals(1, pool.getBorrowTimeoutCount());
+  }
+
+  @Test
+  void shouldDiscardClosedSessionOnBorrow() throws JCSMPException {
+    pool = new SolaceSessionPool(mockFactory, settings);
+
+    JCSMPSession first = pool.borrowSession();
+    pool.returnSession(first);
+    when(first.isClosed()).thenReturn(true);
+    JCSMPSession second = pool.borrowSession();
+
+    assertNotSame(first, second);
+    verify(first, times(1)).closeSession();
+    assertEquals(1, pool.getDestroyedCount());
+  }
+
+  @Test
+  void shouldReleaseCapacityWhenSessionIsInvalidated() throws JCSMPException {
+    pool = new SolaceSessionPool(mockFactory, settings);
+
+    JCSMPSession first = pool.borrowSession();
+    pool.borrowSession();
+    pool.invalidateSession(first);
+
+    JCSMPSession third = pool.borrowSession();
+    assertNotSame(first, third);
+    verify(first, times(1)).closeSession();
+  }
+
+  @Test
+  void shouldReleaseCapacityWhenConnectFails() throws JCSMPException {
+    JCSMPSession failing = mock(JCSMPSession.class);
+    doThrow(new JCSMPException("Test exception")).when(failing).connect();
+    when(mockFactory.createSession()).thenReturn(failing)
+        .thenAnswer(invocation -> mock(JCSMPSession.class));
+    pool = new SolaceSessionPool(mockFactory, settings);
+
+    assertThrows(JCSMPException.class, () -> pool.borrowSession());
+    verify(failing, times(1)).closeSession();
+    pool.borrowSession();
+    pool.borrowSession();
+    assertEquals(2, pool.getActiveCount());
+  }
+
+  @Test
+  void shouldEvictIdleSessionsDownToMinSize() throws Exception {
+    settings.setMinSize(1);
+    settings.setIdleTimeoutInMillis(1);
+    settings.setEvictionIntervalInMillis(60000);
+    pool = new SolaceSessionPool(mockFactory, settings);
+
+    JCSMPSession first = pool.borrowSession();
+    JCSMPSession second = pool.borrowSession();
+    pool.returnSession(first);
+    pool.returnSession(second);
+    Thread.sleep(10);
+
+    pool.evictIdleSessions();
+
+    assertEquals(1, pool.getIdleCount());
+    //the least recently returned session is evicted first
+    verify(first, times(1)).closeSession();
+    verify(second, never()).closeSession();
+  }
+
+  @Test
+  void shouldFillPoolToMinSizeWhenStarted() throws JCSMPException {
+    settings.setMinSize(2);
+    JCSMPSession first = mock(JCSMPSession.class);
+    JCSMPSession second = mock(JCSMPSession.class);
+    when(mockFactory.createSessionsAsync(1))
+        .thenReturn(CompletableFuture.completedFuture(List.of(second)));
+    pool = new SolaceSessionPool(mockFactory, settings);
+    pool.addIdleSession(first);
+
+    pool.start();
+
+    assertTrue(pool.isRunning());
+    assertEquals(2, pool.getIdleCount());
+    assertSame(first, pool.borrowSession());
+    verify(mockFactory, never()).createSession();
+  }
+
+  @Test
+  void shouldNotExceedMaxSizeWithAddedIdleSessions() throws JCSMPException {
+    pool = new SolaceSessionPool(mockFactory, settings);
+    JCSMPSession borrowed = pool.borrowSession();
+    JCSMPSession added = mock(JCSMPSession.class);
+    assertTrue(pool.addIdleSession(added));
+    assertFalse(pool.addIdleSession(mock(JCSMPSession.class)));
+
+    //the pool is full, so the borrower takes the added session instead of creating one
+    assertSame(added, pool.borrowSession());
+    pool.invalidateSession(borrowed);
+    assertTrue(pool.addIdleSession(mock(JCSMPSession.class)));
+    assertFalse(pool.addIdleSession(mock(JCSMPSession.class)));
+    assertEquals(1, pool.getActiveCount());
+    assertEquals(1, pool.getIdleCount());
+  }
+
+  @Test
+  void shouldRejectInvalidSizes() {
+    settings.setMinSize(3);
+    assertThrows(IllegalArgumentException.class,
+        () -> new SolaceSessionPool(mockFactory, settings));
+  }
+}
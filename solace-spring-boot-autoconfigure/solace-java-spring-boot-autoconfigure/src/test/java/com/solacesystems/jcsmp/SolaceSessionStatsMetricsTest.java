@@ -0,0 +1,120 @@
+package com.solacesystems.jcsmp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+public class SolaceSessionStatsMetricsTest {
+
+  @Test
+  void shouldPublishStatsOfCreatedSessions() {
+    JCSMPSession session = mockSession("session-1");
+    JCSMPSessionStats stats = mock(JCSMPSessionStats.class);
+    when(stats.getStat(SessionStat.TOTAL_MSGS_SENT)).thenReturn(42L);
+    when(stats.getStat(SessionStat.TOTAL_BYTES_RECVED)).thenReturn(1024L);
+    when(session.getSessionStats()).thenReturn(stats);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    SolaceSessionStatsMetrics metrics = new SolaceSessionStatsMetrics(60000);
+    metrics.bindTo(registry);
+
+    metrics.onSessionCreated(session);
+
+    assertEquals(42, registry.get("solace.session.total.msgs.sent")
+        .tag("session", "session-1").functionCounter().count());
+    assertEquals(1024, registry.get("solace.session.total.bytes.recved")
+        .tag("session", "session-1").functionCounter().count());
+    //all meters of the session share one sample
+    verify(session, times(1)).getSessionStats();
+  }
+
+  @Test
+  void shouldKeepMetersOfSessionsSharingAName() {
+    JCSMPSession first = mockSession("pooled");
+    JCSMPSession second = mockSession("pooled");
+    JCSMPSessionStats firstStats = mock(JCSMPSessionStats.class);
+    JCSMPSessionStats secondStats = mock(JCSMPSessionStats.class);
+    when(firstStats.getStat(SessionStat.TOTAL_MSGS_SENT)).thenReturn(1L);
+    when(secondStats.getStat(SessionStat.TOTAL_MSGS_SENT)).thenReturn(2L);
+    when(first.getSessionStats()).thenReturn(firstStats);
+    when(second.getSessionStats()).thenReturn(secondStats);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    SolaceSessionStatsMetrics metrics = new SolaceSessionStatsMetrics(0);
+    metrics.bindTo(registry);
+    metrics.onSessionCreated(first);
+    metrics.onSessionCreated(second);
+
+    assertEquals(2, registry.get("solace.session.total.msgs.sent")
+        .tag("session", "pooled").tag("session.id", "2").functionCounter().count());
+    SessionEventArgs down = mock(SessionEventArgs.class);
+    when(down.getEvent()).thenReturn(SessionEvent.DOWN_ERROR);
+    metrics.onSessionEvent(first, down);
+
+    assertNull(registry.find("solace.session.total.msgs.sent")
+        .tag("session.id", "1").functionCounter());
+    assertEquals(2, registry.get("solace.session.total.msgs.sent")
+        .tag("session", "pooled").tag("session.id", "2").functionCounter().count());
+  }
+
+  @Test
+  void shouldRemoveMetersOfClosedSessions() {
+    JCSMPSession closed = mockSession("session-1");
+    when(closed.getSessionStats()).thenReturn(mock(JCSMPSessionStats.class));
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    SolaceSessionStatsMetrics metrics = new SolaceSessionStatsMetrics(0);
+    metrics.onSessionCreated(closed);
+    metrics.bindTo(registry);
+    when(closed.isClosed()).thenReturn(true);
+
+    metrics.onSessionCreated(mockSession("session-2"));
+
+    assertEquals(1, metrics.getSessionCount());
+    assertNull(registry.find("solace.session.total.msgs.sent")
+        .tag("session", "session-1").functionCounter());
+  }
+
+  @Test
+  void shouldRemoveMetersWhenPublishedAfterSessionClosed() {
+    JCSMPSession session = mockSession("session-1");
+    when(session.getSessionStats()).thenReturn(mock(JCSMPSessionStats.class));
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    SolaceSessionStatsMetrics metrics = new SolaceSessionStatsMetrics(0);
+    metrics.bindTo(registry);
+    metrics.onSessionCreated(session);
+    when(session.isClosed()).thenReturn(true);
+
+    registry.get("solace.session.total.msgs.sent").tag("session", "session-1")
+        .functionCounter().count();
+
+    assertEquals(0, metrics.getSessionCount());
+    assertNull(registry.find("solace.session.total.msgs.sent")
+        .tag("session", "session-1").functionCounter());
+  }
+
+  @Test
+  void shouldRemoveMetersWhenSessionGoesDown() {
+    JCSMPSession session = mockSession("session-1");
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    SolaceSessionStatsMetrics metrics = new SolaceSessionStatsMetrics(0);
+    metrics.bindTo(registry);
+    metrics.onSessionCreated(session);
+    SessionEventArgs down = mock(SessionEventArgs.class);
+    when(down.getEvent()).thenReturn(SessionEvent.DOWN_ERROR);
+
+    metrics.onSessionEvent(session, down);
+
+    assertEquals(0, metrics.getSessionCount());
+    assertNull(registry.find("solace.session.total.msgs.sent")
+        .tag("session", "session-1").functionCounter());
+  }
+
+  private static JCSMPSession mockSession(String name) {
+    JCSMPSession session = mock(JCSMPSession.class);
+    when(session.getSessionName()).thenReturn(name);
+    return session;
+  }
+}
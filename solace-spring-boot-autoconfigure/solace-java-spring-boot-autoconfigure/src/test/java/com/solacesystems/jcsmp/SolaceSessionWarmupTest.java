@@ -0,0 +1,87 @@
+package com.solacesystems.jcsmp;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import com.solace.spring.boot.autoconfigure.SolaceJavaProperties;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SolaceSessionWarmupTest {
+
+  private SpringJCSMPFactory mockFactory;
+  private JCSMPSession first;
+  private JCSMPSession second;
+  private SolaceSessionPool pool;
+  private SolaceJavaProperties.Warmup settings;
+
+  @BeforeEach
+  void setUp() {
+    mockFactory = mock(SpringJCSMPFactory.class);
+    pool = mock(SolaceSessionPool.class);
+    first = mock(JCSMPSession.class);
+    second = mock(JCSMPSession.class);
+    when(mockFactory.createSessionsAsync(2))
+        .thenReturn(CompletableFuture.completedFuture(List.of(first, second)));
+    settings = new SolaceJavaProperties.Warmup();
+    settings.setSessions(2);
+  }
+
+  @Test
+  void shouldWarmUpProducersOfPooledSessions() throws JCSMPException {
+    settings.setProducers(true);
+    when(pool.addIdleSession(any())).thenReturn(true);
+    SolaceSessionWarmup warmup = new SolaceSessionWarmup(mockFactory, settings, pool, null);
+
+    warmup.start();
+
+    assertTrue(warmup.isRunning());
+    verify(first, times(1)).getMessageProducer(any(JCSMPStreamingPublishCorrelatingEventHandler.class));
+    verify(first, never()).addSubscription(any(Topic.class), anyBoolean());
+    verify(pool, times(1)).addIdleSession(first);
+    verify(pool, times(1)).addIdleSession(second);
+
+    warmup.stop();
+    verify(first, never()).closeSession();
+  }
+
+  @Test
+  void shouldCloseSessionsRejectedByPool() {
+    when(pool.addIdleSession(first)).thenReturn(true);
+    when(pool.addIdleSession(second)).thenReturn(false);
+    SolaceSessionWarmup warmup = new SolaceSessionWarmup(mockFactory, settings, pool, null);
+
+    warmup.start();
+
+    verify(first, never()).closeSession();
+    verify(second, times(1)).closeSession();
+  }
+
+  @Test
+  void shouldRequirePoolToWarmUpSessions() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new SolaceSessionWarmup(mockFactory, settings, null, null));
+    settings.setSessions(0);
+    new SolaceSessionWarmup(mockFactory, settings, null, null).start();
+  }
+
+  @Test
+  void shouldContinueStartupWhenWarmupFails() {
+    when(mockFactory.createSessionsAsync(2))
+        .thenReturn(CompletableFuture.failedFuture(new JCSMPException("Test exception")));
+    SolaceSessionWarmup warmup = new SolaceSessionWarmup(mockFactory, settings, pool, null);
+
+    warmup.start();
+
+    assertTrue(warmup.isRunning());
+    verify(pool, never()).addIdleSession(any());
+  }
+}
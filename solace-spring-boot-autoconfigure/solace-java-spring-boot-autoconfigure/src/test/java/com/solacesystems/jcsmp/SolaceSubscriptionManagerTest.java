@@ -0,0 +1,71 @@
+package com.solacesystems.jcsmp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import com.solace.spring.boot.autoconfigure.SolaceJavaProperties;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+public class SolaceSubscriptionManagerTest {
+
+  @Test
+  void shouldOnlyWaitForTheLastSubscription() throws JCSMPException {
+    JCSMPSession session = mock(JCSMPSession.class);
+    List<Topic> topics = SolaceSubscriptionManager.createTopics(List.of("a/1", "a/2", "a/3"));
+
+    SolaceSubscriptionManager.addSubscriptions(session, topics);
+
+    InOrder inOrder = inOrder(session);
+    inOrder.verify(session).addSubscription(topics.get(0), false);
+    inOrder.verify(session).addSubscription(topics.get(1), false);
+    inOrder.verify(session).addSubscription(topics.get(2), true);
+  }
+
+  @Test
+  void shouldAddConfiguredQueueSubscriptionsAtStartup() throws JCSMPException {
+    SpringJCSMPFactory mockFactory = mock(SpringJCSMPFactory.class);
+    JCSMPSession session = mock(JCSMPSession.class);
+    when(mockFactory.createSession()).thenReturn(session);
+    SolaceJavaProperties.Subscriptions settings = new SolaceJavaProperties.Subscriptions();
+    settings.getTopics().add("direct/>");
+    settings.getQueues().put("orders", List.of("orders/created", "orders/updated"));
+    SolaceSubscriptionManager manager = new SolaceSubscriptionManager(mockFactory, settings);
+
+    manager.start();
+
+    Queue queue = JCSMPFactory.onlyInstance().createQueue("orders");
+    verify(session, times(1)).connect();
+    verify(session, times(1)).addSubscription(eq(queue),
+        eq(JCSMPFactory.onlyInstance().createTopic("orders/created")),
+        eq(JCSMPSession.FLAG_IGNORE_ALREADY_EXISTS));
+    verify(session, times(1)).addSubscription(eq(queue),
+        eq(JCSMPFactory.onlyInstance().createTopic("orders/updated")),
+        eq(JCSMPSession.FLAG_IGNORE_ALREADY_EXISTS | JCSMPSession.WAIT_FOR_CONFIRM));
+    verify(session, never()).addSubscription(any(Subscription.class), anyBoolean());
+    verify(session, times(1)).closeSession();
+    assertEquals(1, manager.getTopics().size());
+  }
+
+  @Test
+  void shouldConnectRegistryHoldingSessionSubscriptionsAtStartup() throws JCSMPException {
+    SpringJCSMPFactory mockFactory = mock(SpringJCSMPFactory.class);
+    SolaceSubscriptionRegistry registry = mock(SolaceSubscriptionRegistry.class);
+    SolaceJavaProperties.Subscriptions settings = new SolaceJavaProperties.Subscriptions();
+    new SolaceSubscriptionManager(mockFactory, settings, registry).start();
+    verify(registry, never()).connect();
+
+    settings.getTopics().add("direct/>");
+    new SolaceSubscriptionManager(mockFactory, settings, registry).start();
+    verify(registry, times(1)).connect();
+    verify(mockFactory, never()).createSession();
+  }
+}
@@ -0,0 +1,129 @@
+package com.solacesystems.jcsmp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+public class SolaceSubscriptionRegistryTest {
+
+  private final Topic orders = JCSMPFactory.onlyInstance().createTopic("orders/>");
+  private SpringJCSMPFactory mockFactory;
+  private JCSMPSession mockSession;
+  private XMLMessageListener dispatcher;
+  private SolaceSubscriptionRegistry registry;
+
+  @BeforeEach
+  void setUp() throws JCSMPException {
+    mockFactory = mock(SpringJCSMPFactory.class);
+    mockSession = mock(JCSMPSession.class);
+    when(mockFactory.createSession(isNull(), isNull(), any())).thenReturn(mockSession);
+    when(mockSession.getMessageConsumer(any(XMLMessageListener.class))).thenAnswer(invocation -> {
+      dispatcher = invocation.getArgument(0);
+      return mock(XMLMessageConsumer.class);
+    });
+    registry = new SolaceSubscriptionRegistry(mockFactory);
+  }
+
+  @AfterEach
+  void tearDown() {
+    registry.close();
+  }
+
+  @Test
+  void shouldShareReferenceCountedSubscriptions() throws JCSMPException {
+    XMLMessageListener first = mock(XMLMessageListener.class);
+    XMLMessageListener second = mock(XMLMessageListener.class);
+
+    SolaceSubscriptionRegistry.Registration firstRegistration = registry.register("orders/>", first);
+    SolaceSubscriptionRegistry.Registration secondRegistration =
+        registry.register("orders/>", second);
+
+    verify(mockFactory, times(1)).createSession(isNull(), isNull(), any());
+    verify(mockSession, times(1)).addSubscription(eq(orders), eq(true));
+    assertEquals(1, registry.getSubscriptionCount());
+    assertEquals(2, registry.getRegistrationCount());
+
+    firstRegistration.close();
+    firstRegistration.close();
+    verify(mockSession, never()).removeSubscription(any(Subscription.class), anyBoolean());
+
+    secondRegistration.close();
+    verify(mockSession, times(1)).removeSubscription(eq(orders), eq(true));
+    assertEquals(0, registry.getSubscriptionCount());
+    assertEquals(0, registry.getRegistrationCount());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldReapplySubscriptionsWhenSessionReconnects() throws JCSMPException {
+    registry.register("orders/>", mock(XMLMessageListener.class));
+
+    ArgumentCaptor<Consumer<JCSMPProperties>> overrides = ArgumentCaptor.forClass(Consumer.class);
+    verify(mockFactory).createSession(isNull(), isNull(), overrides.capture());
+    JCSMPProperties properties = new JCSMPProperties();
+    overrides.getValue().accept(properties);
+    assertTrue(properties.getBooleanProperty(JCSMPProperties.REAPPLY_SUBSCRIPTIONS));
+  }
+
+  @Test
+  void shouldKeepHeldSubscriptionsWithoutHandlers() throws JCSMPException {
+    SolaceSubscriptionRegistry holding =
+        new SolaceSubscriptionRegistry(mockFactory, List.of("orders/>"));
+    try {
+      holding.connect();
+      verify(mockSession, times(1)).addSubscription(eq(orders), eq(true));
+      assertEquals(1, holding.getSubscriptionCount());
+
+      holding.register("orders/>", mock(XMLMessageListener.class)).close();
+      verify(mockSession, times(1)).addSubscription(any(Subscription.class), anyBoolean());
+      verify(mockSession, never()).removeSubscription(any(Subscription.class), anyBoolean());
+      assertEquals(1, holding.getSubscriptionCount());
+    } finally {
+      holding.close();
+    }
+  }
+
+  @Test
+  void shouldDemultiplexMessagesToMatchingHandlers() throws JCSMPException {
+    XMLMessageListener orderHandler = mock(XMLMessageListener.class);
+    XMLMessageListener priceHandler = mock(XMLMessageListener.class);
+    registry.register("orders/>", orderHandler);
+    registry.register("prices/*", priceHandler);
+    BytesXMLMessage message = mock(BytesXMLMessage.class);
+    when(message.getDestination())
+        .thenReturn(JCSMPFactory.onlyInstance().createTopic("orders/created"));
+
+    dispatcher.onReceive(message);
+
+    verify(orderHandler, times(1)).onReceive(message);
+    verify(priceHandler, never()).onReceive(message);
+  }
+
+  @Test
+  void shouldNotRouteSubscriptionsWhichFailToBeAdded() throws JCSMPException {
+    XMLMessageListener handler = mock(XMLMessageListener.class);
+    registry.register("prices/*", handler);
+    doThrow(new JCSMPException("rejected")).when(mockSession)
+        .addSubscription(eq(orders), eq(true));
+
+    assertThrows(JCSMPException.class, () -> registry.register("orders/>", handler));
+    assertEquals(1, registry.getSubscriptionCount());
+    assertEquals(1, registry.getRegistrationCount());
+  }
+}
@@ -0,0 +1,104 @@
+package com.solacesystems.jcsmp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+public class SolaceTemplateTest {
+
+  private SpringJCSMPFactory mockFactory;
+  private JCSMPSession mockSession;
+  private XMLMessageProducer mockProducer;
+  private SolaceTemplate template;
+
+  @BeforeEach
+  void setUp() throws JCSMPException {
+    mockFactory = mock(SpringJCSMPFactory.class);
+    mockSession = mock(JCSMPSession.class);
+    mockProducer = mock(XMLMessageProducer.class);
+    when(mockFactory.createSession()).thenReturn(mockSession);
+    when(mockSession.getMessageProducer(any(JCSMPStreamingPublishCorrelatingEventHandler.class)))
+        .thenReturn(mockProducer);
+    template = new SolaceTemplate(mockFactory, null, new SimpleSolaceMessageConverter());
+  }
+
+  @AfterEach
+  void tearDown() {
+    template.close();
+  }
+
+  @Test
+  void shouldReuseSessionProducerAndDestinations() throws JCSMPException {
+    template.convertAndSend("test/topic", "first");
+    template.convertAndSend("test/topic", "second");
+
+    verify(mockFactory, times(1)).createSession();
+    verify(mockSession, times(1)).connect();
+    verify(mockProducer, times(2))
+        .send(any(XMLMessage.class), eq(template.getTopic("test/topic")));
+    assertSame(template.getTopic("test/topic"), template.getTopic("test/topic"));
+    assertSame(template.getQueue("test-queue"), template.getQueue("test-queue"));
+  }
+
+  @Test
+  void shouldRecordAckLatencyOfGuaranteedSends() throws JCSMPException {
+    SolacePublishCorrelator correlator = new SolacePublishCorrelator(4, 10);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    new SolacePublishCorrelatorMetrics(correlator).bindTo(registry);
+    SolaceTemplate correlatedTemplate =
+        new SolaceTemplate(mockFactory, correlator, new SimpleSolaceMessageConverter());
+    ArgumentCaptor<XMLMessage> sent = ArgumentCaptor.forClass(XMLMessage.class);
+
+    try {
+      correlatedTemplate.convertAndSend("test/topic", "persistent");
+      verify(mockProducer).send(sent.capture(), eq(correlatedTemplate.getTopic("test/topic")));
+      correlator.responseReceivedEx(sent.getValue().getCorrelationKey());
+    } finally {
+      correlatedTemplate.close();
+    }
+
+    assertEquals(1, registry.get("solace.publish.ack.latency")
+        .tag("destination.class", "topic").timer().count());
+    assertEquals(0, correlator.getInFlightCount());
+  }
+
+  @Test
+  void shouldRecreateSessionWhenProducerIsClosed() throws JCSMPException {
+    template.sendAndForget("test/topic", "first");
+    when(mockProducer.isClosed()).thenReturn(true);
+    XMLMessageProducer newProducer = mock(XMLMessageProducer.class);
+    when(mockSession.getMessageProducer(any(JCSMPStreamingPublishCorrelatingEventHandler.class)))
+        .thenReturn(newProducer);
+
+    template.sendAndForget("test/topic", "second");
+
+    verify(mockSession, times(1)).closeSession();
+    verify(newProducer, times(1)).send(any(XMLMessage.class), any(Destination.class));
+  }
+
+  @Test
+  void shouldConvertPayloadsWithDeliveryMode() throws JCSMPException {
+    ArgumentCaptor<XMLMessage> captor = ArgumentCaptor.forClass(XMLMessage.class);
+
+    template.convertAndSend("test/topic", "text");
+    template.sendAndForget("test/topic", new byte[] {1, 2});
+
+    verify(mockProducer, times(2)).send(captor.capture(), any(Destination.class));
+    TextMessage text = assertInstanceOf(TextMessage.class, captor.getAllValues().get(0));
+    assertEquals("text", text.getText());
+    assertEquals(DeliveryMode.PERSISTENT, text.getDeliveryMode());
+    BytesMessage bytes = assertInstanceOf(BytesMessage.class, captor.getAllValues().get(1));
+    assertEquals(DeliveryMode.DIRECT, bytes.getDeliveryMode());
+  }
+}
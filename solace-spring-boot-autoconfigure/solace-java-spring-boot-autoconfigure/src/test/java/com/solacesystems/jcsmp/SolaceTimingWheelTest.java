@@ -0,0 +1,57 @@
+package com.solacesystems.jcsmp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class SolaceTimingWheelTest {
+
+  @Test
+  void shouldExpireConcurrentlyScheduledTimeoutsWithinOneRotation() throws Exception {
+    //a rotation takes 10 ms x 512 buckets, timeouts placed in a passed bucket would wait for it
+    SolaceTimingWheel wheel = new SolaceTimingWheel("test-wheel", 10, 512);
+    int threadCount = 4;
+    int timeoutsPerThread = 2000;
+    CountDownLatch expired = new CountDownLatch(threadCount * timeoutsPerThread);
+    List<Thread> schedulers = new ArrayList<>();
+    try {
+      for (int i = 0; i < threadCount; i++) {
+        Thread scheduler = new Thread(() -> {
+          for (int j = 0; j < timeoutsPerThread; j++) {
+            wheel.schedule(expired::countDown, ThreadLocalRandom.current().nextInt(20));
+          }
+        });
+        scheduler.start();
+        schedulers.add(scheduler);
+      }
+      for (Thread scheduler : schedulers) {
+        scheduler.join();
+      }
+      assertTrue(expired.await(2, TimeUnit.SECONDS),
+          expired.getCount() + " timeouts did not expire in time");
+    } finally {
+      wheel.close();
+    }
+  }
+
+  @Test
+  void shouldNotRunCancelledTimeouts() throws InterruptedException {
+    SolaceTimingWheel wheel = new SolaceTimingWheel("test-wheel", 1, 8);
+    AtomicInteger runs = new AtomicInteger();
+    CountDownLatch expired = new CountDownLatch(1);
+    try {
+      assertTrue(wheel.schedule(runs::incrementAndGet, 10).cancel());
+      wheel.schedule(expired::countDown, 20);
+      assertTrue(expired.await(5, TimeUnit.SECONDS));
+      assertEquals(0, runs.get());
+    } finally {
+      wheel.close();
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package com.solacesystems.jcsmp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares routing a message through the {@link SolaceTopicDispatcher} with matching its topic
+ * against every subscription in turn. Not run as part of the build; run {@link #main(String[])}
+ * from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolaceTopicDispatcherBenchmark {
+
+  @Param({"100", "5000"})
+  int subscriptionCount;
+
+  private final SolaceTopicDispatcher dispatcher = new SolaceTopicDispatcher();
+  private final List<String[]> naiveSubscriptions = new ArrayList<>();
+  private String[] topics;
+  private int next;
+  private BytesXMLMessage message;
+
+  @Setup
+  public void setUp() {
+    final XMLMessageListener handler = new XMLMessageListener() {
+      @Override
+      public void onReceive(BytesXMLMessage message) {
+      }
+
+      @Override
+      public void onException(JCSMPException exception) {
+      }
+    };
+    for (int i = 0; i < subscriptionCount; i++) {
+      final String subscription;
+      switch (i % 4) {
+        case 0:
+          subscription = "prices/" + i + "/*/quote";
+          break;
+        case 1:
+          subscription = "orders/region" + i + "/>";
+          break;
+        case 2:
+          subscription = "news/" + i + "/sym*";
+          break;
+        default:
+          subscription = "trades/" + i + "/eu/fill";
+          break;
+      }
+      dispatcher.subscribe(subscription, handler);
+      naiveSubscriptions.add(subscription.split("/"));
+    }
+    topics = new String[1024];
+    for (int i = 0; i < topics.length; i++) {
+      final int id = (i * 7919) % subscriptionCount;
+      topics[i] = "prices/" + id + "/nyse/quote";
+    }
+    message = JCSMPFactory.onlyInstance().createMessage(BytesMessage.class);
+  }
+
+  @Benchmark
+  public int trie() {
+    return dispatcher.dispatch(topics[next++ & 1023], message);
+  }
+
+  @Benchmark
+  public void naive(Blackhole blackhole) {
+    final String[] levels = topics[next++ & 1023].split("/");
+    for (String[] subscription : naiveSubscriptions) {
+      if (matches(subscription, levels)) {
+        blackhole.consume(subscription);
+      }
+    }
+  }
+
+  private static boolean matches(String[] subscription, String[] levels) {
+    for (int i = 0; i < subscription.length; i++) {
+      final String level = subscription[i];
+      if (level.equals(">") && i == subscription.length - 1) {
+        return levels.length > i;
+      }
+      if (i >= levels.length) {
+        return false;
+      }
+      if (level.endsWith("*")) {
+        if (!levels[i].startsWith(level.substring(0, level.length() - 1))) {
+          return false;
+        }
+      } else if (!level.equals(levels[i])) {
+        return false;
+      }
+    }
+    return subscription.length == levels.length;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(SolaceTopicDispatcherBenchmark.class.getSimpleName())
+        .build()).run();
+  }
+}
@@ -0,0 +1,87 @@
+package com.solacesystems.jcsmp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.junit.jupiter.api.Test;
+
+public class SolaceTopicDispatcherTest {
+
+  private final SolaceTopicDispatcher dispatcher = new SolaceTopicDispatcher();
+
+  @Test
+  void shouldMatchSolaceWildcards() {
+    dispatcher.subscribe("a/b/c", mock(XMLMessageListener.class));
+    dispatcher.subscribe("a/*/c", mock(XMLMessageListener.class));
+    dispatcher.subscribe("a/>", mock(XMLMessageListener.class));
+    dispatcher.subscribe("a/pre*/c", mock(XMLMessageListener.class));
+    dispatcher.subscribe(">", mock(XMLMessageListener.class));
+
+    assertEquals(4, dispatcher.matchCount("a/b/c"));
+    assertEquals(4, dispatcher.matchCount("a/prefix/c"));
+    assertEquals(4, dispatcher.matchCount("a/pre/c"));
+    assertEquals(2, dispatcher.matchCount("a/b"));
+    assertEquals(2, dispatcher.matchCount("a/b/c/d"));
+    //'>' requires at least one more level
+    assertEquals(1, dispatcher.matchCount("a"));
+    assertEquals(1, dispatcher.matchCount("b/c"));
+    assertEquals(5, dispatcher.getSubscriptionCount());
+  }
+
+  @Test
+  void shouldDeliverOnceToHandlersWithOverlappingSubscriptions() {
+    XMLMessageListener handler = mock(XMLMessageListener.class);
+    XMLMessageListener other = mock(XMLMessageListener.class);
+    BytesXMLMessage message = mock(BytesXMLMessage.class);
+    dispatcher.subscribe("orders/>", handler);
+    dispatcher.subscribe("orders/*/created", handler);
+    dispatcher.subscribe("orders/eu/created", other);
+    assertFalse(dispatcher.subscribe("orders/>", handler));
+
+    assertEquals(2, dispatcher.dispatch("orders/eu/created", message));
+    assertEquals(0, dispatcher.dispatch("prices/eu", message));
+
+    verify(handler, times(1)).onReceive(message);
+    verify(other, times(1)).onReceive(message);
+  }
+
+  @Test
+  void shouldStopDeliveringAfterUnsubscribe() {
+    XMLMessageListener handler = mock(XMLMessageListener.class);
+    BytesXMLMessage message = mock(BytesXMLMessage.class);
+    dispatcher.subscribe("orders/*", handler);
+
+    assertTrue(dispatcher.unsubscribe("orders/*", handler));
+    assertFalse(dispatcher.unsubscribe("orders/*", handler));
+    assertFalse(dispatcher.unsubscribe("prices/*", handler));
+
+    assertEquals(0, dispatcher.dispatch("orders/created", message));
+    verify(handler, never()).onReceive(message);
+    assertEquals(0, dispatcher.getSubscriptionCount());
+  }
+
+  @Test
+  void shouldIsolateFailingHandlers() {
+    XMLMessageListener failing = mock(XMLMessageListener.class);
+    XMLMessageListener handler = mock(XMLMessageListener.class);
+    BytesXMLMessage message = mock(BytesXMLMessage.class);
+    doThrow(new IllegalStateException("failed")).when(failing).onReceive(message);
+    dispatcher.subscribe("orders/>", failing);
+    dispatcher.subscribe("orders/>", handler);
+
+    assertEquals(2, dispatcher.dispatch("orders/created", message));
+    verify(handler, times(1)).onReceive(message);
+  }
+
+  @Test
+  void shouldRejectEmptySubscriptions() {
+    assertThrows(IllegalArgumentException.class,
+        () -> dispatcher.subscribe("", mock(XMLMessageListener.class)));
+  }
+}
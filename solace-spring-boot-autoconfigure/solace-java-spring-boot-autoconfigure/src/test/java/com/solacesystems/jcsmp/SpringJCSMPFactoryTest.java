@@ -0,0 +1,150 @@
+package com.solacesystems.jcsmp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SpringJCSMPFactoryTest {
+
+  private SpringJCSMPFactory factory;
+
+  @BeforeEach
+  void setUp() {
+    factory = spy(new SpringJCSMPFactory(new JCSMPProperties(), null));
+  }
+
+  @Test
+  void shouldCreateAndConnectSessionAsynchronously() throws JCSMPException {
+    JCSMPSession session = mock(JCSMPSession.class);
+    doReturn(session).when(factory).createSession(null, null);
+
+    assertSame(session, factory.createSessionAsync().join());
+    verify(session, times(1)).connect();
+  }
+
+  @Test
+  void shouldCloseSessionWhenAsynchronousConnectFails() throws JCSMPException {
+    JCSMPSession session = mock(JCSMPSession.class);
+    doThrow(new JCSMPException("Test exception")).when(session).connect();
+    doReturn(session).when(factory).createSession(null, null);
+
+    CompletionException e = assertThrows(CompletionException.class,
+        () -> factory.createSessionAsync().join());
+    assertInstanceOf(JCSMPException.class, e.getCause());
+    verify(session, times(1)).closeSession();
+  }
+
+  @Test
+  void shouldCreateSessionsConcurrently() throws JCSMPException {
+    doReturn(mock(JCSMPSession.class), mock(JCSMPSession.class), mock(JCSMPSession.class))
+        .when(factory).createSession(null, null);
+
+    List<JCSMPSession> sessions = factory.createSessionsAsync(3).join();
+
+    assertEquals(3, sessions.size());
+    for (JCSMPSession session : sessions) {
+      verify(session, times(1)).connect();
+    }
+  }
+
+  @Test
+  void shouldCloseConnectedSessionsWhenBulkCreationFails() throws JCSMPException {
+    JCSMPSession connected = mock(JCSMPSession.class);
+    JCSMPSession failing = mock(JCSMPSession.class);
+    doThrow(new JCSMPException("Test exception")).when(failing).connect();
+    doReturn(connected, failing).when(factory).createSession(null, null);
+
+    assertThrows(CompletionException.class, () -> factory.createSessionsAsync(2).join());
+    verify(connected, times(1)).closeSession();
+    verify(failing, times(1)).closeSession();
+  }
+
+  @Test
+  void shouldApplyOverridesToCopyOfProperties() throws JCSMPException {
+    JCSMPProperties properties = new JCSMPProperties();
+    properties.setProperty(JCSMPProperties.HOST, "localhost");
+    properties.setProperty(JCSMPProperties.CLIENT_NAME, "base-client");
+    SpringJCSMPFactory realFactory = new SpringJCSMPFactory(properties, null);
+
+    JCSMPSession session = realFactory.createSession(null, null,
+        p -> p.setProperty(JCSMPProperties.CLIENT_NAME, "override-client"));
+
+    assertEquals("override-client", session.getProperty(JCSMPProperties.CLIENT_NAME));
+    assertEquals("base-client",
+        realFactory.createSession().getProperty(JCSMPProperties.CLIENT_NAME));
+  }
+
+  @Test
+  void shouldRejectUnknownSessionProfile() {
+    assertThrows(IllegalArgumentException.class, () -> factory.createProfileSession("unknown"));
+  }
+
+  @Test
+  void shouldCreateOAuth2SessionsConcurrentlyWithoutSharingTokens() throws Exception {
+    final int threads = 16;
+    final int sessionsPerThread = 50;
+    final AtomicInteger tokenCount = new AtomicInteger();
+    final ThreadLocal<String> issuedToken = new ThreadLocal<>();
+    final SolaceSessionOAuth2TokenProvider tokenProvider = () -> {
+      final String token = "token-" + tokenCount.incrementAndGet();
+      issuedToken.set(token);
+      return token;
+    };
+
+    final JCSMPProperties properties = new JCSMPProperties();
+    properties.setProperty(JCSMPProperties.HOST, "localhost");
+    properties.setProperty(JCSMPProperties.AUTHENTICATION_SCHEME,
+        JCSMPProperties.AUTHENTICATION_SCHEME_OAUTH2);
+    final SpringJCSMPFactory oauth2Factory = new SpringJCSMPFactory(properties, tokenProvider);
+
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    final CountDownLatch startLatch = new CountDownLatch(1);
+    final List<Future<Integer>> mismatches = new ArrayList<>();
+    try {
+      for (int i = 0; i < threads; i++) {
+        mismatches.add(executor.submit(() -> {
+          startLatch.await();
+          int mismatchCount = 0;
+          for (int j = 0; j < sessionsPerThread; j++) {
+            final JCSMPSession session = oauth2Factory.createSession();
+            final Object sessionToken = session.getProperty(JCSMPProperties.OAUTH2_ACCESS_TOKEN);
+            if (!issuedToken.get().equals(sessionToken)) {
+              mismatchCount++;
+            }
+            session.closeSession();
+          }
+          return mismatchCount;
+        }));
+      }
+      startLatch.countDown();
+
+      for (Future<Integer> mismatch : mismatches) {
+        assertEquals(0, mismatch.get(1, TimeUnit.MINUTES));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(threads * sessionsPerThread, tokenCount.get());
+    assertNull(oauth2Factory.jcsmpProperties.getProperty(JCSMPProperties.OAUTH2_ACCESS_TOKEN));
+  }
+}
@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.solace.spring.boot.autoconfigure;
+
+import jakarta.jms.Destination;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageListener;
+import jakarta.jms.Topic;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link MessageListener} which hands messages to a delegate listener on one of a fixed number of
+ * single-threaded lanes, chosen by a key of the message. Messages with the same key, by default
+ * the same {@code JMSXGroupID}, are processed in the order in which they were received, even when
+ * they are received by different consumers of a listener container with a concurrency above one,
+ * while messages with different keys are processed in parallel.
+ * <p>
+ * {@link #onMessage(Message)} blocks the consumer thread until the delegate processed the message
+ * and rethrows its failure, so that the listener container only acknowledges or commits the message
+ * once it was processed, and redelivers it if processing failed. The parallelism is therefore that
+ * of the consumers of the listener container. Each lane has a bounded queue; when it is full,
+ * {@link #onMessage(Message)} waits for the lane to catch up.
+ * </p>
+ */
+public class SolaceOrderedMessageListener implements MessageListener, AutoCloseable {
+
+  private static final AtomicInteger instanceCount = new AtomicInteger();
+
+  private final MessageListener delegate;
+  private final KeyExtractor keyExtractor;
+  private final ThreadPoolExecutor[] lanes;
+  private final AtomicInteger nextLane = new AtomicInteger();
+
+  /**
+   * Constructs a new SolaceOrderedMessageListener.
+   *
+   * @param delegate     the listener processing the messages
+   * @param keyExtractor extracts the key whose messages are processed in order
+   * @param laneCount    the number of lanes
+   * @param laneCapacity the number of messages which can wait on each lane
+   */
+  public SolaceOrderedMessageListener(MessageListener delegate, KeyExtractor keyExtractor,
+      int laneCount, int laneCapacity) {
+    this.delegate = Objects.requireNonNull(delegate);
+    this.keyExtractor = Objects.requireNonNull(keyExtractor);
+    if (laneCount < 1) {
+      throw new IllegalArgumentException("Lane count must be at least 1");
+    }
+    if (laneCapacity < 1) {
+      throw new IllegalArgumentException("Lane capacity must be at least 1");
+    }
+    this.lanes = new ThreadPoolExecutor[laneCount];
+    final int instance = instanceCount.getAndIncrement();
+    for (int i = 0; i < laneCount; i++) {
+      final String threadName = "solace-jms-lane-" + instance + "-" + i;
+      lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+          new ArrayBlockingQueue<>(laneCapacity), r -> {
+            final Thread thread = new Thread(r, threadName);
+            thread.setDaemon(true);
+            return thread;
+          }, SolaceOrderedMessageListener::waitForLane);
+    }
+  }
+
+  private static void waitForLane(Runnable task, ThreadPoolExecutor lane) {
+    if (lane.isShutdown()) {
+      throw new RejectedExecutionException("SolaceOrderedMessageListener is closed");
+    }
+    try {
+      lane.getQueue().put(task);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RejectedExecutionException("Interrupted while waiting for space on a lane", e);
+    }
+  }
+
+  /**
+   * Processes the message on the lane of its key, waiting for the delegate to process it.
+   *
+   * @param message the received message
+   * @throws RuntimeException the failure of the delegate, or a {@link RejectedExecutionException}
+   *                          if this listener is closed
+   */
+  @Override
+  public void onMessage(Message message) {
+    final Future<?> processed = lanes[laneFor(keyExtractor.extractKey(message))]
+        .submit(() -> delegate.onMessage(message));
+    try {
+      processed.get();
+    } catch (ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IllegalStateException("Listener failed to process message on an ordered lane",
+          cause);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for an ordered lane", e);
+    }
+  }
+
+  /**
+   * Returns the lane messages with the given key are processed on.
+   *
+   * @param key the ordering key, or {@code null} for the next lane in round-robin order
+   * @return the lane index
+   */
+  int laneFor(Object key) {
+    if (key == null) {
+      return Math.floorMod(nextLane.getAndIncrement(), lanes.length);
+    }
+    final int hash = key.hashCode();
+    return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+  }
+
+  /**
+   * Returns the number of lanes.
+   * @return the lane count
+   */
+  public int getLaneCount() {
+    return lanes.length;
+  }
+
+  /**
+   * Returns the number of messages waiting on a lane, which can be published as a gauge to spot
+   * hot keys.
+   * @param lane the lane index
+   * @return the lane depth
+   */
+  public int getLaneDepth(int lane) {
+    return lanes[lane].getQueue().size();
+  }
+
+  /**
+   * Returns the number of messages processed by a lane.
+   * @param lane the lane index
+   * @return the completed message count
+   */
+  public long getLaneCompletedCount(int lane) {
+    return lanes[lane].getCompletedTaskCount();
+  }
+
+  /**
+   * Stops accepting messages and waits for the queued messages to be processed.
+   */
+  @Override
+  public void close() {
+    for (ThreadPoolExecutor lane : lanes) {
+      lane.shutdown();
+    }
+    try {
+      for (ThreadPoolExecutor lane : lanes) {
+        lane.awaitTermination(30, TimeUnit.SECONDS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Extracts the key whose messages are processed in order.
+   */
+  @FunctionalInterface
+  public interface KeyExtractor {
+
+    /**
+     * Returns the ordering key of a message.
+     *
+     * @param message the received message
+     * @return the key, or {@code null} if the message does not need to be ordered
+     */
+    Object extractKey(Message message);
+
+    /**
+     * Returns a key extractor using the {@code JMSXGroupID} of the message, which is also the
+     * partition key of messages consumed from partitioned queues.
+     *
+     * @return the key extractor
+     */
+    static KeyExtractor groupId() {
+      return property("JMSXGroupID");
+    }
+
+    /**
+     * Returns a key extractor using a property of the message.
+     *
+     * @param name the name of the property
+     * @return the key extractor
+     */
+    static KeyExtractor property(String name) {
+      Objects.requireNonNull(name);
+      return message -> {
+        try {
+          return message.getObjectProperty(name);
+        } catch (JMSException e) {
+          return null;
+        }
+      };
+    }
+
+    /**
+     * Returns a key extractor using a level of the destination topic.
+     *
+     * @param level the zero-based topic level
+     * @return the key extractor
+     */
+    static KeyExtractor topicLevel(int level) {
+      if (level < 0) {
+        throw new IllegalArgumentException("Topic level must not be negative");
+      }
+      return message -> {
+        try {
+          final Destination destination = message.getJMSDestination();
+          if (!(destination instanceof Topic)) {
+            return null;
+          }
+          final String[] levels = ((Topic) destination).getTopicName().split("/");
+          return level < levels.length ? levels[level] : null;
+        } catch (JMSException e) {
+          return null;
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.solace.spring.boot.autoconfigure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.Test;
+
+class SolaceOrderedMessageListenerTest {
+
+  @Test
+  void preservesOrderPerGroupId() throws JMSException {
+    Map<String, List<Integer>> processed = new ConcurrentHashMap<>();
+    SolaceOrderedMessageListener listener = new SolaceOrderedMessageListener(message -> {
+      try {
+        processed.computeIfAbsent(message.getStringProperty("JMSXGroupID"),
+            key -> Collections.synchronizedList(new ArrayList<>()))
+            .add(message.getIntProperty("sequence"));
+      } catch (JMSException e) {
+        throw new IllegalStateException(e);
+      }
+    }, SolaceOrderedMessageListener.KeyExtractor.groupId(), 4, 10);
+
+    for (int i = 0; i < 50; i++) {
+      for (int group = 0; group < 6; group++) {
+        Message message = mock(Message.class);
+        when(message.getObjectProperty("JMSXGroupID")).thenReturn("group-" + group);
+        when(message.getStringProperty("JMSXGroupID")).thenReturn("group-" + group);
+        when(message.getIntProperty("sequence")).thenReturn(i);
+        listener.onMessage(message);
+      }
+    }
+    listener.close();
+
+    assertEquals(6, processed.size());
+    for (List<Integer> sequences : processed.values()) {
+      assertEquals(50, sequences.size());
+      for (int i = 0; i < 50; i++) {
+        assertEquals(i, sequences.get(i));
+      }
+    }
+    long completed = 0;
+    for (int lane = 0; lane < listener.getLaneCount(); lane++) {
+      assertEquals(0, listener.getLaneDepth(lane));
+      completed += listener.getLaneCompletedCount(lane);
+    }
+    assertEquals(300, completed);
+  }
+
+  @Test
+  void rethrowsFailureOfDelegateToContainer() {
+    IllegalStateException failure = new IllegalStateException("Test exception");
+    SolaceOrderedMessageListener listener = new SolaceOrderedMessageListener(message -> {
+      throw failure;
+    }, SolaceOrderedMessageListener.KeyExtractor.groupId(), 2, 10);
+
+    try {
+      assertSame(failure, assertThrows(IllegalStateException.class,
+          () -> listener.onMessage(mock(Message.class))));
+    } finally {
+      listener.close();
+    }
+  }
+}